@@ -1,15 +1,27 @@
 package com.dynxsty.dih4jda;
 
+import com.dynxsty.dih4jda.analytics.CommandAnalytics;
 import com.dynxsty.dih4jda.config.DIH4JDAConfig;
 import com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter;
+import com.dynxsty.dih4jda.execution.FairScheduler;
+import com.dynxsty.dih4jda.interactions.commands.ContextCommand;
 import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.state.ComponentStateStore;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.SelectMenuInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The entry-point of this Handler.
@@ -28,6 +40,7 @@ public class DIH4JDA extends ListenerAdapter {
 
 	public static RegistrationType defaultCommandType;
 	private final DIH4JDAConfig config;
+	private final DIH4JDALogger logger;
 	private final Set<DIH4JDAListenerAdapter> listeners;
 	private InteractionHandler handler;
 
@@ -39,14 +52,15 @@ public class DIH4JDA extends ListenerAdapter {
 	protected DIH4JDA(DIH4JDAConfig config) {
 		if (defaultCommandType == null) defaultCommandType = RegistrationType.GUILD;
 		this.config = config;
+		this.logger = new DIH4JDALogger(config.getBlockedLogTypes());
 		listeners = new HashSet<>();
 		try {
-			DIH4JDALogger.blockedLogTypes = config.getBlockedLogTypes();
 			this.handler = new InteractionHandler(this);
 			config.getJDA().addEventListener(this, handler);
+			if (handler.getMemberCache() != null) config.getJDA().addEventListener(handler.getMemberCache());
 		} catch (ReflectiveOperationException e) {
 			e.printStackTrace();
-			DIH4JDALogger.warn("Could not initialize Interaction Handler: " + e.getMessage());
+			logger.warn(DIH4JDALogger.Type.WARN, "Could not initialize Interaction Handler: %s", e.getMessage());
 		}
 	}
 
@@ -57,14 +71,14 @@ public class DIH4JDA extends ListenerAdapter {
 	 */
 	@Override
 	public void onReady(@NotNull ReadyEvent event) {
-		if (config.getCommandsPackage() == null) return;
+		if (config.getCommandsPackage() == null && config.getCommandRegistry() == null) return;
 		try {
 			if (config.isRegisterOnReady() && handler != null) {
 				handler.registerInteractions();
 			}
 		} catch (ReflectiveOperationException e) {
 			e.printStackTrace();
-			DIH4JDALogger.error("Could not register commands: " + e.getMessage());
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not register commands: %s", e.getMessage());
 		}
 	}
 
@@ -78,6 +92,203 @@ public class DIH4JDA extends ListenerAdapter {
 		}
 	}
 
+	/**
+	 * Registers a single {@link SlashCommand} at runtime, without re-registering all other interactions.
+	 *
+	 * @param command The {@link SlashCommand} to register.
+	 * @see InteractionHandler#registerCommand(SlashCommand)
+	 * @since v1.6
+	 */
+	public void registerCommand(@NotNull SlashCommand command) {
+		if (handler != null) {
+			handler.registerCommand(command);
+		}
+	}
+
+	/**
+	 * Registers a single {@link ContextCommand} at runtime, without re-registering all other interactions.
+	 *
+	 * @param command The {@link ContextCommand} to register.
+	 * @see InteractionHandler#registerCommand(ContextCommand)
+	 * @since v1.6
+	 */
+	public void registerCommand(@NotNull ContextCommand command) {
+		if (handler != null) {
+			handler.registerCommand(command);
+		}
+	}
+
+	/**
+	 * Removes a single {@link SlashCommand} at runtime, without re-registering all other interactions.
+	 *
+	 * @param command The {@link SlashCommand} to unregister.
+	 * @see InteractionHandler#unregisterCommand(SlashCommand)
+	 * @since v1.6
+	 */
+	public void unregisterCommand(@NotNull SlashCommand command) {
+		if (handler != null) {
+			handler.unregisterCommand(command);
+		}
+	}
+
+	/**
+	 * Removes a single {@link ContextCommand} at runtime, without re-registering all other interactions.
+	 *
+	 * @param command The {@link ContextCommand} to unregister.
+	 * @see InteractionHandler#unregisterCommand(ContextCommand)
+	 * @since v1.6
+	 */
+	public void unregisterCommand(@NotNull ContextCommand command) {
+		if (handler != null) {
+			handler.unregisterCommand(command);
+		}
+	}
+
+	/**
+	 * Gracefully shuts down this instance. New interactions are no longer handled, while all interactions that are
+	 * still being handled get the given timeout to finish. Interactions that did not finish in time are deferred (if
+	 * possible), so that they do not fail right away. This should be called before the {@link JDA} instance is shut down.
+	 *
+	 * <pre>{@code
+	 * ShutdownReport report = dih4jda.shutdown(Duration.ofSeconds(10));
+	 * jda.shutdown();
+	 * }</pre>
+	 *
+	 * @param timeout The maximum duration to wait for interactions that are still being handled.
+	 * @return The {@link ShutdownReport}, which summarizes how all pending interactions ended.
+	 * @since v1.6
+	 */
+	public ShutdownReport shutdown(@NotNull Duration timeout) {
+		if (handler == null) {
+			config.getJDA().removeEventListener(this);
+			config.getComponentStateStore().close();
+			return new ShutdownReport(0, 0, 0, 0, Duration.ZERO);
+		}
+		ShutdownReport report = handler.shutdown(timeout);
+		config.getJDA().removeEventListener(this, handler);
+		if (handler.getMemberCache() != null) config.getJDA().removeEventListener(handler.getMemberCache());
+		return report;
+	}
+
+	/**
+	 * Registers an ephemeral listener for a single button, which is kept for the given duration.
+	 * This is best used for one-off prompts, such as confirming a specific action.
+	 *
+	 * <pre>{@code
+	 * String id = dih4jda.addButtonListener(Duration.ofMinutes(5), click -> {
+	 *     deleteChannel(channel);
+	 *     click.reply("Deleted!").queue();
+	 * });
+	 * event.reply("Are you sure?").addActionRow(Button.danger(id, "Confirm")).queue();
+	 * }</pre>
+	 *
+	 * @param ttl      How long the listener should be kept.
+	 * @param listener The listener that handles all clicks on the button.
+	 * @return The generated component id, which must be used as the button's id.
+	 * @since v1.6
+	 */
+	public String addButtonListener(@NotNull Duration ttl, @NotNull Consumer<ButtonInteractionEvent> listener) {
+		return getHandler().addComponentListener(ButtonInteractionEvent.class, ttl, listener);
+	}
+
+	/**
+	 * Registers an ephemeral listener for a single select menu, which is kept for the given duration.
+	 *
+	 * @param ttl      How long the listener should be kept.
+	 * @param listener The listener that handles all selections.
+	 * @return The generated component id, which must be used as the select menu's id.
+	 * @see DIH4JDA#addButtonListener(Duration, Consumer)
+	 * @since v1.6
+	 */
+	public String addSelectMenuListener(@NotNull Duration ttl, @NotNull Consumer<SelectMenuInteractionEvent> listener) {
+		return getHandler().addComponentListener(SelectMenuInteractionEvent.class, ttl, listener);
+	}
+
+	/**
+	 * Registers an ephemeral listener for a single modal, which is kept for the given duration.
+	 *
+	 * @param ttl      How long the listener should be kept.
+	 * @param listener The listener that handles the modal's submission.
+	 * @return The generated id, which must be used as the modal's id.
+	 * @see DIH4JDA#addButtonListener(Duration, Consumer)
+	 * @since v1.6
+	 */
+	public String addModalListener(@NotNull Duration ttl, @NotNull Consumer<ModalInteractionEvent> listener) {
+		return getHandler().addComponentListener(ModalInteractionEvent.class, ttl, listener);
+	}
+
+	/**
+	 * Removes the ephemeral listener with the given component id before it expires.
+	 *
+	 * @param id The component id that was returned upon registering the listener.
+	 * @return Whether a listener was removed.
+	 * @since v1.6
+	 */
+	public boolean removeComponentListener(@NotNull String id) {
+		return handler != null && handler.removeComponentListener(id);
+	}
+
+	/**
+	 * Returns the {@link ComponentStateStore}, which can be used to keep state of components server-side.
+	 *
+	 * <pre>{@code
+	 * String key = dih4jda.getComponentStateStore().put(new TicketState(ticketId, page));
+	 * event.reply("Ticket").addActionRow(Button.primary(ComponentIdBuilder.build("ticket", key), "Next")).queue();
+	 * }</pre>
+	 *
+	 * @return The {@link ComponentStateStore}.
+	 * @see com.dynxsty.dih4jda.DIH4JDABuilder#setComponentStateStore(ComponentStateStore)
+	 * @since v1.6
+	 */
+	public ComponentStateStore getComponentStateStore() {
+		return config.getComponentStateStore();
+	}
+
+	/**
+	 * Returns the {@link CommandToggles}, which can be used to enable and disable commands per guild at runtime.
+	 *
+	 * <pre>{@code
+	 * dih4jda.getCommandToggles().setEnabled(event.getGuild().getIdLong(), Command.Type.SLASH, "giveaway", false);
+	 * }</pre>
+	 *
+	 * @return The {@link CommandToggles}.
+	 * @see DIH4JDABuilder#setCommandToggles(CommandToggles)
+	 * @since v1.6
+	 */
+	public CommandToggles getCommandToggles() {
+		return config.getCommandToggles();
+	}
+
+	/**
+	 * Returns the {@link FairScheduler}, which can be used to monitor the queue depth of each guild or to change
+	 * the weight of guilds at runtime.
+	 *
+	 * @return The {@link FairScheduler}, or null if fair scheduling is disabled.
+	 * @see DIH4JDABuilder#enableFairScheduling(int)
+	 * @since v1.6
+	 */
+	public @Nullable FairScheduler getFairScheduler() {
+		return handler == null ? null : handler.getFairScheduler();
+	}
+
+	/**
+	 * Returns the {@link CommandAnalytics}, which can be used to flush all recorded command invocations right away.
+	 *
+	 * @return The {@link CommandAnalytics}, or null if analytics are disabled.
+	 * @see DIH4JDABuilder#enableAnalytics(java.nio.file.Path, Duration)
+	 * @since v1.6
+	 */
+	public @Nullable CommandAnalytics getAnalytics() {
+		return handler == null ? null : handler.getAnalytics();
+	}
+
+	private InteractionHandler getHandler() {
+		if (handler == null) {
+			throw new IllegalStateException("Interaction Handler was not initialized!");
+		}
+		return handler;
+	}
+
 	/**
 	 * @return The instance's configuration.
 	 */
@@ -85,6 +296,14 @@ public class DIH4JDA extends ListenerAdapter {
 		return config;
 	}
 
+	/**
+	 * @return The instance's {@link DIH4JDALogger}.
+	 * @since v1.6
+	 */
+	public DIH4JDALogger getLogger() {
+		return logger;
+	}
+
 	/**
 	 * Allows to add Listener classes (that extend {@link DIH4JDAListenerAdapter}).
 	 *
@@ -1,16 +1,28 @@
 package com.dynxsty.dih4jda;
 
+import com.dynxsty.dih4jda.audit.AuditSink;
+import com.dynxsty.dih4jda.cluster.RegistrationCoordinator;
 import com.dynxsty.dih4jda.config.DIH4JDAConfig;
 import com.dynxsty.dih4jda.exceptions.DIH4JDAException;
 import com.dynxsty.dih4jda.exceptions.InvalidPackageException;
+import com.dynxsty.dih4jda.execution.OrderingKey;
+import com.dynxsty.dih4jda.injection.InstanceFactory;
+import com.dynxsty.dih4jda.interactions.commands.ExecutableCommand;
 import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.state.ComponentStateStore;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
+import com.dynxsty.dih4jda.ratelimit.RateLimitBackend;
+import com.dynxsty.dih4jda.registry.CommandRegistry;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.requests.GatewayIntent;
 import org.reflections.util.ClasspathHelper;
 
 import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
 
 /**
  * Builder-System used to build {@link DIH4JDA}.
@@ -69,7 +81,7 @@ public class DIH4JDABuilder {
 		} else {
 			blocked = types;
 		}
-		config.setBlockedLogTypes(Arrays.stream(blocked).collect(Collectors.toSet()));
+		config.setBlockedLogTypes(EnumSet.copyOf(Arrays.asList(blocked)));
 		return this;
 	}
 
@@ -127,19 +139,434 @@ public class DIH4JDABuilder {
 		return this;
 	}
 
+	/**
+	 * Enables the automatic deferral of interactions. If a command, component or modal handler did not acknowledge
+	 * its interaction within the given delay, DIH4JDA defers it on behalf of the handler, so that the interaction does
+	 * not fail. Handlers that finish in time don't cause any additional requests.
+	 * <br>Please note that handlers which may run longer than the given delay should check
+	 * {@link net.dv8tion.jda.api.interactions.Interaction#isAcknowledged()} and respond using the interaction's hook instead.
+	 *
+	 * @param delay     The delay after which unacknowledged interactions are deferred. Discord requires interactions
+	 *                  to be acknowledged within 3 seconds, thus, this should be about 2.5 seconds.
+	 * @param ephemeral Whether replies should be deferred as ephemeral. Component interactions are always deferred
+	 *                  by editing the original message.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableAutoDeferral(@Nonnull Duration delay, boolean ephemeral) {
+		config.setAutoDeferralDelay(delay);
+		config.setAutoDeferralEphemeral(ephemeral);
+		return this;
+	}
+
+	/**
+	 * Sets the ephemeral reply to interactions that are received after {@link DIH4JDA#shutdown(Duration)} was called,
+	 * so that they don't fail without any explanation. Defaults to
+	 * {@code "The bot is restarting. Please try again in a moment."}.
+	 *
+	 * @param notice The reply, or null if these interactions should not be answered at all.
+	 * @see ShutdownReport#getRejected()
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setShutdownNotice(String notice) {
+		config.setShutdownNotice(notice);
+		return this;
+	}
+
+	/**
+	 * Sets the maximum amount of ephemeral component listeners that are kept at the same time. If this limit is
+	 * exceeded, the oldest listeners are removed first. Defaults to 10.000.
+	 *
+	 * @param max The maximum amount of ephemeral component listeners.
+	 * @see DIH4JDA#addButtonListener(Duration, java.util.function.Consumer)
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setMaxComponentListeners(int max) {
+		config.setMaxComponentListeners(max);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link ComponentStateStore} that is used to keep state of components server-side, so that only
+	 * a short key has to be put into the component id. Defaults to a
+	 * {@link com.dynxsty.dih4jda.interactions.state.MemoryComponentStateStore} which holds up to 10.000 states.
+	 *
+	 * @param store The {@link ComponentStateStore} to use.
+	 * @see DIH4JDA#getComponentStateStore()
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setComponentStateStore(@Nonnull ComponentStateStore store) {
+		config.setComponentStateStore(store);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link RegistrationCoordinator}, which ensures that only a single node registers global commands if the
+	 * bot is split across multiple processes. By default, every node registers all global commands on its own.
+	 *
+	 * @param coordinator The {@link RegistrationCoordinator} to use.
+	 * @see com.dynxsty.dih4jda.cluster.FileLockRegistrationCoordinator
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setRegistrationCoordinator(@Nonnull RegistrationCoordinator coordinator) {
+		config.setRegistrationCoordinator(coordinator);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link RateLimitBackend}, which keeps the counters of all rate limits. By default, counters are only kept
+	 * in memory, thus, rate limits only apply to the current process. Bots that are split across multiple processes
+	 * should use a backend that is shared by all nodes.
+	 *
+	 * @param backend The {@link RateLimitBackend} to use.
+	 * @see com.dynxsty.dih4jda.interactions.commands.CommandRequirements#requireRateLimit(int, Duration, com.dynxsty.dih4jda.ratelimit.RateLimit.Scope)
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setRateLimitBackend(@Nonnull RateLimitBackend backend) {
+		config.setRateLimitBackend(backend);
+		return this;
+	}
+
+	/**
+	 * Enables the local fast path of rate limits: usages of keys that are below the given share of their limit are
+	 * counted locally and only sent to the {@link RateLimitBackend} once per second. This is disabled by default.
+	 * <br>As the backend doesn't see these usages right away, each node may allow up to {@code limit * ratio} usages
+	 * on its own. Bots that are split across N nodes should therefore use a ratio of at most {@code 1 / N}.
+	 *
+	 * @param ratio The share of each limit, between 0 and 1, up to which usages are counted locally.
+	 * @see com.dynxsty.dih4jda.ratelimit.RateLimiter
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setRateLimitFastPath(double ratio) {
+		if (ratio < 0 || ratio > 1) throw new IllegalArgumentException("Fast path ratio must be between 0 and 1!");
+		config.setRateLimitFastPathRatio(ratio);
+		return this;
+	}
+
+	/**
+	 * Enables ordered execution. Interactions that share the same {@link OrderingKey} are then handled one after
+	 * another, in the order they were received, while all others are still handled in parallel. An interaction is only
+	 * considered handled once the {@link java.util.concurrent.CompletionStage} of its handler completed.
+	 * <br>This removes the need for locks in handlers, e.g. if a user quickly clicks two buttons on the same message.
+	 * <br>Keys are hashed onto 1024 stripes.
+	 *
+	 * @param key The {@link OrderingKey}, which determines which interactions are handled in order.
+	 * @see DIH4JDABuilder#enableOrderedExecution(OrderingKey, int)
+	 * @see com.dynxsty.dih4jda.execution.StripedExecutor
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableOrderedExecution(@Nonnull OrderingKey key) {
+		return enableOrderedExecution(key, 1024);
+	}
+
+	/**
+	 * Enables ordered execution, hashing the keys onto the given amount of stripes.
+	 * <br>Distinct keys that share a stripe are handled one after another as well. Thus, fewer stripes save a bit of
+	 * memory, but unrelated interactions wait for each other more often, which reduces the throughput. The amount
+	 * of stripes should therefore be well above the amount of threads of the executor and the amount of keys that
+	 * are usually busy at the same time.
+	 *
+	 * @param key     The {@link OrderingKey}, which determines which interactions are handled in order.
+	 * @param stripes The amount of stripes, which is rounded up to the next power of two.
+	 * @see com.dynxsty.dih4jda.execution.StripedExecutor
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableOrderedExecution(@Nonnull OrderingKey key, int stripes) {
+		if (stripes <= 0) throw new IllegalArgumentException("Stripes must be positive!");
+		config.setOrderingKey(key);
+		config.setOrderingStripes(stripes);
+		return this;
+	}
+
+	/**
+	 * Enables fair scheduling across guilds. At most the given amount of interactions are then handled at the same
+	 * time, while all others are queued per guild and started in a weighted round-robin. This way, a single busy guild
+	 * can't delay the interactions of all other guilds. Interactions in direct messages are queued per user.
+	 * <br>If ordered execution is enabled as well, interactions are first ordered and then scheduled fairly.
+	 *
+	 * @param maxInFlight The maximum amount of interactions that are handled at the same time.
+	 * @see DIH4JDA#getFairScheduler()
+	 * @see com.dynxsty.dih4jda.execution.FairScheduler
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableFairScheduling(int maxInFlight) {
+		if (maxInFlight <= 0) throw new IllegalArgumentException("Max in-flight interactions must be positive!");
+		config.setMaxInFlight(maxInFlight);
+		return this;
+	}
+
+	/**
+	 * Sets the weight of a single guild if fair scheduling is enabled. A guild with a weight of 3 may start three
+	 * interactions per round, while guilds without a weight may only start one. This is useful for e.g. premium guilds.
+	 *
+	 * @param guildId The guild's id.
+	 * @param weight  The guild's weight.
+	 * @see DIH4JDABuilder#enableFairScheduling(int)
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setGuildWeight(long guildId, int weight) {
+		if (weight <= 0) throw new IllegalArgumentException("Weight must be positive!");
+		config.getGuildWeights().put(guildId, weight);
+		return this;
+	}
+
+	/**
+	 * Enables the warmup of the dispatch path. After the interactions were registered for the first time, the index
+	 * lookups, component id parsing, toggles and requirement checks are run for all registered commands and
+	 * components on a separate thread, so that these are already compiled once the first real interactions arrive.
+	 * The warmup neither creates events nor uses the executor, thus, neither handlers, listeners nor Discord are ever
+	 * called.
+	 * <br>The HotSpot JIT usually compiles methods fully after about 10.000 invocations, thus, this should be at
+	 * least about 20.000 iterations.
+	 *
+	 * @param iterations The amount of iterations.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableWarmup(int iterations) {
+		if (iterations <= 0) throw new IllegalArgumentException("Iterations must be positive!");
+		config.setWarmupIterations(iterations);
+		return this;
+	}
+
+	/**
+	 * Enables the warmup of the dispatch path, which runs for the given duration.
+	 *
+	 * @param budget How long the warmup should run.
+	 * @see DIH4JDABuilder#enableWarmup(int)
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableWarmup(@Nonnull Duration budget) {
+		config.setWarmupBudget(budget);
+		return this;
+	}
+
+	/**
+	 * Adds commands that are declared up-front, instead of being discovered and instantiated by the handler.
+	 * If the commands package contains their classes as well, those are ignored.
+	 * <br>This is mostly useful for {@link com.dynxsty.dih4jda.interactions.commands.lazy.LazyCommand}s, whose
+	 * implementation is only created once they are first used:
+	 *
+	 * <pre>{@code
+	 * LazySlashCommand ping = new LazySlashCommand(PingCommand.class, PingCommand::new);
+	 * ping.setSlashCommandData(Commands.slash("ping", "Pong!"));
+	 * DIH4JDABuilder.setJDA(jda)
+	 *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+	 *         .addCommands(ping)
+	 *         .build();
+	 * }</pre>
+	 *
+	 * @param commands The commands to add.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder addCommands(@Nonnull ExecutableCommand... commands) {
+		config.getCommands().addAll(Arrays.asList(commands));
+		return this;
+	}
+
+	/**
+	 * Enables the aggregation of command invocations per command, guild and hour, which are periodically appended to
+	 * the given file. The file can be read using {@link com.dynxsty.dih4jda.analytics.CommandAnalyticsReader}.
+	 *
+	 * @param file          The file all invocations are appended to.
+	 * @param flushInterval How often invocations are appended to the file.
+	 * @see com.dynxsty.dih4jda.analytics.CommandAnalytics
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableAnalytics(@Nonnull Path file, @Nonnull Duration flushInterval) {
+		if (flushInterval.isNegative() || flushInterval.isZero()) throw new IllegalArgumentException("Flush interval must be positive!");
+		config.setAnalyticsFile(file);
+		config.setAnalyticsFlushInterval(flushInterval);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link AuditSink}, which receives a record of each command that was run, including its options and
+	 * outcome. The sink is closed once the {@link DIH4JDA} instance is shut down.
+	 *
+	 * @param sink The {@link AuditSink}.
+	 * @see com.dynxsty.dih4jda.audit.MappedAuditLog
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setAuditSink(@Nonnull AuditSink sink) {
+		config.setAuditSink(sink);
+		return this;
+	}
+
+	/**
+	 * Enables prefix (text) commands, which are routed through the same index as all interactions. Messages that
+	 * don't start with the given prefix are rejected before any further processing.
+	 * <br>This requires the {@link net.dv8tion.jda.api.requests.GatewayIntent#MESSAGE_CONTENT} intent.
+	 *
+	 * @param prefix The prefix all text commands are invoked with, such as {@code "!"}.
+	 * @see com.dynxsty.dih4jda.interactions.commands.TextCommand
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableTextCommands(@Nonnull String prefix) {
+		if (prefix.isEmpty()) throw new IllegalArgumentException("Prefix must not be empty!");
+		config.setTextCommandPrefix(prefix);
+		return this;
+	}
+
+	/**
+	 * Caches the effective permissions and roles of each member that uses a command, so that requirement checks of
+	 * active members don't have to recompute them. Entries are invalidated by role, member and permission update
+	 * events, which require the {@link GatewayIntent#GUILD_MEMBERS} intent. If the intent
+	 * is missing, a warning is logged upon building.
+	 *
+	 * @param maxAge The maximum age of each entry, which bounds how long a missed event can go unnoticed.
+	 * @see com.dynxsty.dih4jda.interactions.commands.MemberPermissionCache
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableMemberPermissionCache(@Nonnull Duration maxAge) {
+		if (maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("Max age must be positive!");
+		config.setMemberCacheMaxAge(maxAge);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link CommandToggles}, which enable and disable commands per guild. This is useful if multiple
+	 * {@link DIH4JDA} instances (e.g. one per shard manager) should share the same toggles. Defaults to a new,
+	 * empty instance.
+	 *
+	 * @param toggles The {@link CommandToggles}.
+	 * @see DIH4JDA#getCommandToggles()
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setCommandToggles(@Nonnull CommandToggles toggles) {
+		config.setCommandToggles(toggles);
+		return this;
+	}
+
+	/**
+	 * Mirrors all changes of the {@link CommandToggles} to Discord, so that disabled commands are also hidden from
+	 * members in the client. Changes are collected and synced in a single batch per guild once the given delay
+	 * passed, which costs one request per guild plus one per changed command.
+	 * <br>A disabled command's default member permissions are set to
+	 * {@link net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions#DISABLED}, so that only
+	 * administrators still see it; enabling it restores the permissions of its command data. This only applies to
+	 * commands that are registered in the guild itself.
+	 *
+	 * @param delay How long changes are collected before they are synced.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder enableCommandToggleSync(@Nonnull Duration delay) {
+		if (delay.isNegative()) throw new IllegalArgumentException("Delay must not be negative!");
+		config.setCommandToggleSyncDelay(delay);
+		return this;
+	}
+
+	/**
+	 * Adds a dependency, which is injected into the constructor of all commands and component handlers that
+	 * require it. This is the preferred way of sharing heavyweight resources (such as connection pools or caches),
+	 * as these are only created once, instead of being accessed through static singletons.
+	 *
+	 * <pre>{@code
+	 * DIH4JDABuilder.setJDA(jda)
+	 *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+	 *         .addDependency(DataSource.class, dataSource)
+	 *         .build();
+	 * }</pre>
+	 *
+	 * @param type       The type the dependency is registered for.
+	 * @param dependency The dependency.
+	 * @param <T>        The dependency's type.
+	 * @see com.dynxsty.dih4jda.injection.ConstructorInstanceFactory
+	 * @since v1.6
+	 */
+	@Nonnull
+	public <T> DIH4JDABuilder addDependency(@Nonnull Class<T> type, @Nonnull T dependency) {
+		config.getDependencies().put(type, dependency);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link InstanceFactory}, which creates all commands and component handlers that were found in the
+	 * commands package. If set, all dependencies that were added using {@link DIH4JDABuilder#addDependency(Class, Object)}
+	 * are ignored.
+	 *
+	 * @param factory The {@link InstanceFactory}.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setInstanceFactory(@Nonnull InstanceFactory factory) {
+		config.setInstanceFactory(factory);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link CommandRegistry} which provides all commands and component handlers. This replaces the scan
+	 * of the commands package, which is not needed (and ignored) anymore.
+	 *
+	 * @param registry The {@link CommandRegistry}.
+	 * @see DIH4JDABuilder#useGeneratedCommandRegistry()
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder setCommandRegistry(@Nonnull CommandRegistry registry) {
+		config.setCommandRegistry(registry);
+		return this;
+	}
+
+	/**
+	 * Uses the {@link CommandRegistry} that was generated by the
+	 * {@link com.dynxsty.dih4jda.registry.CommandRegistryProcessor} instead of scanning the commands package.
+	 * Together with the generated {@code reflect-config.json}, this allows bots to be built as GraalVM native images.
+	 *
+	 * <pre>{@code
+	 * DIH4JDA dih4jda = DIH4JDABuilder
+	 *         .setJDA(jda)
+	 *         .useGeneratedCommandRegistry()
+	 *         .build();
+	 * }</pre>
+	 *
+	 * @throws InvalidPackageException If no generated {@link CommandRegistry} was found.
+	 * @since v1.6
+	 */
+	@Nonnull
+	public DIH4JDABuilder useGeneratedCommandRegistry() throws InvalidPackageException {
+		CommandRegistry registry = CommandRegistry.load(Thread.currentThread().getContextClassLoader());
+		if (registry == null) {
+			throw new InvalidPackageException("No generated CommandRegistry was found. Please make sure that the CommandRegistryProcessor was enabled using -processor.");
+		}
+		return setCommandRegistry(registry);
+	}
+
 	/**
 	 * Returns a {@link DIH4JDA} instance that has been validated.
 	 *
 	 * @return the built, usable {@link DIH4JDA}
 	 */
 	public DIH4JDA build() throws DIH4JDAException {
+		DIH4JDALogger logger = new DIH4JDALogger(config.getBlockedLogTypes());
 		if (Runtime.getRuntime().availableProcessors() == 1) {
-			DIH4JDALogger.warn("You are running DIH4JDA on a single core CPU. A special system property was set to disable asynchronous command execution.");
+			logger.warn(DIH4JDALogger.Type.WARN, "You are running DIH4JDA on a single core CPU. A special system property was set to disable asynchronous command execution.");
 			System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism", "1");
 		}
-		if (ClasspathHelper.forPackage(config.getCommandsPackage()).isEmpty()) {
+		if (config.getCommandRegistry() == null && ClasspathHelper.forPackage(config.getCommandsPackage()).isEmpty()) {
 			throw new InvalidPackageException("Package " + config.getCommandsPackage() + " does not exist.");
 		}
+		if (config.getMemberCacheMaxAge() != null && !jda.getGatewayIntents().contains(GatewayIntent.GUILD_MEMBERS)) {
+			logger.warn(DIH4JDALogger.Type.WARN, "The member permission cache is enabled without the GUILD_MEMBERS intent. Role changes of members are only noticed once their entries expire or they use an interaction.");
+		}
 		config.setJDA(jda);
 		return new DIH4JDA(config);
 	}
@@ -1,21 +1,141 @@
 package com.dynxsty.dih4jda;
 
 import net.dv8tion.jda.internal.utils.JDALogger;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.event.Level;
 
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * This handler's own Logging System.
  * <br> To disable certain {@link DIH4JDALogger.Type}s, simple use {@link DIH4JDABuilder#disableLogging(Type...)}.
+ * <br> Each {@link DIH4JDA} instance owns its own, immutable logger (see {@link DIH4JDA#getLogger()}). Messages are
+ * only formatted (or supplied) once it is clear that they will actually be logged, so disabled types cost nothing
+ * more than a bit check.
+ * <br> The static methods are deprecated: as they are not bound to any instance, they ignore all disabled types.
+ *
+ * <pre>{@code
+ * logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, "Queued %s command(s)", count);
+ * logger.debug(DIH4JDALogger.Type.SMART_QUEUE, () -> expensiveDescription());
+ * }</pre>
  */
 public class DIH4JDALogger {
 
 	private static final org.slf4j.Logger log = JDALogger.getLog(DIH4JDALogger.class);
-	protected static Set<Type> blockedLogTypes;
 
-	private static void log(String msg, Type type, Level level) {
-		if (blockedLogTypes.contains(type)) return;
+	/**
+	 * The logger that is used by all (deprecated) static methods, which does not block any type.
+	 */
+	private static final DIH4JDALogger UNFILTERED = new DIH4JDALogger(Set.of());
+
+	private final EnumSet<Type> blockedTypes;
+
+	/**
+	 * Creates a new logger.
+	 *
+	 * @param blockedTypes All {@link Type}s that should not be logged.
+	 * @since v1.6
+	 */
+	public DIH4JDALogger(@NotNull Set<Type> blockedTypes) {
+		this.blockedTypes = blockedTypes.isEmpty() ? EnumSet.noneOf(Type.class) : EnumSet.copyOf(blockedTypes);
+	}
+
+	/**
+	 * Checks whether messages of the given type and level are logged.
+	 *
+	 * @param level The {@link Level}.
+	 * @param type  The {@link Type}.
+	 * @return Whether messages of the given type and level are logged.
+	 * @since v1.6
+	 */
+	public boolean isEnabled(@NotNull Level level, @NotNull Type type) {
+		if (blockedTypes.contains(type)) return false;
+		switch (level) {
+			case INFO:
+				return log.isInfoEnabled();
+			case WARN:
+				return log.isWarnEnabled();
+			case ERROR:
+				return log.isErrorEnabled();
+			case DEBUG:
+				return log.isDebugEnabled();
+			default:
+				return log.isTraceEnabled();
+		}
+	}
+
+	/**
+	 * Logs a message, which is only formatted if it is actually logged.
+	 *
+	 * @param level  The {@link Level}.
+	 * @param type   The {@link Type}.
+	 * @param format The message's format, as used by {@link String#format(String, Object...)}.
+	 * @param args   The format's arguments.
+	 * @since v1.6
+	 */
+	public void log(@NotNull Level level, @NotNull Type type, @NotNull String format, Object... args) {
+		if (isEnabled(level, type)) {
+			write(level, args.length == 0 ? format : String.format(format, args));
+		}
+	}
+
+	/**
+	 * Logs a message, which is only supplied if it is actually logged.
+	 *
+	 * @param level   The {@link Level}.
+	 * @param type    The {@link Type}.
+	 * @param message The message's {@link Supplier}.
+	 * @since v1.6
+	 */
+	public void log(@NotNull Level level, @NotNull Type type, @NotNull Supplier<String> message) {
+		if (isEnabled(level, type)) {
+			write(level, message.get());
+		}
+	}
+
+	public void info(@NotNull Type type, @NotNull String format, Object... args) {
+		log(Level.INFO, type, format, args);
+	}
+
+	public void info(@NotNull Type type, @NotNull Supplier<String> message) {
+		log(Level.INFO, type, message);
+	}
+
+	public void warn(@NotNull Type type, @NotNull String format, Object... args) {
+		log(Level.WARN, type, format, args);
+	}
+
+	public void warn(@NotNull Type type, @NotNull Supplier<String> message) {
+		log(Level.WARN, type, message);
+	}
+
+	public void error(@NotNull Type type, @NotNull String format, Object... args) {
+		log(Level.ERROR, type, format, args);
+	}
+
+	public void error(@NotNull Type type, @NotNull Supplier<String> message) {
+		log(Level.ERROR, type, message);
+	}
+
+	public void debug(@NotNull Type type, @NotNull String format, Object... args) {
+		log(Level.DEBUG, type, format, args);
+	}
+
+	public void debug(@NotNull Type type, @NotNull Supplier<String> message) {
+		log(Level.DEBUG, type, message);
+	}
+
+	public void trace(@NotNull Type type, @NotNull String format, Object... args) {
+		log(Level.TRACE, type, format, args);
+	}
+
+	public void trace(@NotNull Type type, @NotNull Supplier<String> message) {
+		log(Level.TRACE, type, message);
+	}
+
+	private static void write(Level level, String msg) {
 		switch (level) {
 			case INFO:
 				log.info(msg);
@@ -35,42 +155,88 @@ public class DIH4JDALogger {
 		}
 	}
 
+	private static void log(String msg, Type type, Level level) {
+		if (UNFILTERED.isEnabled(level, type)) {
+			write(level, msg);
+		}
+	}
+
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void info(String msg, Type type) {
 		log(msg, type, Level.INFO);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void info(String msg) {
 		log(msg, Type.INFO, Level.INFO);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void warn(String msg, Type type) {
 		log(msg, type, Level.WARN);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void warn(String msg) {
 		log(msg, Type.WARN, Level.WARN);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void error(String msg, Type type) {
 		log(msg, type, Level.ERROR);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void error(String msg) {
 		log(msg, Type.ERROR, Level.ERROR);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void debug(String msg, Type type) {
 		log(msg, type, Level.DEBUG);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void debug(String msg) {
 		log(msg, Type.DEBUG, Level.DEBUG);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void trace(String msg, Type type) {
 		log(msg, type, Level.TRACE);
 	}
 
+	/**
+	 * @deprecated Use the logger of a {@link DIH4JDA} instance instead, which respects all disabled types.
+	 */
+	@Deprecated
 	public static void trace(String msg) {
 		log(msg, Type.TRACE, Level.TRACE);
 	}
@@ -90,6 +256,7 @@ public class DIH4JDALogger {
 		BUTTON_NOT_FOUND,
 		SELECT_MENU_NOT_FOUND,
 		MODAL_NOT_FOUND,
-		EVENT_FIRED
+		EVENT_FIRED,
+		STARTUP
 	}
 }
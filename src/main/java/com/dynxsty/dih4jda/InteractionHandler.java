@@ -1,21 +1,46 @@
 package com.dynxsty.dih4jda;
 
+import com.dynxsty.dih4jda.analytics.CommandAnalytics;
+import com.dynxsty.dih4jda.audit.AuditRecord;
+import com.dynxsty.dih4jda.audit.AuditSink;
+import com.dynxsty.dih4jda.cluster.RegistrationCoordinator;
 import com.dynxsty.dih4jda.config.DIH4JDAConfig;
 import com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter;
 import com.dynxsty.dih4jda.exceptions.CommandNotRegisteredException;
+import com.dynxsty.dih4jda.exceptions.InvalidCommandException;
+import com.dynxsty.dih4jda.execution.Bulkhead;
+import com.dynxsty.dih4jda.execution.CircuitBreaker;
+import com.dynxsty.dih4jda.execution.FairScheduler;
+import com.dynxsty.dih4jda.execution.ShedReason;
+import com.dynxsty.dih4jda.execution.StripedExecutor;
+import com.dynxsty.dih4jda.injection.ConstructorInstanceFactory;
+import com.dynxsty.dih4jda.injection.InstanceFactory;
 import com.dynxsty.dih4jda.interactions.ComponentIdBuilder;
+import com.dynxsty.dih4jda.interactions.binding.ModalBinder;
+import com.dynxsty.dih4jda.interactions.binding.OptionBinder;
 import com.dynxsty.dih4jda.interactions.commands.*;
+import com.dynxsty.dih4jda.interactions.commands.lazy.LazyCommand;
 import com.dynxsty.dih4jda.interactions.commands.model.UnqueuedCommandData;
 import com.dynxsty.dih4jda.interactions.commands.model.UnqueuedSlashCommandData;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
+import com.dynxsty.dih4jda.ratelimit.RateLimit;
+import com.dynxsty.dih4jda.ratelimit.RateLimiter;
+import com.dynxsty.dih4jda.registry.CommandRegistry;
+import com.dynxsty.dih4jda.util.BoundedExpiringMap;
 import com.dynxsty.dih4jda.util.Checks;
 import com.dynxsty.dih4jda.util.ClassUtils;
 import com.dynxsty.dih4jda.util.CommandUtils;
 import com.dynxsty.dih4jda.util.Pair;
+import com.dynxsty.dih4jda.util.PhaseTimer;
+import com.dynxsty.dih4jda.util.TextCommandParser;
+import com.dynxsty.dih4jda.util.TimingWheel;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
@@ -23,22 +48,54 @@ import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEve
 import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.SelectMenuInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.Interaction;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.CommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandGroupData;
+import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.reflections.Reflections;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The Handler class, that finds, registers and handles all Commands and other Interactions.
@@ -59,76 +116,248 @@ public class InteractionHandler extends ListenerAdapter {
 	private final DIH4JDAConfig config;
 
 	/**
-	 * An Index of all {@link SlashCommand}s.
+	 * The instance's logger.
+	 */
+	private final DIH4JDALogger logger;
+
+	/**
+	 * The current snapshot of all indexes. Snapshots are immutable and replaced atomically,
+	 * which allows interactions to be routed without any locking while commands are being (un-)registered.
 	 *
-	 * @see InteractionHandler#findSlashCommands()
+	 * @see InteractionIndex
+	 */
+	private final AtomicReference<InteractionIndex> index = new AtomicReference<>(InteractionIndex.EMPTY);
+
+	/**
+	 * All commands that were registered at runtime using {@link InteractionHandler#registerCommand(SlashCommand)}
+	 * or {@link InteractionHandler#registerCommand(ContextCommand)}.
+	 */
+	private final Set<ExecutableCommand> runtimeCommands = new CopyOnWriteArraySet<>();
+
+	/**
+	 * An already completed {@link CompletionStage}, which is returned if there is nothing to wait for.
+	 */
+	private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+	/**
+	 * The identifier of all component ids that were generated for ephemeral component listeners.
 	 */
-	private final Map<String, SlashCommand> slashCommandIndex;
+	private static final String COMPONENT_LISTENER_PREFIX = "dih4jda-listener";
 
 	/**
-	 * An Index of all {@link SlashCommand.Subcommand}s.
+	 * A random value that is part of all generated component ids, so that ids never collide with ones
+	 * generated by earlier runs.
+	 */
+	private final String listenerSalt = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+	private final AtomicLong listenerCounter = new AtomicLong();
+
+	/**
+	 * The {@link TimingWheel} which is used for all timeouts of this handler.
 	 *
-	 * @see InteractionHandler#findSlashCommands()
+	 * @see InteractionHandler#getTimer()
 	 */
-	private final Map<String, SlashCommand.Subcommand> subcommandIndex;
+	private volatile TimingWheel timer;
 
 	/**
-	 * An Index of all {@link ContextCommand.Message}s.
+	 * The {@link RateLimiter} which enforces the {@link RateLimit}s of all commands.
 	 *
-	 * @see InteractionHandler#findContextCommands()
+	 * @see InteractionHandler#getRateLimiter()
 	 */
-	private final Map<String, ContextCommand.Message> messageContextIndex;
+	private volatile RateLimiter rateLimiter;
 
 	/**
-	 * An Index of all {@link ContextCommand.User}s.
+	 * The {@link StripedExecutor} which handles interactions in order, or null if ordered execution is disabled.
 	 *
-	 * @see InteractionHandler#findContextCommands()
+	 * @see DIH4JDABuilder#enableOrderedExecution(com.dynxsty.dih4jda.execution.OrderingKey)
 	 */
-	private final Map<String, ContextCommand.User> userContextIndex;
+	private final StripedExecutor orderedExecutor;
 
 	/**
-	 * An Index of all {@link AutoCompletable}s.
+	 * The {@link FairScheduler} which schedules interactions across guilds, or null if fair scheduling is disabled.
 	 *
-	 * @see InteractionHandler#findSlashCommands()
+	 * @see DIH4JDABuilder#enableFairScheduling(int)
 	 */
-	private final Map<String, AutoCompletable> autoCompleteIndex;
+	private final FairScheduler fairScheduler;
 
 	/**
-	 * An Index of all {@link ComponentHandler}s.
+	 * The {@link InstanceFactory} which creates all commands and component handlers of the commands package.
 	 *
-	 * @see InteractionHandler#findInteractionsHandlers()
+	 * @see DIH4JDABuilder#setInstanceFactory(InstanceFactory)
 	 */
-	private final Map<String, ComponentHandler> handlerIndex;
+	private final InstanceFactory instanceFactory;
 
-	private final Set<Class<? extends SlashCommand>> commands;
-	private final Set<Class<? extends ContextCommand>> contexts;
+	/**
+	 * The {@link CommandAnalytics} which counts all command invocations, or null if analytics are disabled.
+	 *
+	 * @see DIH4JDABuilder#enableAnalytics(java.nio.file.Path, Duration)
+	 */
+	private final CommandAnalytics analytics;
+
+	/**
+	 * The {@link MemberPermissionCache}, or null if members are not cached.
+	 */
+	private final MemberPermissionCache memberCache;
 
 	/**
-	 * Constructs a new {@link InteractionHandler} from the supplied commands package.
+	 * The ids of all guilds whose toggles changed, but were not yet synced to Discord.
+	 *
+	 * @see DIH4JDABuilder#enableCommandToggleSync(Duration)
+	 */
+	private final Set<Long> pendingToggles = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean toggleSyncScheduled = new AtomicBoolean();
+	private final CommandToggles.Listener toggleListener = (guildId, name, enabled) -> scheduleToggleSync(guildId);
+
+	/**
+	 * The interval in which dropped audit records are reported, so that a full {@link AuditSink} can't flood the log.
+	 */
+	private static final Duration AUDIT_DROP_REPORT_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * The amount of audit records that were dropped, but not yet reported.
+	 *
+	 * @see InteractionHandler#reportDroppedAudits()
+	 */
+	private final LongAdder droppedAudits = new LongAdder();
+	private final AtomicBoolean auditDropReportScheduled = new AtomicBoolean();
+
+	/**
+	 * All ephemeral component listeners, mapped by their full component id.
+	 *
+	 * @see InteractionHandler#addComponentListener(Class, Duration, Consumer)
+	 */
+	private volatile BoundedExpiringMap<String, ComponentListener<?>> componentListeners;
+
+	/**
+	 * All interactions and text commands that are currently being handled, mapped to the completion of their handling.
+	 *
+	 * @see InteractionHandler#shutdown(Duration)
+	 */
+	private final Map<Object, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether new interactions are handled. This is disabled once the shutdown began.
+	 */
+	private volatile boolean accepting = true;
+
+	/**
+	 * The amount of dispatches that checked (or are about to check) {@link InteractionHandler#accepting}, but did not
+	 * yet add themselves to {@link InteractionHandler#inFlight}. The shutdown waits for this to reach zero, so that
+	 * no accepted interaction is missed.
+	 */
+	private final AtomicInteger admitting = new AtomicInteger();
+
+	/**
+	 * The amount of interactions that were received after the shutdown began.
+	 */
+	private final AtomicInteger rejected = new AtomicInteger();
+
+	/**
+	 * Whether the dispatch path was already warmed up.
+	 *
+	 * @see InteractionHandler#warmup(int, Duration)
+	 */
+	private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+	/**
+	 * All discovered commands. Each class is only instantiated once, so that repeated registrations reuse the
+	 * same instances.
+	 * <br>Commands that were unregistered or replaced at runtime are removed, so that they aren't registered again.
+	 */
+	private final List<SlashCommand> commands;
+	private final List<ContextCommand> contexts;
+
+	/**
+	 * The cached registration of each command, which is built once and never modified afterwards.
+	 *
+	 * @see Registration
+	 */
+	private final Map<SlashCommand, Registration<SlashCommandData>> slashRegistrations = new ConcurrentHashMap<>();
+	private final Map<ContextCommand, Registration<CommandData>> contextRegistrations = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new {@link InteractionHandler} from the supplied commands package or {@link CommandRegistry}.
 	 *
 	 * @param dih4jda The {@link DIH4JDA} instance.
 	 */
 	protected InteractionHandler(DIH4JDA dih4jda) throws ReflectiveOperationException {
 		this.dih4jda = dih4jda;
 		config = dih4jda.getConfig();
+		logger = dih4jda.getLogger();
+		orderedExecutor = config.getOrderingKey() == null ? null : new StripedExecutor(config.getExecutor(), config.getOrderingStripes());
+		if (config.getMaxInFlight() > 0) {
+			fairScheduler = new FairScheduler(config.getExecutor(), config.getMaxInFlight());
+			config.getGuildWeights().forEach(fairScheduler::setWeight);
+		} else {
+			fairScheduler = null;
+		}
+		instanceFactory = config.getInstanceFactory() != null ? config.getInstanceFactory() :
+				new ConstructorInstanceFactory(config.getDependencies());
+		analytics = config.getAnalyticsFile() == null ? null :
+				new CommandAnalytics(config.getAnalyticsFile(), config.getAnalyticsFlushInterval(), logger);
+		memberCache = config.getMemberCacheMaxAge() == null ? null : new MemberPermissionCache(config.getMemberCacheMaxAge());
+		if (config.getCommandToggleSyncDelay() != null) config.getCommandToggles().addListener(toggleListener);
 
-		commands = findSlashCommands();
-		contexts = findContextCommands();
-		// remove own implementations
-		contexts.removeAll(List.of(
-				ContextCommand.User.class,
-				ContextCommand.Message.class));
-
-		// initialize indexes
-		slashCommandIndex = new HashMap<>();
-		subcommandIndex = new HashMap<>();
-		messageContextIndex = new HashMap<>();
-		userContextIndex = new HashMap<>();
-		autoCompleteIndex = new HashMap<>();
-		handlerIndex = new HashMap<>();
+		PhaseTimer timer = new PhaseTimer();
+		// declared commands are never instantiated by the handler itself
+		List<SlashCommand> declaredCommands = new ArrayList<>();
+		List<ContextCommand> declaredContexts = new ArrayList<>();
+		Set<Class<?>> declaredClasses = new HashSet<>();
+		for (ExecutableCommand command : config.getCommands()) {
+			if (command instanceof SlashCommand) {
+				declaredCommands.add((SlashCommand) command);
+			} else if (command instanceof ContextCommand) {
+				declaredContexts.add((ContextCommand) command);
+			}
+			declaredClasses.add(getImplementation(command));
+		}
+		InteractionIndex.Builder handlers;
+		List<TextCommand> textCommands;
+		CommandRegistry registry = config.getCommandRegistry();
+		if (registry == null) {
+			// scan the commands package only once, as this is the most expensive part of the discovery
+			Reflections reflections = new Reflections(config.getCommandsPackage());
+			Set<Class<? extends SlashCommand>> commandClasses = new HashSet<>(findSlashCommands(reflections));
+			Set<Class<? extends ContextCommand>> contextClasses = new HashSet<>(findContextCommands(reflections));
+			// remove own implementations
+			contextClasses.removeAll(List.of(
+					ContextCommand.User.class,
+					ContextCommand.Message.class));
+			commandClasses.removeAll(declaredClasses);
+			contextClasses.removeAll(declaredClasses);
+			timer.mark("discovery");
+
+			declaredCommands.addAll(instantiate(commandClasses, SlashCommand.class));
+			declaredContexts.addAll(instantiate(contextClasses, ContextCommand.class));
+			timer.mark("instantiation");
+			handlers = findInteractionsHandlers(reflections);
+			textCommands = config.getTextCommandPrefix() == null ? List.of() :
+					instantiate(findTextCommands(reflections), TextCommand.class);
+		} else {
+			// the registry creates all instances itself, thus, neither scanning nor reflection is needed
+			registry.getSlashCommands().stream()
+					.filter(command -> !declaredClasses.contains(command.getClass()))
+					.forEach(declaredCommands::add);
+			registry.getContextCommands().stream()
+					.filter(command -> !declaredClasses.contains(command.getClass()))
+					.forEach(declaredContexts::add);
+			timer.mark("instantiation");
+			handlers = new InteractionIndex.Builder();
+			build(handlers, registry.getComponentHandlers(), (b, instance) -> {
+				putComponentHandlers(b, instance);
+				return null;
+			});
+			textCommands = config.getTextCommandPrefix() == null ? List.of() : registry.getTextCommands();
+		}
+		for (TextCommand command : textCommands) {
+			putTextCommand(handlers, command);
+		}
+		commands = new CopyOnWriteArrayList<>(declaredCommands);
+		contexts = new CopyOnWriteArrayList<>(declaredContexts);
 
 		// register all interaction handlers
-		findInteractionsHandlers();
+		publish(handlers);
+		timer.mark("component handlers");
+		logger.info(DIH4JDALogger.Type.STARTUP, "Initialized Interaction Handler: %s", timer);
 	}
 
 	/**
@@ -140,30 +369,289 @@ public class InteractionHandler extends ListenerAdapter {
 	 * @throws ReflectiveOperationException If an error occurs.
 	 */
 	public void registerInteractions() throws ReflectiveOperationException {
+		PhaseTimer timer = new PhaseTimer();
+		List<SlashCommand> slashCommands = new ArrayList<>(commands);
+		List<ContextCommand> contextCommands = new ArrayList<>(contexts);
+		// commands that were registered at runtime come last
+		for (ExecutableCommand command : runtimeCommands) {
+			if (command instanceof SlashCommand) {
+				slashCommands.add((SlashCommand) command);
+			} else if (command instanceof ContextCommand) {
+				contextCommands.add((ContextCommand) command);
+			}
+		}
+		InteractionIndex.Builder builder = new InteractionIndex.Builder();
+		Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> data = new Pair<>(
+				build(builder, slashCommands, this::getSlashCommandData),
+				build(builder, contextCommands, this::getContextCommandData));
+		timer.mark("command data");
+		// publish the new index before queueing any commands, so that they can be handled right away
+		publish(builder);
+		if ((config.getWarmupIterations() > 0 || config.getWarmupBudget() != null) && warmedUp.compareAndSet(false, true)) {
+			// this is usually called on JDA's event thread, which must neither be blocked nor delay the registration
+			Thread warmup = new Thread(() -> warmup(config.getWarmupIterations(), config.getWarmupBudget()), "DIH4JDA-Warmup");
+			warmup.setDaemon(true);
+			warmup.start();
+		}
 		// register commands for each guild
-		Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> data = new Pair<>(getSlashCommandData(), getContextCommandData());
+		int guilds = 0, queued = 0, skipped = 0;
+		Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> allGuildData = CommandUtils.filterByType(data, RegistrationType.GUILD);
 		for (Guild guild : config.getJDA().getGuilds()) {
-			Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> guildData = CommandUtils.filterByType(data, RegistrationType.GUILD);
+			Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> guildData = allGuildData;
 			// check if smart queuing is enabled
 			if (config.isGuildSmartQueue()) {
-				guildData = SmartQueue.checkGuild(guild, guildData.getFirst(), guildData.getSecond(), config.isDeleteUnknownCommands());
+				guildData = SmartQueue.checkGuild(logger, guild, guildData.getFirst(), guildData.getSecond(), config.isDeleteUnknownCommands());
 			}
 			// upsert all guild commands
 			if (!guildData.getFirst().isEmpty() || !guildData.getSecond().isEmpty()) {
-				upsert(guild, guildData.getFirst(), guildData.getSecond());
+				int count = upsert(guild, guildData.getFirst(), guildData.getSecond());
+				if (count > 0) guilds++;
+				queued += count;
+				skipped += guildData.getFirst().size() + guildData.getSecond().size() - count;
 			}
 		}
+		// summarize instead of logging each guild, as this may be thousands of lines on larger bots
+		if (queued > 0) {
+			logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, "Queued %s guild command(s) in %s guild(s)", queued, guilds);
+		}
+		if (skipped > 0) {
+			logger.info(DIH4JDALogger.Type.SLASH_COMMAND_SKIPPED, "Skipped %s guild command registration(s), as the commands are not enabled in the respective guilds", skipped);
+		}
+		timer.mark("guild commands");
 		Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> globalData = CommandUtils.filterByType(data, RegistrationType.GLOBAL);
+		RegistrationCoordinator coordinator = config.getRegistrationCoordinator();
+		if (coordinator == null) {
+			upsertGlobal(globalData).forEach(RestAction::queue);
+		} else {
+			registerGlobal(coordinator, globalData);
+		}
+		timer.mark("global commands");
+		logger.info(DIH4JDALogger.Type.STARTUP, "Registered interactions: %s", timer);
+	}
+
+	/**
+	 * Registers all global commands, if this node holds the registration lease and the commands' fingerprint was not
+	 * yet published by any other node. The lease is held until all commands were actually registered, without
+	 * blocking the calling thread while waiting for Discord.
+	 *
+	 * @param coordinator The {@link RegistrationCoordinator}.
+	 * @param globalData  All global commands.
+	 * @see DIH4JDABuilder#setRegistrationCoordinator(RegistrationCoordinator)
+	 * @since v1.6
+	 */
+	private void registerGlobal(RegistrationCoordinator coordinator, Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> globalData) {
+		List<CommandData> commands = new ArrayList<>();
+		globalData.getFirst().forEach(d -> commands.add(d.getData()));
+		globalData.getSecond().forEach(d -> commands.add(d.getData()));
+		String fingerprint = CommandUtils.fingerprint(commands);
+		RegistrationCoordinator.Lease lease = null;
+		try {
+			if (fingerprint.equals(coordinator.getPublishedFingerprint())) {
+				logger.info(DIH4JDALogger.Type.SMART_QUEUE, "Global commands are up to date (%s), skipping registration", fingerprint);
+				return;
+			}
+			lease = coordinator.tryAcquire();
+			if (lease == null) {
+				logger.info(DIH4JDALogger.Type.SMART_QUEUE, "Global commands are being registered by another node, skipping registration");
+				return;
+			}
+			// another node may have finished the registration in the meantime
+			if (fingerprint.equals(coordinator.getPublishedFingerprint())) {
+				release(lease, null);
+				return;
+			}
+			List<RestAction<Command>> upserts = upsertGlobal(globalData);
+			if (upserts.isEmpty()) {
+				release(lease, fingerprint);
+				return;
+			}
+			RegistrationCoordinator.Lease held = lease;
+			RestAction.allOf(upserts).submit().whenComplete((registered, failure) -> {
+				if (failure != null) {
+					logger.error(DIH4JDALogger.Type.ERROR, "Could not register global commands: %s", failure.getMessage());
+				}
+				release(held, failure == null ? fingerprint : null);
+			});
+		} catch (IOException | RuntimeException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not register global commands: %s", e.getMessage());
+			if (lease != null) release(lease, null);
+		}
+	}
+
+	/**
+	 * Publishes the given fingerprint (if any) and closes the given lease.
+	 *
+	 * @param lease       The {@link RegistrationCoordinator.Lease}.
+	 * @param fingerprint The fingerprint of the registered commands, or null if nothing should be published.
+	 * @since v1.6
+	 */
+	private void release(RegistrationCoordinator.Lease lease, @Nullable String fingerprint) {
+		try (lease) {
+			if (fingerprint != null) lease.publish(fingerprint);
+		} catch (IOException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not release registration lease: %s", e.getMessage());
+		}
+	}
+
+	/**
+	 * Runs the SmartQueue (if enabled) for all global commands and creates the upserts of the remaining ones.
+	 *
+	 * @param globalData All global commands.
+	 * @return The unqueued upserts of all global commands that need to be registered.
+	 */
+	private List<RestAction<Command>> upsertGlobal(Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> globalData) {
 		// check if smart queuing is enabled
 		if (config.isGlobalSmartQueue()) {
-			globalData = SmartQueue.checkGlobal(config.getJDA(), globalData.getFirst(), globalData.getSecond(), config.isDeleteUnknownCommands());
+			globalData = SmartQueue.checkGlobal(logger, config.getJDA(), globalData.getFirst(), globalData.getSecond(), config.isDeleteUnknownCommands());
 		}
+		if (globalData.getFirst().isEmpty() && globalData.getSecond().isEmpty()) return List.of();
 		// upsert all global commands
-		if (!globalData.getFirst().isEmpty() || !globalData.getSecond().isEmpty()) {
-			upsert(config.getJDA(), globalData.getFirst(), globalData.getSecond());
-			DIH4JDALogger.info(String.format("Queued %s global command(s): %s", globalData.getFirst().size() + globalData.getSecond().size(),
-					CommandUtils.getNames(globalData.getSecond(), globalData.getFirst())), DIH4JDALogger.Type.COMMANDS_QUEUED);
+		Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> queuedData = globalData;
+		logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, () -> String.format("Queued %s global command(s): %s", queuedData.getFirst().size() + queuedData.getSecond().size(),
+				CommandUtils.getNames(queuedData.getSecond(), queuedData.getFirst())));
+		return upsert(config.getJDA(), globalData.getFirst(), globalData.getSecond());
+	}
+
+	/**
+	 * Registers a single {@link SlashCommand} at runtime, without re-registering any other interaction.
+	 * The command is only queued in its own scope: either globally or in the guilds returned by
+	 * {@link ExecutableCommand#getGuilds(JDA)}.
+	 *
+	 * @param command The {@link SlashCommand} to register.
+	 * @since v1.6
+	 */
+	public void registerCommand(@NotNull SlashCommand command) {
+		InteractionIndex.Builder builder = new InteractionIndex.Builder();
+		UnqueuedSlashCommandData data = getSlashCommandData(builder, command);
+		if (data == null) return;
+		publish(builder);
+		// a command with the same name replaces the previous one, even if it was discovered; from now on, the command
+		// is only registered as a runtime command
+		String name = data.getData().getName();
+		commands.removeIf(c -> isSameCommand(c, Command.Type.SLASH, name));
+		slashRegistrations.keySet().removeIf(c -> c != command && isSameCommand(c, Command.Type.SLASH, name));
+		runtimeCommands.removeIf(c -> c != command && isSameCommand(c, Command.Type.SLASH, name));
+		runtimeCommands.add(command);
+		if (data.getType() == RegistrationType.GLOBAL) {
+			config.getJDA().upsertCommand(data.getData()).queue();
+		} else {
+			data.getGuilds().forEach(guild -> guild.upsertCommand(data.getData()).queue());
+		}
+		logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, "Queued command at runtime: /%s (%s)", data.getData().getName(), data.getType().name());
+	}
+
+	/**
+	 * Registers a single {@link ContextCommand} at runtime, without re-registering any other interaction.
+	 * The command is only queued in its own scope: either globally or in the guilds returned by
+	 * {@link ExecutableCommand#getGuilds(JDA)}.
+	 *
+	 * @param command The {@link ContextCommand} to register.
+	 * @since v1.6
+	 */
+	public void registerCommand(@NotNull ContextCommand command) {
+		InteractionIndex.Builder builder = new InteractionIndex.Builder();
+		UnqueuedCommandData data = getContextCommandData(builder, command);
+		if (data == null) return;
+		publish(builder);
+		Command.Type type = data.getData().getType();
+		String name = data.getData().getName();
+		contexts.removeIf(c -> isSameCommand(c, type, name));
+		contextRegistrations.keySet().removeIf(c -> c != command && isSameCommand(c, type, name));
+		runtimeCommands.removeIf(c -> c != command && isSameCommand(c, type, name));
+		runtimeCommands.add(command);
+		if (data.getType() == RegistrationType.GLOBAL) {
+			config.getJDA().upsertCommand(data.getData()).queue();
+		} else {
+			data.getGuilds().forEach(guild -> guild.upsertCommand(data.getData()).queue());
 		}
+		logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, "Queued context command at runtime: %s (%s)", data.getData().getName(), data.getType().name());
+	}
+
+	/**
+	 * Removes a single {@link SlashCommand} at runtime. The command (including all of its Subcommands and component
+	 * identifiers) is removed from the index and deleted from its own scope only.
+	 * <br>Commands are matched by their name, thus, the given instance doesn't need to be the registered one.
+	 * Discovered commands are removed as well and won't be registered again by {@link InteractionHandler#registerInteractions()}.
+	 *
+	 * @param command The {@link SlashCommand} to unregister.
+	 * @since v1.6
+	 */
+	public void unregisterCommand(@NotNull SlashCommand command) {
+		if (command.getSlashCommandData() == null) return;
+		String name = command.getSlashCommandData().getName();
+		index.updateAndGet(current -> current.toBuilder().removeCommand(Command.Type.SLASH, name).build());
+		commands.removeIf(c -> isSameCommand(c, Command.Type.SLASH, name));
+		runtimeCommands.removeIf(c -> isSameCommand(c, Command.Type.SLASH, name));
+		slashRegistrations.keySet().removeIf(c -> isSameCommand(c, Command.Type.SLASH, name));
+		delete(command, name, Command.Type.SLASH);
+	}
+
+	/**
+	 * Removes a single {@link ContextCommand} at runtime. The command (including all of its component identifiers)
+	 * is removed from the index and deleted from its own scope only.
+	 * <br>Commands are matched by their name and type, thus, the given instance doesn't need to be the registered one.
+	 * Discovered commands are removed as well and won't be registered again by {@link InteractionHandler#registerInteractions()}.
+	 *
+	 * @param command The {@link ContextCommand} to unregister.
+	 * @since v1.6
+	 */
+	public void unregisterCommand(@NotNull ContextCommand command) {
+		if (command.getCommandData() == null) return;
+		Command.Type type = command.getCommandData().getType();
+		String name = command.getCommandData().getName();
+		index.updateAndGet(current -> current.toBuilder().removeCommand(type, name).build());
+		contexts.removeIf(c -> isSameCommand(c, type, name));
+		runtimeCommands.removeIf(c -> isSameCommand(c, type, name));
+		contextRegistrations.keySet().removeIf(c -> isSameCommand(c, type, name));
+		delete(command, name, type);
+	}
+
+	/**
+	 * @param command The {@link ExecutableCommand}.
+	 * @param type    The {@link Command.Type} to compare with.
+	 * @param name    The name to compare with.
+	 * @return Whether the given command has the given type and name.
+	 */
+	private static boolean isSameCommand(ExecutableCommand command, Command.Type type, String name) {
+		if (command instanceof SlashCommand) {
+			SlashCommandData data = ((SlashCommand) command).getSlashCommandData();
+			return type == Command.Type.SLASH && data != null && data.getName().equals(name);
+		}
+		if (command instanceof ContextCommand) {
+			CommandData data = ((ContextCommand) command).getCommandData();
+			return data != null && data.getType() == type && data.getName().equals(name);
+		}
+		return false;
+	}
+
+	/**
+	 * Deletes all commands with the given name and type in the scope of the given command.
+	 *
+	 * @param command The {@link ExecutableCommand}, which is used to determine the scope.
+	 * @param name    The command's name.
+	 * @param type    The command's {@link Command.Type}.
+	 */
+	private void delete(@NotNull ExecutableCommand command, String name, Command.Type type) {
+		Consumer<List<Command>> deleteMatching = existing -> existing.stream()
+				.filter(c -> c.getType() == type && c.getName().equals(name))
+				.forEach(c -> c.delete().queue());
+		if (command.getRegistrationType() == RegistrationType.GLOBAL) {
+			config.getJDA().retrieveCommands().queue(deleteMatching);
+		} else {
+			command.getGuilds(config.getJDA()).forEach(guild -> guild.retrieveCommands().queue(deleteMatching));
+		}
+		logger.info(DIH4JDALogger.Type.COMMANDS_QUEUED, "Deleting %s command at runtime: %s (%s)", type, name, command.getRegistrationType().name());
+	}
+
+	/**
+	 * Merges the given {@link InteractionIndex.Builder} into the current index and atomically publishes the result.
+	 * Each command of the given builder replaces all entries of the command with the same name, instead of being
+	 * merged with them.
+	 *
+	 * @param builder The {@link InteractionIndex.Builder} whose entries should be published.
+	 */
+	private void publish(@NotNull InteractionIndex.Builder builder) {
+		index.updateAndGet(current -> current.toBuilder().replaceAll(builder).build());
 	}
 
 	/**
@@ -172,10 +660,13 @@ public class InteractionHandler extends ListenerAdapter {
 	 * @param jda         The {@link JDA} instance.
 	 * @param slashData   A set of {@link SlashCommandData}.
 	 * @param commandData A set of {@link CommandData},
+	 * @return The unqueued upserts.
 	 */
-	private void upsert(JDA jda, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData) {
-		slashData.forEach(data -> jda.upsertCommand(data.getData()).queue());
-		commandData.forEach(data -> jda.upsertCommand(data.getData()).queue());
+	private List<RestAction<Command>> upsert(JDA jda, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData) {
+		List<RestAction<Command>> upserts = new ArrayList<>();
+		slashData.forEach(data -> upserts.add(jda.upsertCommand(data.getData())));
+		commandData.forEach(data -> upserts.add(jda.upsertCommand(data.getData())));
+		return upserts;
 	}
 
 	/**
@@ -184,29 +675,27 @@ public class InteractionHandler extends ListenerAdapter {
 	 * @param guild       The {@link Guild}.
 	 * @param slashData   A set of {@link SlashCommandData}.
 	 * @param commandData A set of {@link CommandData},
+	 * @return The amount of commands that were queued. All others are not enabled in the given guild.
 	 */
-	private void upsert(Guild guild, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData) {
-		StringBuilder commandNames = new StringBuilder();
+	private int upsert(Guild guild, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData) {
+		List<String> commandNames = new ArrayList<>();
 		slashData.forEach(data -> {
 			if (data.getGuilds().contains(guild)) {
 				guild.upsertCommand(data.getData()).queue();
-				commandNames.append(", /").append(data.getData().getName());
-			} else {
-				DIH4JDALogger.info("Skipping Registration of /" + data.getData().getName() + " for Guild: " + guild.getName(), DIH4JDALogger.Type.SLASH_COMMAND_SKIPPED);
+				commandNames.add("/" + data.getData().getName());
 			}
 		});
 		commandData.forEach(data -> {
 			if (data.getGuilds().contains(guild)) {
 				guild.upsertCommand(data.getData()).queue();
-				commandNames.append(", ").append(data.getData().getName());
-			} else {
-				DIH4JDALogger.info("Skipping Registration of " + data.getData().getName() + " for Guild: " + guild.getName(), DIH4JDALogger.Type.SLASH_COMMAND_SKIPPED);
+				commandNames.add(data.getData().getName());
 			}
 		});
-		if (!commandNames.toString().isEmpty()) {
-			DIH4JDALogger.info(String.format("Queued %s command(s) in guild %s: %s", slashData.size() + commandData.size(), guild.getName(),
-					commandNames.substring(2)), DIH4JDALogger.Type.COMMANDS_QUEUED);
+		if (!commandNames.isEmpty()) {
+			logger.debug(DIH4JDALogger.Type.COMMANDS_QUEUED, () -> String.format("Queued %s command(s) in guild %s: %s",
+					commandNames.size(), guild.getName(), String.join(", ", commandNames)));
 		}
+		return commandNames.size();
 	}
 
 	/**
@@ -214,8 +703,7 @@ public class InteractionHandler extends ListenerAdapter {
 	 * Loops through all classes found in the commands package that is a subclass of
 	 * {@link SlashCommand}.
 	 */
-	private Set<Class<? extends SlashCommand>> findSlashCommands() {
-		Reflections classes = new Reflections(config.getCommandsPackage());
+	private Set<Class<? extends SlashCommand>> findSlashCommands(Reflections classes) {
 		return classes.getSubTypesOf(SlashCommand.class);
 	}
 
@@ -224,79 +712,254 @@ public class InteractionHandler extends ListenerAdapter {
 	 * Loops through all classes found in the commands package that is a subclass of
 	 * {@link ContextCommand}.
 	 */
-	private Set<Class<? extends ContextCommand>> findContextCommands() {
-		Reflections classes = new Reflections(config.getCommandsPackage());
+	private Set<Class<? extends ContextCommand>> findContextCommands(Reflections classes) {
 		return classes.getSubTypesOf(ContextCommand.class);
 	}
 
 	/**
-	 * Finds all Interaction Handlers and adds them to their corresponding index.
+	 * Finds all Text Commands using the {@link Reflections} API.
+	 * Loops through all classes found in the commands package that is a subclass of
+	 * {@link TextCommand}.
+	 *
+	 * @since v1.6
 	 */
-	private void findInteractionsHandlers() throws ReflectiveOperationException {
-		Reflections classes = new Reflections(config.getCommandsPackage());
-		Set<Class<? extends ComponentHandler>> handler = classes.getSubTypesOf(ComponentHandler.class);
+	private Set<Class<? extends TextCommand>> findTextCommands(Reflections classes) {
+		Set<Class<? extends TextCommand>> commands = new HashSet<>(classes.getSubTypesOf(TextCommand.class));
+		commands.removeIf(c -> Modifier.isAbstract(c.getModifiers()));
+		return commands;
+	}
+
+	/**
+	 * Finds all Interaction Handlers and adds them to a new {@link InteractionIndex.Builder}.
+	 *
+	 * @param classes The {@link Reflections} of the commands package.
+	 * @return The {@link InteractionIndex.Builder} containing all Interaction Handlers.
+	 */
+	private InteractionIndex.Builder findInteractionsHandlers(Reflections classes) throws ReflectiveOperationException {
+		Set<Class<? extends ComponentHandler>> handler = new HashSet<>(classes.getSubTypesOf(ComponentHandler.class));
 		// remove own implementations
 		List.of(CommandRequirements.class, ExecutableCommand.class, ContextCommand.class,
-						ContextCommand.Message.class, ContextCommand.User.class, SlashCommand.class, SlashCommand.Subcommand.class)
+						ContextCommand.Message.class, ContextCommand.User.class, SlashCommand.class, SlashCommand.Subcommand.class, TextCommand.class)
 				.forEach(handler::remove);
-		for (Class<? extends ComponentHandler> c : handler) {
-			if (ClassUtils.doesImplement(c, SlashCommand.class) || ClassUtils.doesImplement(c, SlashCommand.Subcommand.class) ||
-					ClassUtils.doesImplement(c, ContextCommand.class) || !Checks.checkEmptyConstructor(c) || Modifier.isAbstract(c.getModifiers())) continue;
-			putComponentHandlers((ComponentHandler) ClassUtils.getInstance(c));
-		}
+		handler.removeIf(c -> ClassUtils.doesImplement(c, SlashCommand.class) || ClassUtils.doesImplement(c, SlashCommand.Subcommand.class) ||
+				ClassUtils.doesImplement(c, ContextCommand.class) || ClassUtils.doesImplement(c, TextCommand.class) || Modifier.isAbstract(c.getModifiers()));
+		InteractionIndex.Builder builder = new InteractionIndex.Builder();
+		build(builder, instantiate(handler, ComponentHandler.class), (b, instance) -> {
+			putComponentHandlers(b, instance);
+			return null;
+		});
+		return builder;
 	}
 
 	/**
-	 * Gets all Commands that were found in {@link InteractionHandler#findSlashCommands()} and adds
-	 * them to the {@link InteractionHandler#slashCommandIndex}.
+	 * Instantiates all given classes in parallel. Classes that can't be instantiated (e.g. as they don't have a
+	 * public constructor whose parameters can all be resolved, or as their constructor fails) are ignored.
 	 *
-	 * @throws ReflectiveOperationException If an error occurs.
+	 * @param classes The classes to instantiate.
+	 * @param type    The common type of all classes.
+	 * @param <T>     The common type of all classes.
+	 * @return All instances, sorted by their class' name, so that the result does not depend on the order of discovery.
+	 * @since v1.6
+	 */
+	private <T> List<T> instantiate(Set<Class<? extends T>> classes, Class<T> type) {
+		List<Class<? extends T>> sorted = new ArrayList<>(classes);
+		sorted.removeIf(c -> Modifier.isAbstract(c.getModifiers()) || !canInstantiate(c));
+		sorted.sort(Comparator.comparing(Class::getName));
+		// constructors may load resources, so they are run on the fork-join pool
+		return sorted.parallelStream()
+				.map(c -> {
+					try {
+						return type.cast(instanceFactory.newInstance(c));
+					} catch (ReflectiveOperationException | RuntimeException e) {
+						Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+						logger.error(DIH4JDALogger.Type.ERROR, "Could not instantiate %s: %s. It will be ignored.", c.getSimpleName(), cause);
+						return null;
+					}
+				})
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @param type The class to check.
+	 * @return Whether the {@link InstanceFactory} is able to instantiate the given class.
+	 * @since v1.6
 	 */
-	private Set<UnqueuedSlashCommandData> getSlashCommandData() throws ReflectiveOperationException {
-		Set<UnqueuedSlashCommandData> data = new HashSet<>();
-		for (Class<? extends SlashCommand> c : commands) {
-			SlashCommand instance = (SlashCommand) ClassUtils.getInstance(c);
-			if (instance != null) {
-				UnqueuedSlashCommandData unqueuedData = new UnqueuedSlashCommandData(getBaseCommandData(instance, c), instance.getRegistrationType());
-				if (instance.getRegistrationType() == RegistrationType.GUILD) {
-					unqueuedData.setGuilds(instance.getGuilds(dih4jda.getConfig().getJDA()));
+	private boolean canInstantiate(Class<?> type) {
+		if (instanceFactory.canInstantiate(type)) return true;
+		logger.warn(DIH4JDALogger.Type.WARN, "Class %s does not have a public constructor whose parameters can all be resolved. It will be ignored.", type.getName());
+		return false;
+	}
+
+	/**
+	 * Runs the pure parts of the dispatch path (index lookups, component id parsing, toggles and requirement checks)
+	 * for all commands and components of the current index, one after another, so that these are compiled before the
+	 * first real interactions arrive. This uses the actual command and component instances, but neither events nor
+	 * the executor, thus, the compiled call sites only ever see the types real interactions use and no real
+	 * interaction has to compete with the warmup for a thread.
+	 * This stops once either limit is reached or the handler shuts down.
+	 *
+	 * @param iterations The amount of iterations, or 0 if only the budget applies.
+	 * @param budget     How long the warmup may run at most, or null if only the iterations apply.
+	 * @since v1.6
+	 */
+	private void warmup(int iterations, @Nullable Duration budget) {
+		InteractionIndex index = this.index.get();
+		CommandToggles toggles = config.getCommandToggles();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long guildId = random.nextLong(1, Long.MAX_VALUE);
+		List<BiFunction<Integer, MemberSnapshot, RequirementEvaluator.Result>> drivers = new ArrayList<>();
+		List<String> slashPaths = new ArrayList<>(index.getSlashCommands().keySet());
+		slashPaths.addAll(index.getSubcommands().keySet());
+		for (String path : slashPaths) {
+			String key = CommandToggles.getKey(Command.Type.SLASH, path.split("/")[0]);
+			drivers.add((i, member) -> {
+				SlashCommand command = index.getSlashCommands().get(path);
+				CommandRequirements req = command != null ? command : index.getSubcommands().get(path);
+				return evaluate(toggles, guildId, key, req, i, member);
+			});
+		}
+		for (String path : index.getUserContexts().keySet()) {
+			String key = CommandToggles.getKey(Command.Type.USER, path);
+			drivers.add((i, member) -> evaluate(toggles, guildId, key, index.getUserContexts().get(path), i, member));
+		}
+		for (String path : index.getMessageContexts().keySet()) {
+			String key = CommandToggles.getKey(Command.Type.MESSAGE, path);
+			drivers.add((i, member) -> evaluate(toggles, guildId, key, index.getMessageContexts().get(path), i, member));
+		}
+		for (String id : index.getComponentHandlers().keySet()) {
+			drivers.add((i, member) -> {
+				String parsed = ComponentIdBuilder.split(ComponentIdBuilder.build(id, i))[0];
+				ComponentHandler handler = index.getComponentHandlers().get(parsed);
+				String owner = index.getComponentOwners().get(parsed);
+				if (owner != null && !toggles.isEnabled(guildId, owner)) return RequirementEvaluator.Result.PASSED;
+				return handler instanceof CommandRequirements ? RequirementEvaluator.evaluate((CommandRequirements) handler, i, member) :
+						RequirementEvaluator.Result.PASSED;
+			});
+		}
+		if (drivers.isEmpty()) return;
+		// users in direct messages, as well as members without roles, with some roles and with all permissions
+		MemberSnapshot[] members = {null, new MemberSnapshot(0),
+				new MemberSnapshot(random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong()),
+				new MemberSnapshot(Permission.ALL_PERMISSIONS, random.nextLong())};
+		long start = System.nanoTime();
+		long deadline = budget == null ? Long.MAX_VALUE : start + budget.toNanos();
+		int limit = iterations > 0 ? iterations : Integer.MAX_VALUE;
+		int i = 0, passed = 0;
+		try {
+			for (; i < limit && accepting && (budget == null || System.nanoTime() < deadline); i++) {
+				if (drivers.get(i % drivers.size()).apply(i, members[i % members.length]) == RequirementEvaluator.Result.PASSED) {
+					passed++;
 				}
-				data.add(unqueuedData);
-			}
-			if (ClassUtils.doesImplement(c, ComponentHandler.class)) {
-				putComponentHandlers(instance);
 			}
+		} catch (RuntimeException e) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Stopped warmup after %s iteration(s): %s", i, e.getMessage());
+			return;
+		}
+		logger.info(DIH4JDALogger.Type.STARTUP, "Warmed up dispatch path with %s iteration(s) (%s passed) in %sms", i, passed,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/**
+	 * Checks the toggle and the requirements of a single command, just like
+	 * {@link InteractionHandler#checkRequirements(CommandInteraction, CommandRequirements)} does for real interactions.
+	 *
+	 * @return The {@link RequirementEvaluator.Result}, or {@link RequirementEvaluator.Result#PASSED} if the command is
+	 * disabled.
+	 * @see InteractionHandler#warmup(int, Duration)
+	 * @since v1.6
+	 */
+	private static RequirementEvaluator.Result evaluate(CommandToggles toggles, long guildId, String key,
+														CommandRequirements req, long userId, @Nullable MemberSnapshot member) {
+		if (member != null && !toggles.isEnabled(guildId, key)) return RequirementEvaluator.Result.PASSED;
+		return RequirementEvaluator.evaluate(req, userId, member);
+	}
+
+	/**
+	 * Builds the data of all given instances in parallel. Each instance is added to its own
+	 * {@link InteractionIndex.Builder}; these are then merged into the given builder in the order of the instances,
+	 * so that the resulting index is deterministic.
+	 *
+	 * @param builder   The {@link InteractionIndex.Builder} all instances are merged into.
+	 * @param instances The instances.
+	 * @param factory   Builds the data of a single instance and adds the instance to the given builder.
+	 * @param <T>       The type of the instances.
+	 * @param <D>       The type of the data.
+	 * @return The data of all instances, in the order of the instances. Instances whose data is null are skipped.
+	 * @since v1.6
+	 */
+	private <T, D> Set<D> build(InteractionIndex.Builder builder, List<? extends T> instances, BiFunction<InteractionIndex.Builder, T, D> factory) {
+		List<Pair<InteractionIndex.Builder, D>> results = instances.parallelStream()
+				.map(instance -> {
+					InteractionIndex.Builder own = new InteractionIndex.Builder();
+					return new Pair<>(own, factory.apply(own, instance));
+				})
+				.collect(Collectors.toList());
+		Set<D> data = new LinkedHashSet<>();
+		for (Pair<InteractionIndex.Builder, D> result : results) {
+			builder.putAll(result.getFirst());
+			if (result.getSecond() != null) data.add(result.getSecond());
 		}
 		return data;
 	}
 
+	/**
+	 * Gets the {@link UnqueuedSlashCommandData} of a single {@link SlashCommand} and adds the command to the
+	 * given {@link InteractionIndex.Builder}.
+	 *
+	 * @param builder  The {@link InteractionIndex.Builder} the command is added to.
+	 * @param instance The command's instance.
+	 * @return The {@link UnqueuedSlashCommandData}, or null if the command is missing its data.
+	 */
+	private @Nullable UnqueuedSlashCommandData getSlashCommandData(InteractionIndex.Builder builder, @NotNull SlashCommand instance) {
+		Registration<SlashCommandData> registration = slashRegistrations.computeIfAbsent(instance, command -> {
+			InteractionIndex.Builder own = new InteractionIndex.Builder();
+			SlashCommandData commandData = getBaseCommandData(own, command, getImplementation(command));
+			if (commandData != null) {
+				putComponentHandlers(own, command);
+				own.setOwner(Command.Type.SLASH, commandData.getName());
+			}
+			return new Registration<>(own, commandData);
+		});
+		builder.putAll(registration.getEntries());
+		if (registration.getData() == null) return null;
+		UnqueuedSlashCommandData unqueuedData = new UnqueuedSlashCommandData(registration.getData(), instance.getRegistrationType());
+		// guilds may change between registrations, thus, they are never cached
+		if (instance.getRegistrationType() == RegistrationType.GUILD) {
+			unqueuedData.setGuilds(instance.getGuilds(dih4jda.getConfig().getJDA()));
+		}
+		return unqueuedData;
+	}
+
 	/**
 	 * Gets the complete {@link SlashCommandData} (including Subcommands & Subcommand Groups) of a single {@link SlashCommand}.
 	 *
+	 * @param builder      The {@link InteractionIndex.Builder} the command is added to.
 	 * @param command      The base command's instance.
 	 * @param commandClass The base command's class.
 	 * @return The new {@link CommandListUpdateAction}.
-	 * @throws ReflectiveOperationException If an error occurs.
 	 */
-	private SlashCommandData getBaseCommandData(@NotNull SlashCommand command, Class<? extends SlashCommand> commandClass) throws ReflectiveOperationException {
+	private SlashCommandData getBaseCommandData(InteractionIndex.Builder builder, @NotNull SlashCommand command, Class<?> commandClass) {
 		// find component (and modal) handlers
 		if (command.getSlashCommandData() == null) {
-			DIH4JDALogger.warn(String.format("Class %s is missing CommandData. It will be ignored.", commandClass.getName()));
+			logger.warn(DIH4JDALogger.Type.WARN, "Class %s is missing CommandData. It will be ignored.", commandClass.getName());
 			return null;
 		}
-		SlashCommandData commandData = command.getSlashCommandData();
+		// work on a copy, so that the command's own data is never modified
+		SlashCommandData commandData = SlashCommandData.fromData(command.getSlashCommandData().toData());
 		if (command.getSubcommandGroups() != null && !command.getSubcommandGroups().isEmpty()) {
-			commandData.addSubcommandGroups(getSubcommandGroupData(command));
+			commandData.addSubcommandGroups(getSubcommandGroupData(builder, command));
 		}
 		if (command.getSubcommands() != null && !command.getSubcommands().isEmpty()) {
-			commandData.addSubcommands(getSubcommandData(command, command.getSubcommands(), null));
+			commandData.addSubcommands(getSubcommandData(builder, command, command.getSubcommands(), null));
 		}
 		if (command.getSubcommandGroups() != null && command.getSubcommandGroups().isEmpty()
 				&& command.getSubcommands() != null && command.getSubcommands().isEmpty()) {
-			slashCommandIndex.put(CommandUtils.buildCommandPath(commandData.getName()), command);
-			DIH4JDALogger.info(String.format("\t[*] Registered command: /%s (%s)", command.getSlashCommandData().getName(), command.getRegistrationType().name()), DIH4JDALogger.Type.SLASH_COMMAND_REGISTERED);
-			if (command.isAutoCompleteHandling() && Checks.checkImplementation(command.getClass(), AutoCompletable.class)) {
-				autoCompleteIndex.put(commandData.getName(), (AutoCompletable) command);
+			builder.putSlashCommand(CommandUtils.buildCommandPath(commandData.getName()), command);
+			putOptionBinder(builder, commandData.getName(), command, commandData.getOptions(), commandData::addOptions);
+			logger.info(DIH4JDALogger.Type.SLASH_COMMAND_REGISTERED, "\t[*] Registered command: /%s (%s)", command.getSlashCommandData().getName(), command.getRegistrationType().name());
+			if (command.isAutoCompleteHandling() && Checks.checkImplementation(logger, getImplementation(command), AutoCompletable.class)) {
+				builder.putAutoCompletable(commandData.getName(), (AutoCompletable) command);
 			}
 		}
 		return commandData;
@@ -305,24 +968,24 @@ public class InteractionHandler extends ListenerAdapter {
 	/**
 	 * Gets all {@link SubcommandGroupData} (including Subcommands) of a single {@link SlashCommand}.
 	 *
+	 * @param builder The {@link InteractionIndex.Builder} the subcommands are added to.
 	 * @param command The base command's instance.
 	 * @return All {@link SubcommandGroupData} stored in a List.
-	 * @throws ReflectiveOperationException If an error occurs.
 	 */
-	private Set<SubcommandGroupData> getSubcommandGroupData(@NotNull SlashCommand command) throws ReflectiveOperationException {
+	private Set<SubcommandGroupData> getSubcommandGroupData(InteractionIndex.Builder builder, @NotNull SlashCommand command) {
 		Set<SubcommandGroupData> groupDataList = new HashSet<>();
 		for (Map.Entry<SubcommandGroupData, Set<SlashCommand.Subcommand>> group : command.getSubcommandGroups().entrySet()) {
 			if (group != null) {
 				if (group.getKey() == null) {
-					DIH4JDALogger.warn(String.format("Class %s is missing SubcommandGroupData. It will be ignored.", group.getClass().getSimpleName()));
+					logger.warn(DIH4JDALogger.Type.WARN, "Class %s is missing SubcommandGroupData. It will be ignored.", group.getClass().getSimpleName());
 					continue;
 				}
 				if (group.getValue() == null || group.getValue().isEmpty()) {
-					DIH4JDALogger.warn(String.format("SubcommandGroup %s is missing Subcommands. It will be ignored.", group.getKey().getName()));
+					logger.warn(DIH4JDALogger.Type.WARN, "SubcommandGroup %s is missing Subcommands. It will be ignored.", group.getKey().getName());
 					continue;
 				}
-				SubcommandGroupData groupData = group.getKey();
-				groupData.addSubcommands(getSubcommandData(command, group.getValue(), groupData.getName()));
+				SubcommandGroupData groupData = SubcommandGroupData.fromData(group.getKey().toData());
+				groupData.addSubcommands(getSubcommandData(builder, command, group.getValue(), groupData.getName()));
 				groupDataList.add(groupData);
 			}
 		}
@@ -332,18 +995,18 @@ public class InteractionHandler extends ListenerAdapter {
 	/**
 	 * Gets all {@link SubcommandData} from the given array of {@link SlashCommand.Subcommand} classes.
 	 *
+	 * @param builder      The {@link InteractionIndex.Builder} the subcommands are added to.
 	 * @param command      The base command's instance.
 	 * @param subcommands   All sub command classes.
 	 * @param subGroupName The Subcommand Group's name. (if available)
 	 * @return The new {@link CommandListUpdateAction}.
-	 * @throws ReflectiveOperationException If an error occurs.
 	 */
-	private Set<SubcommandData> getSubcommandData(SlashCommand command, Set<SlashCommand.Subcommand> subcommands, @Nullable String subGroupName) throws ReflectiveOperationException {
+	private Set<SubcommandData> getSubcommandData(InteractionIndex.Builder builder, SlashCommand command, Set<SlashCommand.Subcommand> subcommands, @Nullable String subGroupName) {
 		Set<SubcommandData> subDataList = new HashSet<>();
 		for (SlashCommand.Subcommand subcommand : subcommands) {
 			if (subcommand != null) {
 				if (subcommand.getSubcommandData() == null) {
-					DIH4JDALogger.warn(String.format("Class %s is missing SubcommandData. It will be ignored.", subcommand.getClass().getSimpleName()));
+					logger.warn(DIH4JDALogger.Type.WARN, "Class %s is missing SubcommandData. It will be ignored.", subcommand.getClass().getSimpleName());
 					continue;
 				}
 				String commandPath;
@@ -352,98 +1015,237 @@ public class InteractionHandler extends ListenerAdapter {
 				} else {
 					commandPath = CommandUtils.buildCommandPath(command.getSlashCommandData().getName(), subGroupName, subcommand.getSubcommandData().getName());
 				}
-				subcommandIndex.put(commandPath, subcommand);
-				DIH4JDALogger.info(String.format("\t[*] Registered command: /%s (%s)", commandPath, command.getRegistrationType().name()), DIH4JDALogger.Type.SLASH_COMMAND_REGISTERED);
-				if (subcommand.isAutoCompleteHandling() && Checks.checkImplementation(subcommand.getClass(), AutoCompletable.class)) {
-					autoCompleteIndex.put(commandPath, (AutoCompletable) subcommand);
-				}
-				subDataList.add(subcommand.getSubcommandData());
-				if (ClassUtils.doesImplement(subcommand.getClass(), ComponentHandler.class)) {
-					putComponentHandlers(subcommand);
+				builder.putSubcommand(commandPath, subcommand);
+				SubcommandData subcommandData = SubcommandData.fromData(subcommand.getSubcommandData().toData());
+				putOptionBinder(builder, commandPath, subcommand, subcommandData.getOptions(), subcommandData::addOptions);
+				logger.info(DIH4JDALogger.Type.SLASH_COMMAND_REGISTERED, "\t[*] Registered command: /%s (%s)", commandPath, command.getRegistrationType().name());
+				if (subcommand.isAutoCompleteHandling() && Checks.checkImplementation(logger, getImplementation(subcommand), AutoCompletable.class)) {
+					builder.putAutoCompletable(commandPath, (AutoCompletable) subcommand);
 				}
+				subDataList.add(subcommandData);
+				putComponentHandlers(builder, subcommand);
 			}
 		}
 		return subDataList;
 	}
 
 	/**
-	 * Gets all Guild Context commands registered in {@link InteractionHandler#findContextCommands()} and
-	 * returns their {@link CommandData} as a List.
+	 * Gets the {@link UnqueuedCommandData} of a single {@link ContextCommand} and adds the command to the
+	 * given {@link InteractionIndex.Builder}.
 	 *
-	 * @throws ReflectiveOperationException If an error occurs.
+	 * @param builder  The {@link InteractionIndex.Builder} the command is added to.
+	 * @param instance The context command's instance.
+	 * @return The {@link UnqueuedCommandData}, or null if the command is missing its data.
 	 */
-	private Set<UnqueuedCommandData> getContextCommandData() throws ReflectiveOperationException {
-		Set<UnqueuedCommandData> data = new HashSet<>();
-		for (Class<? extends ContextCommand> c : contexts) {
-			ContextCommand instance = (ContextCommand) ClassUtils.getInstance(c);
-			if (instance != null) {
-				UnqueuedCommandData unqueuedData = new UnqueuedCommandData(getContextCommandData(instance, c), instance.getRegistrationType());
-				if (instance.getRegistrationType() == RegistrationType.GUILD) {
-					unqueuedData.setGuilds(instance.getGuilds(dih4jda.getConfig().getJDA()));
-				}
-				data.add(unqueuedData);
-				if (ClassUtils.doesImplement(c, ComponentHandler.class)) {
-					putComponentHandlers(instance);
-				}
+	private @Nullable UnqueuedCommandData getContextCommandData(InteractionIndex.Builder builder, @NotNull ContextCommand instance) {
+		Registration<CommandData> registration = contextRegistrations.computeIfAbsent(instance, command -> {
+			InteractionIndex.Builder own = new InteractionIndex.Builder();
+			CommandData commandData = getContextCommandData(own, command, getImplementation(command));
+			if (commandData != null) {
+				putComponentHandlers(own, command);
+				own.setOwner(commandData.getType(), commandData.getName());
 			}
+			return new Registration<>(own, commandData);
+		});
+		builder.putAll(registration.getEntries());
+		if (registration.getData() == null) return null;
+		UnqueuedCommandData unqueuedData = new UnqueuedCommandData(registration.getData(), instance.getRegistrationType());
+		if (instance.getRegistrationType() == RegistrationType.GUILD) {
+			unqueuedData.setGuilds(instance.getGuilds(dih4jda.getConfig().getJDA()));
 		}
-		return data;
+		return unqueuedData;
+	}
+
+	/**
+	 * Builds the {@link OptionBinder} of the given command, if it declares an
+	 * {@link com.dynxsty.dih4jda.interactions.binding.OptionHandler} method, and adds all of its options that are not
+	 * yet part of the command's data.
+	 *
+	 * @param builder    The {@link InteractionIndex.Builder} the binder is added to.
+	 * @param path       The command's path.
+	 * @param command    The command's instance.
+	 * @param existing   All options the command's data already contains.
+	 * @param addOptions Adds the given options to the command's data.
+	 * @since v1.6
+	 */
+	private void putOptionBinder(InteractionIndex.Builder builder, String path, CommandRequirements command,
+								 List<OptionData> existing, Consumer<Collection<OptionData>> addOptions) {
+		try {
+			OptionBinder binder = OptionBinder.of(getImplementation(command));
+			if (binder == null) return;
+			Set<String> names = new HashSet<>();
+			existing.forEach(option -> names.add(option.getName()));
+			List<OptionData> missing = new ArrayList<>();
+			binder.getOptions().forEach(option -> {
+				if (!names.contains(option.getName())) missing.add(option);
+			});
+			if (!missing.isEmpty()) addOptions.accept(missing);
+			builder.putOptionBinder(path, binder);
+		} catch (InvalidCommandException | IllegalArgumentException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not bind options of /%s: %s", path, e.getMessage());
+		}
+	}
+
+	/**
+	 * Adds the given {@link TextCommand} to the index, using both its name and all of its aliases, along with all
+	 * components it handles.
+	 *
+	 * @param builder The {@link InteractionIndex.Builder} the command is added to.
+	 * @param command The {@link TextCommand}.
+	 * @since v1.6
+	 */
+	private void putTextCommand(InteractionIndex.Builder builder, TextCommand command) {
+		if (command.getName() == null) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Class %s does not set a name. It will be ignored.", getImplementation(command).getSimpleName());
+			return;
+		}
+		List<String> names = new ArrayList<>();
+		names.add(command.getName());
+		names.addAll(command.getAliases());
+		for (String name : names) {
+			if (builder.getTextCommand(name) != null) {
+				logger.warn(DIH4JDALogger.Type.WARN, "Text command name %s%s is used by more than one command. It will be ignored for %s.",
+						config.getTextCommandPrefix(), name, getImplementation(command).getSimpleName());
+			} else {
+				builder.putTextCommand(name, command);
+			}
+		}
+		putComponentHandlers(builder, command);
 	}
 
-	private void putComponentHandlers(@Nullable ComponentHandler handler) {
+	private void putComponentHandlers(InteractionIndex.Builder builder, @Nullable ComponentHandler handler) {
 		if (handler == null) return;
-		handler.getHandledButtonIds().forEach(s -> handlerIndex.put(s, handler));
-		handler.getHandledSelectMenuIds().forEach(s -> handlerIndex.put(s, handler));
-		handler.getHandledModalIds().forEach(s -> handlerIndex.put(s, handler));
+		handler.getHandledButtonIds().forEach(s -> builder.putComponentHandler(s, handler));
+		handler.getHandledSelectMenuIds().forEach(s -> builder.putComponentHandler(s, handler));
+		handler.getHandledModalIds().forEach(s -> builder.putComponentHandler(s, handler));
+		if (handler.getHandledModalIds().isEmpty()) return;
+		try {
+			ModalBinder binder = ModalBinder.of(getImplementation(handler));
+			if (binder != null) handler.getHandledModalIds().forEach(s -> builder.putModalBinder(s, binder));
+		} catch (InvalidCommandException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not bind modals of %s: %s", getImplementation(handler).getName(), e.getMessage());
+		}
 	}
 
 	/**
 	 * Gets the complete {@link CommandData} from a single {@link ContextCommand}.
 	 *
+	 * @param builder      The {@link InteractionIndex.Builder} the command is added to.
 	 * @param command      The base context command's instance.
 	 * @param commandClass The base context command's class.
 	 * @return The new {@link CommandListUpdateAction}.
 	 */
-	private CommandData getContextCommandData(@NotNull ContextCommand command, Class<? extends ContextCommand> commandClass) {
+	private CommandData getContextCommandData(InteractionIndex.Builder builder, @NotNull ContextCommand command, Class<?> commandClass) {
 		if (command.getCommandData() == null) {
-			DIH4JDALogger.warn(String.format("Class %s is missing CommandData. It will be ignored.", commandClass.getName()));
+			logger.warn(DIH4JDALogger.Type.WARN, "Class %s is missing CommandData. It will be ignored.", commandClass.getName());
 			return null;
 		}
 		CommandData commandData = command.getCommandData();
-		if (commandData.getType() == Command.Type.MESSAGE) {
-			messageContextIndex.put(commandData.getName(), (ContextCommand.Message) command);
-		} else if (commandData.getType() == Command.Type.USER) {
-			userContextIndex.put(commandData.getName(), (ContextCommand.User) command);
+		if (commandData.getType() == Command.Type.MESSAGE && command instanceof ContextCommand.Message) {
+			builder.putMessageContext(commandData.getName(), (ContextCommand.Message) command);
+		} else if (commandData.getType() == Command.Type.USER && command instanceof ContextCommand.User) {
+			builder.putUserContext(commandData.getName(), (ContextCommand.User) command);
 		} else {
-			DIH4JDALogger.error(String.format("Invalid Command Type \"%s\" for Context Command! This command will be ignored.", commandData.getType()));
+			logger.error(DIH4JDALogger.Type.ERROR, "Invalid Command Type \"%s\" for Context Command %s! This command will be ignored.", commandData.getType(), commandClass.getName());
 			return null;
 		}
-		DIH4JDALogger.info(String.format("\t[*] Registered context command: %s (%s)", command.getCommandData().getName(), command.getRegistrationType().name()), DIH4JDALogger.Type.CONTEXT_COMMAND_REGISTERED);
+		logger.info(DIH4JDALogger.Type.CONTEXT_COMMAND_REGISTERED, "\t[*] Registered context command: %s (%s)", command.getCommandData().getName(), command.getRegistrationType().name());
 		return commandData;
 	}
 
+	/**
+	 * Registers an ephemeral listener for a newly generated component id, which is removed once the given time-to-live
+	 * has passed. Ephemeral listeners take precedence over all {@link ComponentHandler}s.
+	 * If more than {@link DIH4JDAConfig#getMaxComponentListeners()} listeners are alive, the oldest ones are removed.
+	 *
+	 * @param type     The type of event the listener handles.
+	 * @param ttl      How long the listener should be kept.
+	 * @param listener The listener itself.
+	 * @param <E>      The type of event the listener handles.
+	 * @return The generated component id, which should be used for the button, select menu or modal.
+	 * @since v1.6
+	 */
+	public <E extends GenericInteractionCreateEvent> String addComponentListener(@NotNull Class<E> type, @NotNull Duration ttl, @NotNull Consumer<? super E> listener) {
+		String id = ComponentIdBuilder.build(COMPONENT_LISTENER_PREFIX, listenerSalt, Long.toString(listenerCounter.incrementAndGet(), Character.MAX_RADIX));
+		getComponentListeners().put(id, new ComponentListener<>(type, listener), ttl);
+		return id;
+	}
+
+	/**
+	 * Removes the ephemeral listener with the given component id.
+	 *
+	 * @param id The component id.
+	 * @return Whether a listener was removed.
+	 * @since v1.6
+	 */
+	public boolean removeComponentListener(@NotNull String id) {
+		BoundedExpiringMap<String, ComponentListener<?>> listeners = componentListeners;
+		return listeners != null && listeners.remove(id) != null;
+	}
+
+	/**
+	 * Passes the given event to the ephemeral listener of the given component id, if there is one.
+	 *
+	 * @param id    The full component id.
+	 * @param event The event.
+	 * @return Whether the event was handled by an ephemeral listener.
+	 */
+	private boolean handleComponentListener(String id, GenericInteractionCreateEvent event) {
+		BoundedExpiringMap<String, ComponentListener<?>> listeners = componentListeners;
+		if (listeners == null || !id.startsWith(COMPONENT_LISTENER_PREFIX)) return false;
+		ComponentListener<?> listener = listeners.get(id);
+		return listener != null && listener.handle(event);
+	}
+
+	/**
+	 * Gets the map of ephemeral component listeners, which is lazily created on first use.
+	 *
+	 * @return The {@link BoundedExpiringMap} of all ephemeral component listeners.
+	 */
+	private BoundedExpiringMap<String, ComponentListener<?>> getComponentListeners() {
+		BoundedExpiringMap<String, ComponentListener<?>> listeners = componentListeners;
+		if (listeners == null) {
+			synchronized (this) {
+				listeners = componentListeners;
+				if (listeners == null) {
+					listeners = new BoundedExpiringMap<>(getTimer(), config.getMaxComponentListeners());
+					componentListeners = listeners;
+				}
+			}
+		}
+		return listeners;
+	}
+
 	/**
 	 * Handles a single {@link SlashCommand} or {@link SlashCommand.Subcommand}.
 	 * If a {@link SlashCommandInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link SlashCommandInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the command's execution.
 	 */
-	private void handleSlashCommand(SlashCommandInteractionEvent event) throws Exception {
+	private CompletionStage<Void> handleSlashCommand(SlashCommandInteractionEvent event) throws Exception {
 		String path = event.getCommandPath();
-		CommandRequirements req = slashCommandIndex.containsKey(path) ? slashCommandIndex.get(path) : subcommandIndex.get(path);
+		InteractionIndex index = this.index.get();
+		SlashCommand command = index.getSlashCommands().get(path);
+		SlashCommand.Subcommand subcommand = command == null ? index.getSubcommands().get(path) : null;
+		CommandRequirements req = command != null ? command : subcommand;
 		if (req == null) {
 			throw new CommandNotRegisteredException(String.format("Slash Command \"%s\" is not registered.", path));
 		} else {
-			if (!checkPermissions(event.getInteraction(), req.getRequiredPermissions())
-					&& !checkUser(event.getInteraction(), req.getRequiredUsers())
-					&& !checkRole(event, req.getRequiredRoles())) {
-				if (slashCommandIndex.containsKey(event.getCommandPath())) {
-					slashCommandIndex.get(path).execute(event);
-				} else {
-					subcommandIndex.get(path).execute(event);
-				}
+			if (checkRequirements(event.getInteraction(), req)) {
+				OptionBinder binder = index.getOptionBinders().get(path);
+				return withRateLimit(event.getInteraction(), path, req, () -> {
+					if (binder != null) {
+						return binder.invoke(getTarget(req), event);
+					} else if (command != null) {
+						return command.executeAsync(event);
+					} else {
+						return subcommand.executeAsync(event);
+					}
+				});
 			}
 		}
+		return COMPLETED;
 	}
 
 	/**
@@ -451,18 +1253,18 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link UserContextInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link UserContextInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the command's execution.
 	 */
-	private void handleUserContextCommand(UserContextInteractionEvent event) throws Exception {
-		ContextCommand.User context = userContextIndex.get(event.getCommandPath());
+	private CompletionStage<Void> handleUserContextCommand(UserContextInteractionEvent event) throws Exception {
+		ContextCommand.User context = index.get().getUserContexts().get(event.getCommandPath());
 		if (context == null) {
 			throw new CommandNotRegisteredException(String.format("Context Command \"%s\" is not registered.", event.getCommandPath()));
 		} else {
-			if (!checkPermissions(event.getInteraction(), context.getRequiredPermissions())
-					&& !checkUser(event.getInteraction(), context.getRequiredUsers())
-					&& !checkRole(event.getInteraction(), context.getRequiredRoles())) {
-				context.execute(event);
+			if (checkRequirements(event.getInteraction(), context)) {
+				return withRateLimit(event.getInteraction(), event.getCommandPath(), context, () -> context.executeAsync(event));
 			}
 		}
+		return COMPLETED;
 	}
 
 	/**
@@ -470,18 +1272,51 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link MessageContextInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link MessageContextInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the command's execution.
 	 */
-	private void handleMessageContextCommand(MessageContextInteractionEvent event) throws Exception {
-		ContextCommand.Message context = messageContextIndex.get(event.getCommandPath());
+	private CompletionStage<Void> handleMessageContextCommand(MessageContextInteractionEvent event) throws Exception {
+		ContextCommand.Message context = index.get().getMessageContexts().get(event.getCommandPath());
 		if (context == null) {
 			throw new CommandNotRegisteredException(String.format("Context Command \"%s\" is not registered.", event.getCommandPath()));
 		} else {
-			if (!checkPermissions(event.getInteraction(), context.getRequiredPermissions())
-					&& !checkUser(event.getInteraction(), context.getRequiredUsers())
-					&& !checkRole(event.getInteraction(), context.getRequiredRoles())) {
-				context.execute(event);
+			if (checkRequirements(event.getInteraction(), context)) {
+				return withRateLimit(event.getInteraction(), event.getCommandPath(), context, () -> context.executeAsync(event));
 			}
 		}
+		return COMPLETED;
+	}
+
+	/**
+	 * Handles a single {@link TextCommand}.
+	 * If a {@link MessageReceivedEvent} invokes a {@link TextCommand}, its requirements and rate limit are checked,
+	 * and the command is executed.
+	 *
+	 * @param event   The {@link MessageReceivedEvent} that invoked the command.
+	 * @param command The {@link TextCommand}.
+	 * @param args    The command's arguments.
+	 * @since v1.6
+	 */
+	private CompletionStage<Void> handleTextCommand(MessageReceivedEvent event, TextCommand command, List<String> args) throws Exception {
+		Message message = event.getMessage();
+		if (event.isFromGuild() && !config.getCommandToggles().isEnabled(event.getGuild().getIdLong(), CommandToggles.getTextCommandKey(command.getName()))) {
+			fireEvent(dih4jda.getListeners(), "onTextCommandDisabled", event);
+			return COMPLETED;
+		}
+		Member member = event.getMember();
+		RequirementEvaluator.Result result = RequirementEvaluator.evaluate(command, message.getAuthor().getIdLong(),
+				member == null ? null : memberCache == null ? MemberSnapshot.of(member) : memberCache.get(member));
+		if (result != RequirementEvaluator.Result.PASSED) {
+			fireEvent(dih4jda.getListeners(), "onTextCommandRejected", event, result);
+			return COMPLETED;
+		}
+		Callable<CompletionStage<Void>> guarded = () -> withGuards(command,
+				reason -> fireEvent(dih4jda.getListeners(), "onTextCommandShed", event, reason),
+				() -> command.executeAsync(event, args));
+		RateLimit limit = command.getRateLimit();
+		if (limit == null) return guarded.call();
+		return withRateLimit("text:" + command.getName() + ":" + limit.getScope().getKey(message), limit,
+				() -> fireEvent(dih4jda.getListeners(), "onTextCommandRateLimited", event, limit.getRetryAfter()),
+				guarded);
 	}
 
 	/**
@@ -489,12 +1324,14 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link CommandAutoCompleteInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link CommandAutoCompleteInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the AutoComplete handling.
 	 */
-	private void handleAutoComplete(CommandAutoCompleteInteractionEvent event) {
-		AutoCompletable component = autoCompleteIndex.get(event.getCommandPath());
+	private CompletionStage<Void> handleAutoComplete(CommandAutoCompleteInteractionEvent event) {
+		AutoCompletable component = index.get().getAutoCompletables().get(event.getCommandPath());
 		if (component != null) {
 			component.handleAutoComplete(event, event.getFocusedOption());
 		}
+		return COMPLETED;
 	}
 
 	/**
@@ -502,14 +1339,20 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link ButtonInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link ButtonInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the button's handling.
 	 */
-	private void handleButton(ButtonInteractionEvent event) {
-		ComponentHandler component = handlerIndex.get(ComponentIdBuilder.split(event.getComponentId())[0]);
+	private CompletionStage<Void> handleButton(ButtonInteractionEvent event) throws Exception {
+		if (handleComponentListener(event.getComponentId(), event)) return COMPLETED;
+		String id = ComponentIdBuilder.split(event.getComponentId())[0];
+		InteractionIndex index = this.index.get();
+		ComponentHandler component = index.getComponentHandlers().get(id);
 		if (component == null) {
-			DIH4JDALogger.warn(String.format("Button with id \"%s\" could not be found.", event.getComponentId()), DIH4JDALogger.Type.BUTTON_NOT_FOUND);
-		} else {
-			component.handleButton(event, event.getButton());
+			logger.warn(DIH4JDALogger.Type.BUTTON_NOT_FOUND, "Button with id \"%s\" could not be found.", event.getComponentId());
+			return COMPLETED;
 		}
+		if (isDisabled(event.getInteraction(), index, id, component)) return COMPLETED;
+		return withGuards(component, reason -> fireEvent(dih4jda.getListeners(), "onShed", event.getInteraction(), reason),
+				() -> component.handleButtonAsync(event, event.getButton()));
 	}
 
 	/**
@@ -517,14 +1360,20 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link SelectMenuInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link SelectMenuInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the select menu's handling.
 	 */
-	private void handleSelectMenu(SelectMenuInteractionEvent event) {
-		ComponentHandler component = handlerIndex.get(ComponentIdBuilder.split(event.getComponentId())[0]);
+	private CompletionStage<Void> handleSelectMenu(SelectMenuInteractionEvent event) throws Exception {
+		if (handleComponentListener(event.getComponentId(), event)) return COMPLETED;
+		String id = ComponentIdBuilder.split(event.getComponentId())[0];
+		InteractionIndex index = this.index.get();
+		ComponentHandler component = index.getComponentHandlers().get(id);
 		if (component == null) {
-			DIH4JDALogger.warn(String.format("Select Menu with id \"%s\" could not be found.", event.getComponentId()), DIH4JDALogger.Type.SELECT_MENU_NOT_FOUND);
-		} else {
-			component.handleSelectMenu(event, event.getValues());
+			logger.warn(DIH4JDALogger.Type.SELECT_MENU_NOT_FOUND, "Select Menu with id \"%s\" could not be found.", event.getComponentId());
+			return COMPLETED;
 		}
+		if (isDisabled(event.getInteraction(), index, id, component)) return COMPLETED;
+		return withGuards(component, reason -> fireEvent(dih4jda.getListeners(), "onShed", event.getInteraction(), reason),
+				() -> component.handleSelectMenuAsync(event, event.getValues()));
 	}
 
 	/**
@@ -532,14 +1381,576 @@ public class InteractionHandler extends ListenerAdapter {
 	 * If a {@link ModalInteractionEvent} is fired the corresponding class is found and the command is executed.
 	 *
 	 * @param event The {@link ModalInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} of the modal's handling.
 	 */
-	private void handleModal(ModalInteractionEvent event) {
-		ComponentHandler modal = handlerIndex.get(ComponentIdBuilder.split(event.getModalId())[0]);
+	private CompletionStage<Void> handleModal(ModalInteractionEvent event) throws Exception {
+		if (handleComponentListener(event.getModalId(), event)) return COMPLETED;
+		String id = ComponentIdBuilder.split(event.getModalId())[0];
+		InteractionIndex index = this.index.get();
+		ComponentHandler modal = index.getComponentHandlers().get(id);
 		if (modal == null) {
-			DIH4JDALogger.warn(String.format("Modal with id \"%s\" could not be found.", event.getModalId()), DIH4JDALogger.Type.MODAL_NOT_FOUND);
+			logger.warn(DIH4JDALogger.Type.MODAL_NOT_FOUND, "Modal with id \"%s\" could not be found.", event.getModalId());
+			return COMPLETED;
+		}
+		if (isDisabled(event.getInteraction(), index, id, modal)) return COMPLETED;
+		ModalBinder binder = index.getModalBinders().get(id);
+		return withGuards(modal, reason -> fireEvent(dih4jda.getListeners(), "onShed", event.getInteraction(), reason), () -> {
+			if (binder != null) {
+				return binder.invoke(getTarget(modal), event, violations ->
+						fireEvent(dih4jda.getListeners(), "onModalValidationFailure", event.getInteraction(), violations));
+			}
+			return modal.handleModalAsync(event, event.getValues());
+		});
+	}
+
+	/**
+	 * Runs the given handler on the configured {@link java.util.concurrent.Executor} and composes the
+	 * {@link CompletionStage} it returns, without blocking any thread while waiting for it.
+	 * If ordered execution is enabled, the handler only runs once all earlier interactions with the same key were handled.
+	 * If fair scheduling is enabled, the handler is then queued per guild.
+	 * Exceptions, whether thrown by the handler or completing its stage exceptionally, are passed to the given callback.
+	 *
+	 * @param interaction The {@link Interaction} that is handled.
+	 * @param handler     The handler, which returns the {@link CompletionStage} of the interaction's handling.
+	 * @param onException The callback that receives any exception.
+	 * @return A {@link CompletableFuture} which completes once the interaction was fully handled.
+	 * @since v1.6
+	 */
+	private CompletableFuture<Void> dispatch(Interaction interaction, Callable<CompletionStage<Void>> handler, Consumer<Exception> onException) {
+		admitting.incrementAndGet();
+		try {
+			if (!accepting) {
+				rejected.incrementAndGet();
+				// acknowledge the interaction, so that it does not fail without any explanation
+				String notice = config.getShutdownNotice();
+				if (notice != null && interaction instanceof IReplyCallback && !((IReplyCallback) interaction).isAcknowledged()) {
+					((IReplyCallback) interaction).reply(notice).setEphemeral(true).queue(null, failure -> {});
+				}
+				return COMPLETED;
+			}
+			return dispatch(interaction, scheduleDeferral(interaction),
+					orderedExecutor == null ? 0 : config.getOrderingKey().getKey(interaction), getTenant(interaction), handler, onException);
+		} finally {
+			admitting.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Runs the handler of the given text command just like {@link InteractionHandler#dispatch(Interaction, Callable, Consumer)}
+	 * does for interactions, apart from the automatic deferral.
+	 *
+	 * @param message     The {@link Message} that invoked the command.
+	 * @param handler     The handler, which returns the {@link CompletionStage} of the command's handling.
+	 * @param onException The callback that receives any exception.
+	 * @return A {@link CompletableFuture} which completes once the command was fully handled.
+	 * @since v1.6
+	 */
+	private CompletableFuture<Void> dispatch(Message message, Callable<CompletionStage<Void>> handler, Consumer<Exception> onException) {
+		admitting.incrementAndGet();
+		try {
+			if (!accepting) {
+				rejected.incrementAndGet();
+				return COMPLETED;
+			}
+			return dispatch(message, null, orderedExecutor == null ? 0 : config.getOrderingKey().getKey(message), getTenant(message), handler, onException);
+		} finally {
+			admitting.decrementAndGet();
+		}
+	}
+
+	private CompletableFuture<Void> dispatch(Object source, @Nullable TimingWheel.Timeout deferral, long orderingKey, long tenant,
+											 Callable<CompletionStage<Void>> handler, Consumer<Exception> onException) {
+		CompletableFuture<Void> execution;
+		if (orderedExecutor != null) {
+			// ordering has to wrap scheduling, as waiting for an earlier interaction must not occupy a slot
+			Callable<CompletionStage<Void>> scheduled = fairScheduler == null ? handler :
+					() -> fairScheduler.submit(tenant, handler);
+			execution = orderedExecutor.submit(orderingKey, scheduled);
+		} else if (fairScheduler != null) {
+			execution = fairScheduler.submit(tenant, handler);
 		} else {
-			modal.handleModal(event, event.getValues());
+			execution = CompletableFuture.supplyAsync(() -> {
+						try {
+							CompletionStage<Void> stage = handler.call();
+							return stage == null ? COMPLETED : stage;
+						} catch (Exception e) {
+							return CompletableFuture.<Void>failedFuture(e);
+						}
+					}, config.getExecutor())
+					.thenCompose(Function.identity());
 		}
+		CompletableFuture<Void> completion = execution.whenComplete((v, t) -> {
+			if (deferral != null) deferral.cancel();
+			if (t != null) onException.accept(unwrap(t));
+		});
+		inFlight.put(source, completion);
+		completion.whenComplete((v, t) -> inFlight.remove(source));
+		return completion;
+	}
+
+	/**
+	 * Stops handling new interactions and waits up to the given timeout for all interactions that are still being
+	 * handled. Interactions that were not handled in time are deferred if they were not yet acknowledged, so that
+	 * they don't fail right away. Interactions that are received from now on are answered with an ephemeral notice.
+	 * Afterwards, all resources of this handler (including the {@link com.dynxsty.dih4jda.interactions.state.ComponentStateStore}) are released.
+	 *
+	 * @param timeout The maximum duration to wait for interactions.
+	 * @return The {@link ShutdownReport}.
+	 * @since v1.6
+	 */
+	public ShutdownReport shutdown(@NotNull Duration timeout) {
+		long start = System.nanoTime();
+		long deadline = start + timeout.toNanos();
+		accepting = false;
+		// dispatches that were accepted right before may not have added themselves yet
+		while (admitting.get() > 0 && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		Map<Object, CompletableFuture<Void>> pending = new HashMap<>(inFlight);
+		try {
+			CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0])).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | ExecutionException ignored) {
+			// exceptions were already passed to the listeners
+		}
+		int completed = 0, deferred = 0, abandoned = 0;
+		List<RestAction<?>> deferrals = new ArrayList<>();
+		for (Map.Entry<Object, CompletableFuture<Void>> entry : pending.entrySet()) {
+			Object source = entry.getKey();
+			if (entry.getValue().isDone()) {
+				completed++;
+			} else if (source instanceof IReplyCallback && !((IReplyCallback) source).isAcknowledged()) {
+				deferrals.add(getDeferral((IReplyCallback) source));
+				deferred++;
+			} else {
+				abandoned++;
+			}
+		}
+		// deferrals must actually be sent before the process exits
+		if (!deferrals.isEmpty()) {
+			try {
+				RestAction.allOf(deferrals).complete();
+			} catch (RuntimeException e) {
+				logger.warn(DIH4JDALogger.Type.WARN, "Could not defer all pending interactions: %s", e.getMessage());
+			}
+		}
+		config.getCommandToggles().removeListener(toggleListener);
+		RateLimiter rateLimiter = this.rateLimiter;
+		if (rateLimiter != null) rateLimiter.close();
+		TimingWheel timer = this.timer;
+		if (timer != null) timer.close();
+		if (analytics != null) analytics.close();
+		if (config.getAuditSink() != null) config.getAuditSink().close();
+		reportDroppedAudits();
+		config.getComponentStateStore().close();
+		ShutdownReport report = new ShutdownReport(completed, deferred, abandoned, rejected.get(), Duration.ofNanos(System.nanoTime() - start));
+		logger.info(DIH4JDALogger.Type.INFO, "Shut down Interaction Handler: %s", report);
+		return report;
+	}
+
+	/**
+	 * Runs the given execution, if the command's {@link RateLimit} (if any) was not exceeded. Otherwise, this fires the
+	 * {@link DIH4JDAListenerAdapter#onRateLimited} event.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @param path        The command's path.
+	 * @param req         The command's {@link CommandRequirements}.
+	 * @param execution   The command's execution.
+	 * @return The {@link CompletionStage} of the command's execution.
+	 * @since v1.6
+	 */
+	private CompletionStage<Void> withRateLimit(CommandInteraction interaction, String path, CommandRequirements req,
+												Callable<CompletionStage<Void>> execution) throws Exception {
+		Callable<CompletionStage<Void>> guarded = () -> withGuards(req, reason -> {
+			fireEvent(dih4jda.getListeners(), "onShed", interaction, reason);
+			audit(interaction, path, AuditRecord.Outcome.SHED, Duration.ZERO, null);
+		}, () -> execute(interaction, path, execution));
+		RateLimit limit = req.getRateLimit();
+		if (limit == null) return guarded.call();
+		return withRateLimit(path + ":" + limit.getScope().getKey(interaction), limit, () -> {
+			fireEvent(dih4jda.getListeners(), "onRateLimited", interaction, limit.getRetryAfter());
+			audit(interaction, path, AuditRecord.Outcome.RATE_LIMITED, Duration.ZERO, null);
+		}, guarded);
+	}
+
+	/**
+	 * Runs the given execution, if the handler's {@link Bulkhead} (if any) is not full and its
+	 * {@link CircuitBreaker} (if any) is not open. Otherwise, the execution is shed and the given callback is run
+	 * instead. The outcome and duration of the execution are recorded by the {@link CircuitBreaker}.
+	 * <br>If the {@link CircuitBreaker} has a slow call threshold, an execution that did not finish within it is
+	 * recorded as failed right away, so that a hung execution can't keep the breaker half-open. Its {@link Bulkhead}
+	 * permit is only released once it actually finished, as the bulkhead would not bound hung executions otherwise.
+	 *
+	 * @param handler   The {@link ComponentHandler} that declares the guards.
+	 * @param onShed    The callback that is run if the execution is shed.
+	 * @param execution The execution.
+	 * @return The {@link CompletionStage} of the execution.
+	 * @since v1.6
+	 */
+	private CompletionStage<Void> withGuards(ComponentHandler handler, Consumer<ShedReason> onShed,
+											 Callable<CompletionStage<Void>> execution) throws Exception {
+		Object target = getTarget(handler);
+		ComponentHandler declaring = target instanceof ComponentHandler ? (ComponentHandler) target : handler;
+		Bulkhead bulkhead = declaring.getBulkhead();
+		CircuitBreaker breaker = declaring.getCircuitBreaker();
+		if (bulkhead == null && breaker == null) {
+			CompletionStage<Void> stage = execution.call();
+			return stage == null ? COMPLETED : stage;
+		}
+		if (bulkhead != null && !bulkhead.tryAcquire()) {
+			onShed.accept(ShedReason.BULKHEAD_FULL);
+			return COMPLETED;
+		}
+		// the bulkhead is checked first, as a trial execution of the breaker must not be shed afterwards
+		long permit = breaker == null ? CircuitBreaker.REJECTED : breaker.tryAcquire();
+		if (breaker != null && permit == CircuitBreaker.REJECTED) {
+			if (bulkhead != null) bulkhead.release();
+			onShed.accept(ShedReason.CIRCUIT_OPEN);
+			return COMPLETED;
+		}
+		long start = System.nanoTime();
+		CompletionStage<Void> stage;
+		try {
+			stage = execution.call();
+		} catch (Exception e) {
+			if (bulkhead != null) bulkhead.release();
+			if (breaker != null) breaker.onResult(permit, true, System.nanoTime() - start);
+			throw e;
+		}
+		if (stage == null) stage = COMPLETED;
+		AtomicBoolean recorded = new AtomicBoolean();
+		Consumer<Boolean> record = failed -> {
+			if (breaker != null && recorded.compareAndSet(false, true)) breaker.onResult(permit, failed, System.nanoTime() - start);
+		};
+		Duration limit = breaker == null ? null : breaker.getSlowCallThreshold();
+		TimingWheel.Timeout timeout = null;
+		if (limit != null && !(stage instanceof CompletableFuture && ((CompletableFuture<Void>) stage).isDone())) {
+			try {
+				timeout = getTimer().schedule(() -> record.accept(true), limit.toNanos(), TimeUnit.NANOSECONDS);
+			} catch (IllegalStateException e) {
+				// the timer was closed during the shutdown, thus, the stage is not bounded anymore
+			}
+		}
+		TimingWheel.Timeout bound = timeout;
+		return stage.whenComplete((result, failure) -> {
+			if (bound != null) bound.cancel();
+			if (bulkhead != null) bulkhead.release();
+			record.accept(failure != null);
+		});
+	}
+
+	/**
+	 * Runs the given execution, if the given {@link RateLimit} was not exceeded for the given key.
+	 *
+	 * @param key       The key the {@link RateLimit} applies to.
+	 * @param limit     The {@link RateLimit}.
+	 * @param onLimited The callback that is run instead of the execution, if the limit was exceeded.
+	 * @param execution The execution.
+	 * @return The {@link CompletionStage} of the execution.
+	 * @since v1.6
+	 */
+	private CompletionStage<Void> withRateLimit(String key, RateLimit limit, Runnable onLimited, Callable<CompletionStage<Void>> execution) {
+		CompletableFuture<Boolean> acquired = getRateLimiter().tryAcquire(key, limit).toCompletableFuture();
+		Function<Boolean, CompletionStage<Void>> then = allowed -> {
+			if (!allowed) {
+				onLimited.run();
+				return COMPLETED;
+			}
+			try {
+				CompletionStage<Void> stage = execution.call();
+				return stage == null ? COMPLETED : stage;
+			} catch (Exception e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		};
+		// a remote backend completes on its own thread, which must not run the command itself
+		return acquired.isDone() ? acquired.thenCompose(then) : acquired.thenComposeAsync(then, config.getExecutor());
+	}
+
+	/**
+	 * Runs the given execution, which records its invocation and, if enabled, hands its outcome to the
+	 * {@link AuditSink}.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @param path        The command's path.
+	 * @param execution   The command's execution.
+	 * @return The {@link CompletionStage} of the command's execution.
+	 * @since v1.6
+	 */
+	private CompletionStage<Void> execute(CommandInteraction interaction, String path, Callable<CompletionStage<Void>> execution) throws Exception {
+		recordUsage(interaction, path);
+		if (config.getAuditSink() == null) {
+			CompletionStage<Void> stage = execution.call();
+			return stage == null ? COMPLETED : stage;
+		}
+		long start = System.nanoTime();
+		CompletionStage<Void> stage;
+		try {
+			stage = execution.call();
+		} catch (Exception e) {
+			audit(interaction, path, AuditRecord.Outcome.FAILURE, Duration.ofNanos(System.nanoTime() - start), e);
+			throw e;
+		}
+		if (stage == null) stage = COMPLETED;
+		return stage.whenComplete((result, failure) -> audit(interaction, path,
+				failure == null ? AuditRecord.Outcome.SUCCESS : AuditRecord.Outcome.FAILURE,
+				Duration.ofNanos(System.nanoTime() - start), failure));
+	}
+
+	/**
+	 * Hands a new {@link AuditRecord} to the {@link AuditSink}, if enabled.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @param path        The command's path.
+	 * @param outcome     The execution's {@link AuditRecord.Outcome}.
+	 * @param duration    How long the execution took.
+	 * @param failure     The exception the execution failed with, if any.
+	 * @since v1.6
+	 */
+	private void audit(CommandInteraction interaction, String path, AuditRecord.Outcome outcome, Duration duration, @Nullable Throwable failure) {
+		AuditSink sink = config.getAuditSink();
+		if (sink == null) return;
+		Map<String, String> options = new LinkedHashMap<>();
+		for (OptionMapping option : interaction.getOptions()) {
+			options.put(option.getName(), option.getAsString());
+		}
+		Exception exception = failure == null ? null : unwrap(failure);
+		AuditRecord record = new AuditRecord(Instant.now(), interaction.getUser().getIdLong(),
+				interaction.getGuild() == null ? 0 : interaction.getGuild().getIdLong(),
+				interaction.getChannel() == null ? 0 : interaction.getChannel().getIdLong(),
+				path, options, outcome, duration,
+				exception == null ? null : exception.getClass().getSimpleName() + ": " + exception.getMessage());
+		if (!sink.offer(record)) {
+			droppedAudits.increment();
+			if (auditDropReportScheduled.compareAndSet(false, true)) {
+				try {
+					getTimer().schedule(this::reportDroppedAudits, AUDIT_DROP_REPORT_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+				} catch (IllegalStateException e) {
+					// the timer was closed during the shutdown, which reports all remaining drops itself
+					auditDropReportScheduled.set(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Logs the amount of audit records that were dropped since the last report, if any.
+	 *
+	 * @since v1.6
+	 */
+	private void reportDroppedAudits() {
+		auditDropReportScheduled.set(false);
+		long dropped = droppedAudits.sumThenReset();
+		if (dropped > 0) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Dropped %s audit record(s) since the last report, as the audit sink was full", dropped);
+		}
+	}
+
+	/**
+	 * Records the invocation of the given command, if analytics are enabled.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @param path        The command's path.
+	 * @since v1.6
+	 */
+	private void recordUsage(CommandInteraction interaction, String path) {
+		if (analytics == null) return;
+		analytics.record(path, interaction.getGuild() == null ? 0 : interaction.getGuild().getIdLong());
+	}
+
+	/**
+	 * @param interaction The {@link Interaction}.
+	 * @return The id of the tenant the given interaction is scheduled for, which is its guild or, in direct messages,
+	 * its user.
+	 * @since v1.6
+	 */
+	private static long getTenant(Interaction interaction) {
+		return interaction.getGuild() != null ? interaction.getGuild().getIdLong() : interaction.getUser().getIdLong();
+	}
+
+	/**
+	 * @param message The {@link Message} that invoked a {@link TextCommand}.
+	 * @return The id of the tenant the given message is scheduled for, which is its guild or, in direct messages,
+	 * its author.
+	 * @since v1.6
+	 */
+	private static long getTenant(Message message) {
+		return message.isFromGuild() ? message.getGuild().getIdLong() : message.getAuthor().getIdLong();
+	}
+
+	/**
+	 * Schedules the automatic deferral of the given interaction, if enabled.
+	 *
+	 * @param interaction The {@link Interaction} that was dispatched.
+	 * @return The {@link TimingWheel.Timeout} of the deferral, or null if the interaction should not be deferred.
+	 * @see DIH4JDABuilder#enableAutoDeferral(Duration, boolean)
+	 * @since v1.6
+	 */
+	private @Nullable TimingWheel.Timeout scheduleDeferral(Interaction interaction) {
+		Duration delay = config.getAutoDeferralDelay();
+		if (delay == null || !(interaction instanceof IReplyCallback)) return null;
+		return getTimer().schedule(() -> defer((IReplyCallback) interaction), delay.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Marks the given guild's toggles as changed and schedules a sync, unless one is already scheduled.
+	 *
+	 * @param guildId The guild's id.
+	 * @since v1.6
+	 */
+	private void scheduleToggleSync(long guildId) {
+		pendingToggles.add(guildId);
+		if (toggleSyncScheduled.compareAndSet(false, true)) {
+			getTimer().schedule(this::syncToggles, config.getCommandToggleSyncDelay().toNanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Syncs the toggles of all guilds that changed since the last sync to the default member permissions of their
+	 * commands. Each guild's commands are only retrieved once, and only commands whose permissions actually differ
+	 * are edited.
+	 *
+	 * @since v1.6
+	 */
+	private void syncToggles() {
+		toggleSyncScheduled.set(false);
+		CommandToggles toggles = config.getCommandToggles();
+		for (Long guildId : pendingToggles) {
+			pendingToggles.remove(guildId);
+			Guild guild = config.getJDA().getGuildById(guildId);
+			if (guild == null) continue;
+			guild.retrieveCommands().queue(registered -> {
+				for (Command command : registered) {
+					DefaultMemberPermissions defaults = getDefaultPermissions(command);
+					// commands of other tools (or commands that were removed) are left untouched
+					if (defaults == null) continue;
+					DefaultMemberPermissions permissions = toggles.isEnabled(guildId, command.getType(), command.getName()) ?
+							defaults : DefaultMemberPermissions.DISABLED;
+					if (Objects.equals(permissions.getPermissionsRaw(), command.getDefaultPermissions().getPermissionsRaw())) continue;
+					guild.editCommandById(command.getIdLong()).setDefaultPermissions(permissions).queue(null, failure ->
+							logger.warn(DIH4JDALogger.Type.WARN, "Could not sync toggle of %s in guild %s: %s", command.getName(), guild.getName(), failure.getMessage()));
+				}
+			}, failure -> logger.warn(DIH4JDALogger.Type.WARN, "Could not retrieve commands of guild %s: %s", guild.getName(), failure.getMessage()));
+		}
+	}
+
+	/**
+	 * @param command The registered {@link Command}.
+	 * @return The default member permissions of the command's own data, or null if it is not handled by this instance.
+	 * @since v1.6
+	 */
+	private @Nullable DefaultMemberPermissions getDefaultPermissions(Command command) {
+		List<ExecutableCommand> all = new ArrayList<>(commands);
+		all.addAll(contexts);
+		all.addAll(runtimeCommands);
+		for (ExecutableCommand executable : all) {
+			CommandData data = executable instanceof SlashCommand ? ((SlashCommand) executable).getSlashCommandData() :
+					executable instanceof ContextCommand ? ((ContextCommand) executable).getCommandData() : null;
+			if (data != null && data.getType() == command.getType() && data.getName().equals(command.getName())) {
+				return data.getDefaultPermissions();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Defers the given interaction, if it was not yet acknowledged by its handler.
+	 *
+	 * @param callback The {@link IReplyCallback}.
+	 * @since v1.6
+	 */
+	private void defer(IReplyCallback callback) {
+		if (callback.isAcknowledged()) return;
+		// the handler may still acknowledge the interaction in the meantime, in which case this fails silently
+		getDeferral(callback).queue(null, failure -> {});
+	}
+
+	/**
+	 * @param callback The {@link IReplyCallback}.
+	 * @return The {@link RestAction} which defers the given interaction.
+	 * @since v1.6
+	 */
+	private RestAction<?> getDeferral(IReplyCallback callback) {
+		return callback instanceof ComponentInteraction ?
+				((ComponentInteraction) callback).deferEdit() : callback.deferReply(config.isAutoDeferralEphemeral());
+	}
+
+	/**
+	 * @return The {@link CommandAnalytics}, or null if analytics are disabled.
+	 * @since v1.6
+	 */
+	protected @Nullable CommandAnalytics getAnalytics() {
+		return analytics;
+	}
+
+	/**
+	 * @return The {@link MemberPermissionCache}, or null if members are not cached.
+	 * @since v1.6
+	 */
+	protected @Nullable MemberPermissionCache getMemberCache() {
+		return memberCache;
+	}
+
+	/**
+	 * Gets the {@link TimingWheel} of this handler, which is lazily created on first use.
+	 *
+	 * @return The {@link TimingWheel}.
+	 * @since v1.6
+	 */
+	private TimingWheel getTimer() {
+		TimingWheel timer = this.timer;
+		if (timer == null) {
+			synchronized (this) {
+				timer = this.timer;
+				if (timer == null) {
+					timer = new TimingWheel("DIH4JDA-Timer", 10, TimeUnit.MILLISECONDS, 512);
+					this.timer = timer;
+				}
+			}
+		}
+		return timer;
+	}
+
+	/**
+	 * @return The {@link FairScheduler}, or null if fair scheduling is disabled.
+	 * @since v1.6
+	 */
+	protected @Nullable FairScheduler getFairScheduler() {
+		return fairScheduler;
+	}
+
+	/**
+	 * Gets the {@link RateLimiter} of this handler, which is lazily created on first use.
+	 *
+	 * @return The {@link RateLimiter}.
+	 * @since v1.6
+	 */
+	private RateLimiter getRateLimiter() {
+		RateLimiter rateLimiter = this.rateLimiter;
+		if (rateLimiter == null) {
+			synchronized (this) {
+				rateLimiter = this.rateLimiter;
+				if (rateLimiter == null) {
+					rateLimiter = new RateLimiter(config.getRateLimitBackend(), getTimer(), Duration.ofSeconds(1), config.getRateLimitFastPathRatio(), logger);
+					this.rateLimiter = rateLimiter;
+				}
+			}
+		}
+		return rateLimiter;
+	}
+
+	/**
+	 * Unwraps the actual cause of a {@link CompletionException}.
+	 *
+	 * @param t The {@link Throwable} to unwrap.
+	 * @return The actual {@link Exception}.
+	 */
+	private static Exception unwrap(Throwable t) {
+		while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+			t = t.getCause();
+		}
+		return t instanceof Exception ? (Exception) t : new CompletionException(t);
 	}
 
 	/**
@@ -552,7 +1963,7 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	private void fireEvent(Set<DIH4JDAListenerAdapter> listeners, String name, Object... args) {
 		if (listeners.isEmpty()) {
-			DIH4JDALogger.warn(String.format("%s was fired, but not handled (No listener registered) ", name), DIH4JDALogger.Type.EVENT_FIRED);
+			logger.warn(DIH4JDALogger.Type.EVENT_FIRED, "%s was fired, but not handled (No listener registered) ", name);
 		}
 		for (DIH4JDAListenerAdapter listener : listeners) {
 			try {
@@ -562,51 +1973,104 @@ public class InteractionHandler extends ListenerAdapter {
 					}
 				}
 			} catch (ReflectiveOperationException e) {
-				DIH4JDALogger.error(e.getMessage());
+				logger.error(DIH4JDALogger.Type.ERROR, String.valueOf(e.getMessage()));
 			}
 		}
 	}
 
 	/**
-	 * Checks the user's permissions to fire the {@link DIH4JDAListenerAdapter#onInsufficientPermissions} event, if needed.
+	 * @param handler The command or component handler.
+	 * @return The class that actually implements the given handler, which is not the handler's own class for
+	 * {@link LazyCommand}s.
+	 * @since v1.6
+	 */
+	private static Class<?> getImplementation(Object handler) {
+		return handler instanceof LazyCommand ? ((LazyCommand<?>) handler).getCommandClass() : handler.getClass();
+	}
+
+	/**
+	 * @param handler The command or component handler.
+	 * @return The instance that actually implements the given handler. For {@link LazyCommand}s, this creates the
+	 * implementation if needed.
+	 * @since v1.6
+	 */
+	private static Object getTarget(Object handler) {
+		return handler instanceof LazyCommand ? ((LazyCommand<?>) handler).getInstance() : handler;
+	}
+
+	/**
+	 * Checks whether the command the given component belongs to is disabled in the interaction's guild, and fires the
+	 * {@link DIH4JDAListenerAdapter#onComponentDisabled} event if so.
 	 *
-	 * @param interaction The {@link CommandInteraction}.
-	 * @param permissions A set of {@link Permission}s.
-	 * @return Whether the event was fired.
-	 * @since v1.5
+	 * @param interaction The component's {@link Interaction}.
+	 * @param index       The current {@link InteractionIndex}.
+	 * @param id          The component's identifier, without any arguments.
+	 * @param handler     The component's {@link ComponentHandler}.
+	 * @return Whether the command the given component belongs to is disabled.
+	 * @see CommandToggles
+	 * @since v1.6
 	 */
-	private boolean checkPermissions(CommandInteraction interaction, Set<Permission> permissions) {
-		if (!permissions.isEmpty() && interaction.isFromGuild() && interaction.getMember() != null && !interaction.getMember().hasPermission(permissions)) {
-			fireEvent(dih4jda.getListeners(), "onInsufficientPermissions", interaction, permissions);
-			return true;
-		}
-		return false;
+	private boolean isDisabled(Interaction interaction, InteractionIndex index, String id, ComponentHandler handler) {
+		if (interaction.getGuild() == null) return false;
+		String key = index.getComponentOwners().get(id);
+		if (key == null && handler instanceof TextCommand) key = CommandToggles.getTextCommandKey(((TextCommand) handler).getName());
+		if (key == null || config.getCommandToggles().isEnabled(interaction.getGuild().getIdLong(), key)) return false;
+		fireEvent(dih4jda.getListeners(), "onComponentDisabled", interaction);
+		return true;
 	}
 
 	/**
-	 * Checks the user to fire the {@link DIH4JDAListenerAdapter#onInvalidUser} event, if needed.
+	 * Evaluates the given {@link CommandRequirements} and fires the corresponding {@link DIH4JDAListenerAdapter} event
+	 * if any requirement is not met.
 	 *
-	 * @param interaction The {@link CommandInteraction}.
-	 * @param userIds     A set of {@link Long}s, representing the user ids.
-	 * @return Whether the event was fired.
-	 * @since v1.5
+	 * @param interaction  The {@link CommandInteraction}.
+	 * @param requirements The command's {@link CommandRequirements}.
+	 * @return Whether all requirements are met.
+	 * @see RequirementEvaluator
+	 * @since v1.6
 	 */
-	private boolean checkUser(CommandInteraction interaction, Set<Long> userIds) {
-		if (!userIds.isEmpty() && !userIds.contains(interaction.getUser().getIdLong())) {
-			fireEvent(dih4jda.getListeners(), "onInvalidUser", interaction, userIds);
-			return true;
+	private boolean checkRequirements(CommandInteraction interaction, CommandRequirements requirements) {
+		if (interaction.getGuild() != null && !config.getCommandToggles().isEnabled(interaction.getGuild().getIdLong(), interaction.getCommandType(), interaction.getName())) {
+			fireEvent(dih4jda.getListeners(), "onCommandDisabled", interaction);
+			return false;
+		}
+		MemberSnapshot member = memberCache == null ? MemberSnapshot.of(interaction) : memberCache.get(interaction);
+		switch (RequirementEvaluator.evaluate(requirements, interaction.getUser().getIdLong(), member)) {
+			case INSUFFICIENT_PERMISSIONS:
+				fireEvent(dih4jda.getListeners(), "onInsufficientPermissions", interaction, requirements.getRequiredPermissions());
+				return false;
+			case INVALID_USER:
+				fireEvent(dih4jda.getListeners(), "onInvalidUser", interaction, requirements.getRequiredUsers());
+				return false;
+			case INVALID_ROLE:
+				fireEvent(dih4jda.getListeners(), "onInvalidRole", interaction, requirements.getRequiredRoles());
+				return false;
+			default:
+				return true;
 		}
-		return false;
 	}
 
-	private boolean checkRole(CommandInteraction interaction, Set<Long> roleIds) {
-		if (!interaction.isFromGuild() || interaction.getGuild() == null || interaction.getMember() == null) return false;
-		Member member = interaction.getMember();
-		if (!roleIds.isEmpty() && !member.getRoles().isEmpty() && member.getRoles().stream().noneMatch(r -> roleIds.contains(r.getIdLong()))) {
-			fireEvent(dih4jda.getListeners(), "onInvalidRole", interaction, roleIds);
-			return true;
-		}
-		return false;
+	/**
+	 * Fired if Discord reports a {@link MessageReceivedEvent}. Messages are matched against the prefix before
+	 * anything else is done, so that all other messages are rejected without any allocation.
+	 *
+	 * @param event The {@link MessageReceivedEvent} that was fired.
+	 * @since v1.6
+	 */
+	@Override
+	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
+		String prefix = config.getTextCommandPrefix();
+		if (prefix == null) return;
+		String content = event.getMessage().getContentRaw();
+		int start = TextCommandParser.matchPrefix(content, prefix);
+		if (start < 0 || event.getAuthor().isBot()) return;
+		List<String> tokens = TextCommandParser.tokenize(content, start);
+		if (tokens.isEmpty()) return;
+		TextCommand command = index.get().getTextCommands().get(tokens.get(0).toLowerCase(Locale.ROOT));
+		if (command == null) return;
+		List<String> args = tokens.subList(1, tokens.size());
+		dispatch(event.getMessage(), () -> handleTextCommand(event, command, args),
+				e -> fireEvent(dih4jda.getListeners(), "onTextCommandException", event, e));
 	}
 
 	/**
@@ -616,13 +2080,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleSlashCommand(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleSlashCommand(event),
+				e -> fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e));
 	}
 
 	/**
@@ -632,13 +2091,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onUserContextInteraction(@NotNull UserContextInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleUserContextCommand(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleUserContextCommand(event),
+				e -> fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e));
 	}
 
 	/**
@@ -648,13 +2102,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onMessageContextInteraction(@NotNull MessageContextInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleMessageContextCommand(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleMessageContextCommand(event),
+				e -> fireEvent(dih4jda.getListeners(), "onCommandException", event.getInteraction(), e));
 	}
 
 	/**
@@ -664,13 +2113,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onCommandAutoCompleteInteraction(@NotNull CommandAutoCompleteInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleAutoComplete(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onAutoCompleteException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleAutoComplete(event),
+				e -> fireEvent(dih4jda.getListeners(), "onAutoCompleteException", event.getInteraction(), e));
 	}
 
 	/**
@@ -680,13 +2124,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onButtonInteraction(@NotNull ButtonInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleButton(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onComponentException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleButton(event),
+				e -> fireEvent(dih4jda.getListeners(), "onComponentException", event.getInteraction(), e));
 	}
 
 	/**
@@ -696,13 +2135,8 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onSelectMenuInteraction(@NotNull SelectMenuInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleSelectMenu(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onComponentException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleSelectMenu(event),
+				e -> fireEvent(dih4jda.getListeners(), "onComponentException", event.getInteraction(), e));
 	}
 
 	/**
@@ -712,12 +2146,60 @@ public class InteractionHandler extends ListenerAdapter {
 	 */
 	@Override
 	public void onModalInteraction(@NotNull ModalInteractionEvent event) {
-		CompletableFuture.runAsync(() -> {
-			try {
-				handleModal(event);
-			} catch (Exception e) {
-				fireEvent(dih4jda.getListeners(), "onModalException", event.getInteraction(), e);
-			}
-		}, config.getExecutor());
+		dispatch(event.getInteraction(), () -> handleModal(event),
+				e -> fireEvent(dih4jda.getListeners(), "onModalException", event.getInteraction(), e));
+	}
+
+	/**
+	 * A single, typed ephemeral component listener.
+	 *
+	 * @param <E> The type of event this listener handles.
+	 * @see InteractionHandler#addComponentListener(Class, Duration, Consumer)
+	 */
+	private static final class ComponentListener<E extends GenericInteractionCreateEvent> {
+		private final Class<E> type;
+		private final Consumer<? super E> listener;
+
+		private ComponentListener(Class<E> type, Consumer<? super E> listener) {
+			this.type = type;
+			this.listener = listener;
+		}
+
+		private boolean handle(GenericInteractionCreateEvent event) {
+			if (!type.isInstance(event)) return false;
+			listener.accept(type.cast(event));
+			return true;
+		}
+	}
+
+	/**
+	 * The registration of a single command, which is built once and reused by all following registrations.
+	 * Neither the entries nor the data are modified after the registration was built.
+	 *
+	 * @param <D> The type of the command's data.
+	 * @since v1.6
+	 */
+	private static final class Registration<D extends CommandData> {
+		private final InteractionIndex.Builder entries;
+		private final D data;
+
+		private Registration(InteractionIndex.Builder entries, @Nullable D data) {
+			this.entries = entries;
+			this.data = data;
+		}
+
+		/**
+		 * @return All index entries of the command, which must only be read.
+		 */
+		private InteractionIndex.Builder getEntries() {
+			return entries;
+		}
+
+		/**
+		 * @return The command's data, or null if the command is missing its data.
+		 */
+		private @Nullable D getData() {
+			return data;
+		}
 	}
 }
@@ -0,0 +1,312 @@
+package com.dynxsty.dih4jda;
+
+import com.dynxsty.dih4jda.interactions.binding.ModalBinder;
+import com.dynxsty.dih4jda.interactions.binding.OptionBinder;
+import com.dynxsty.dih4jda.interactions.commands.AutoCompletable;
+import com.dynxsty.dih4jda.interactions.commands.ComponentHandler;
+import com.dynxsty.dih4jda.interactions.commands.ContextCommand;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.commands.TextCommand;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of all indexes the {@link InteractionHandler} uses to route interactions.
+ * <br>A snapshot is never modified once it was built. Changes are made on a {@link InteractionIndex.Builder},
+ * which is then turned into a new snapshot and published atomically. Readers therefore never need to lock
+ * and always see a consistent state.
+ *
+ * @since v1.6
+ */
+final class InteractionIndex {
+
+	/**
+	 * An empty snapshot, which is used until the first interactions are registered.
+	 */
+	static final InteractionIndex EMPTY = new Builder().build();
+
+	private final Map<String, SlashCommand> slashCommands;
+	private final Map<String, SlashCommand.Subcommand> subcommands;
+	private final Map<String, ContextCommand.Message> messageContexts;
+	private final Map<String, ContextCommand.User> userContexts;
+	private final Map<String, AutoCompletable> autoCompletables;
+	private final Map<String, ComponentHandler> componentHandlers;
+	private final Map<String, OptionBinder> optionBinders;
+	private final Map<String, ModalBinder> modalBinders;
+	private final Map<String, TextCommand> textCommands;
+	private final Map<String, Set<String>> ownedComponents;
+	private final Map<String, String> componentOwners;
+
+	private InteractionIndex(@NotNull Builder builder) {
+		slashCommands = Map.copyOf(builder.slashCommands);
+		subcommands = Map.copyOf(builder.subcommands);
+		messageContexts = Map.copyOf(builder.messageContexts);
+		userContexts = Map.copyOf(builder.userContexts);
+		autoCompletables = Map.copyOf(builder.autoCompletables);
+		componentHandlers = Map.copyOf(builder.componentHandlers);
+		optionBinders = Map.copyOf(builder.optionBinders);
+		modalBinders = Map.copyOf(builder.modalBinders);
+		textCommands = Map.copyOf(builder.textCommands);
+		ownedComponents = Map.copyOf(builder.ownedComponents);
+		Map<String, String> owners = new HashMap<>();
+		ownedComponents.forEach((key, ids) -> ids.forEach(id -> owners.put(id, key)));
+		componentOwners = Map.copyOf(owners);
+	}
+
+	/**
+	 * @return An index of all {@link SlashCommand}s, mapped by their command path.
+	 */
+	Map<String, SlashCommand> getSlashCommands() {
+		return slashCommands;
+	}
+
+	/**
+	 * @return An index of all {@link SlashCommand.Subcommand}s, mapped by their command path.
+	 */
+	Map<String, SlashCommand.Subcommand> getSubcommands() {
+		return subcommands;
+	}
+
+	/**
+	 * @return An index of all {@link ContextCommand.Message}s, mapped by their name.
+	 */
+	Map<String, ContextCommand.Message> getMessageContexts() {
+		return messageContexts;
+	}
+
+	/**
+	 * @return An index of all {@link ContextCommand.User}s, mapped by their name.
+	 */
+	Map<String, ContextCommand.User> getUserContexts() {
+		return userContexts;
+	}
+
+	/**
+	 * @return An index of all {@link AutoCompletable}s, mapped by their command path.
+	 */
+	Map<String, AutoCompletable> getAutoCompletables() {
+		return autoCompletables;
+	}
+
+	/**
+	 * @return An index of all {@link ComponentHandler}s, mapped by their component identifier.
+	 */
+	Map<String, ComponentHandler> getComponentHandlers() {
+		return componentHandlers;
+	}
+
+	/**
+	 * @return An index of all {@link OptionBinder}s, mapped by the command path of the command they belong to.
+	 */
+	Map<String, OptionBinder> getOptionBinders() {
+		return optionBinders;
+	}
+
+	/**
+	 * @return An index of all {@link ModalBinder}s, mapped by the modal identifier they handle.
+	 */
+	Map<String, ModalBinder> getModalBinders() {
+		return modalBinders;
+	}
+
+	/**
+	 * @return All {@link TextCommand}s, mapped by their lower-case name and all of their aliases.
+	 */
+	Map<String, TextCommand> getTextCommands() {
+		return textCommands;
+	}
+
+	/**
+	 * @return The keys of all slash and context commands (see {@link CommandToggles#getKey}), mapped by the component
+	 * identifiers they own.
+	 */
+	Map<String, String> getComponentOwners() {
+		return componentOwners;
+	}
+
+	/**
+	 * Creates a new {@link InteractionIndex.Builder} which already contains all entries of this snapshot.
+	 *
+	 * @return The new {@link InteractionIndex.Builder}.
+	 */
+	Builder toBuilder() {
+		Builder builder = new Builder();
+		builder.slashCommands.putAll(slashCommands);
+		builder.subcommands.putAll(subcommands);
+		builder.messageContexts.putAll(messageContexts);
+		builder.userContexts.putAll(userContexts);
+		builder.autoCompletables.putAll(autoCompletables);
+		builder.componentHandlers.putAll(componentHandlers);
+		builder.optionBinders.putAll(optionBinders);
+		builder.modalBinders.putAll(modalBinders);
+		builder.textCommands.putAll(textCommands);
+		builder.ownedComponents.putAll(ownedComponents);
+		return builder;
+	}
+
+	/**
+	 * Mutable, non thread-safe builder for {@link InteractionIndex} snapshots.
+	 */
+	static final class Builder {
+		private final Map<String, SlashCommand> slashCommands = new HashMap<>();
+		private final Map<String, SlashCommand.Subcommand> subcommands = new HashMap<>();
+		private final Map<String, ContextCommand.Message> messageContexts = new HashMap<>();
+		private final Map<String, ContextCommand.User> userContexts = new HashMap<>();
+		private final Map<String, AutoCompletable> autoCompletables = new HashMap<>();
+		private final Map<String, ComponentHandler> componentHandlers = new HashMap<>();
+		private final Map<String, OptionBinder> optionBinders = new HashMap<>();
+		private final Map<String, ModalBinder> modalBinders = new HashMap<>();
+		private final Map<String, TextCommand> textCommands = new HashMap<>();
+		// the component identifiers of each command, mapped by the command's type and name
+		private final Map<String, Set<String>> ownedComponents = new HashMap<>();
+
+		Builder putSlashCommand(String path, SlashCommand command) {
+			slashCommands.put(path, command);
+			return this;
+		}
+
+		Builder putSubcommand(String path, SlashCommand.Subcommand subcommand) {
+			subcommands.put(path, subcommand);
+			return this;
+		}
+
+		Builder putMessageContext(String name, ContextCommand.Message command) {
+			messageContexts.put(name, command);
+			return this;
+		}
+
+		Builder putUserContext(String name, ContextCommand.User command) {
+			userContexts.put(name, command);
+			return this;
+		}
+
+		Builder putAutoCompletable(String path, AutoCompletable autoCompletable) {
+			autoCompletables.put(path, autoCompletable);
+			return this;
+		}
+
+		Builder putComponentHandler(String id, ComponentHandler handler) {
+			componentHandlers.put(id, handler);
+			return this;
+		}
+
+		Builder putOptionBinder(String path, OptionBinder binder) {
+			optionBinders.put(path, binder);
+			return this;
+		}
+
+		Builder putModalBinder(String id, ModalBinder binder) {
+			modalBinders.put(id, binder);
+			return this;
+		}
+
+		@Nullable TextCommand getTextCommand(String name) {
+			return textCommands.get(name);
+		}
+
+		Builder putTextCommand(String name, TextCommand command) {
+			textCommands.put(name, command);
+			return this;
+		}
+
+		/**
+		 * Marks all component identifiers this builder currently contains as owned by the given command, so that
+		 * they are removed along with the command. Must only be called on a builder that contains nothing but the
+		 * entries of this command.
+		 *
+		 * @param type The command's {@link Command.Type}.
+		 * @param name The command's name.
+		 * @return This builder, for chaining.
+		 */
+		Builder setOwner(@NotNull Command.Type type, @NotNull String name) {
+			ownedComponents.put(getOwnerKey(type, name), Set.copyOf(componentHandlers.keySet()));
+			return this;
+		}
+
+		/**
+		 * Copies all entries of the given {@link InteractionIndex.Builder} into this one.
+		 * Entries of the given builder override already existing ones.
+		 *
+		 * @param other The other {@link InteractionIndex.Builder}.
+		 * @return This builder, for chaining.
+		 */
+		Builder putAll(@NotNull Builder other) {
+			slashCommands.putAll(other.slashCommands);
+			subcommands.putAll(other.subcommands);
+			messageContexts.putAll(other.messageContexts);
+			userContexts.putAll(other.userContexts);
+			autoCompletables.putAll(other.autoCompletables);
+			componentHandlers.putAll(other.componentHandlers);
+			optionBinders.putAll(other.optionBinders);
+			modalBinders.putAll(other.modalBinders);
+			textCommands.putAll(other.textCommands);
+			ownedComponents.putAll(other.ownedComponents);
+			return this;
+		}
+
+		/**
+		 * Replaces all commands of the given {@link InteractionIndex.Builder}: the entries of each command it owns
+		 * are removed from this builder before all of its entries are copied into this one. Thus, entries that a
+		 * command no longer has (e.g. removed Subcommands or component identifiers) don't stay routed.
+		 *
+		 * @param other The other {@link InteractionIndex.Builder}.
+		 * @return This builder, for chaining.
+		 */
+		Builder replaceAll(@NotNull Builder other) {
+			for (String key : other.ownedComponents.keySet()) {
+				int separator = key.indexOf(':');
+				removeCommand(Command.Type.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+			}
+			return putAll(other);
+		}
+
+		/**
+		 * Removes the command with the given type and name, including all of its Subcommands and component
+		 * identifiers. Commands are matched by their name only, thus, this also removes a command that was
+		 * registered using a different instance.
+		 *
+		 * @param type The command's {@link Command.Type}.
+		 * @param name The command's name.
+		 * @return This builder, for chaining.
+		 */
+		Builder removeCommand(@NotNull Command.Type type, @NotNull String name) {
+			switch (type) {
+				case SLASH:
+					String prefix = name + "/";
+					slashCommands.keySet().removeIf(path -> path.equals(name) || path.startsWith(prefix));
+					subcommands.keySet().removeIf(path -> path.startsWith(prefix));
+					autoCompletables.keySet().removeIf(path -> path.equals(name) || path.startsWith(prefix));
+					optionBinders.keySet().removeIf(path -> path.equals(name) || path.startsWith(prefix));
+					break;
+				case MESSAGE:
+					messageContexts.remove(name);
+					break;
+				case USER:
+					userContexts.remove(name);
+					break;
+				default:
+					break;
+			}
+			Set<String> owned = ownedComponents.remove(getOwnerKey(type, name));
+			if (owned != null) {
+				componentHandlers.keySet().removeAll(owned);
+				modalBinders.keySet().removeAll(owned);
+			}
+			return this;
+		}
+
+		private static String getOwnerKey(Command.Type type, String name) {
+			return CommandToggles.getKey(type, name);
+		}
+
+		InteractionIndex build() {
+			return new InteractionIndex(this);
+		}
+	}
+}
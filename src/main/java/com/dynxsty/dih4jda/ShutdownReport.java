@@ -0,0 +1,70 @@
+package com.dynxsty.dih4jda;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Summarizes how the interactions that were still being handled upon {@link DIH4JDA#shutdown(Duration)} ended.
+ *
+ * @since v1.6
+ */
+public final class ShutdownReport {
+
+	private final int completed;
+	private final int deferred;
+	private final int abandoned;
+	private final int rejected;
+	private final Duration duration;
+
+	ShutdownReport(int completed, int deferred, int abandoned, int rejected, @NotNull Duration duration) {
+		this.completed = completed;
+		this.deferred = deferred;
+		this.abandoned = abandoned;
+		this.rejected = rejected;
+		this.duration = duration;
+	}
+
+	/**
+	 * @return The amount of interactions that were fully handled before the deadline.
+	 */
+	public int getCompleted() {
+		return completed;
+	}
+
+	/**
+	 * @return The amount of interactions that were not handled in time and were deferred, so that they do not fail
+	 * right away.
+	 */
+	public int getDeferred() {
+		return deferred;
+	}
+
+	/**
+	 * @return The amount of interactions that were not handled in time and could not be deferred, either because they
+	 * were already acknowledged or because they can't be deferred at all (e.g. auto-complete interactions).
+	 */
+	public int getAbandoned() {
+		return abandoned;
+	}
+
+	/**
+	 * @return The amount of interactions that were received after the shutdown began and were thus not handled.
+	 */
+	public int getRejected() {
+		return rejected;
+	}
+
+	/**
+	 * @return How long the shutdown took.
+	 */
+	public @NotNull Duration getDuration() {
+		return duration;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShutdownReport[completed=%s, deferred=%s, abandoned=%s, rejected=%s, duration=%sms]",
+				completed, deferred, abandoned, rejected, duration.toMillis());
+	}
+}
@@ -11,8 +11,10 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.event.Level;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -28,23 +30,24 @@ public class SmartQueue {
 	/**
 	 * Compares CommandData with already existing Commands, removed duplicates and, if enabled, deleted unknown commands.
 	 *
+	 * @param logger      The {@link DIH4JDALogger} of the {@link DIH4JDA} instance.
 	 * @param jda         The {@link JDA} instance which is used to retrieve the already existing commands.
 	 * @param slashData   The set of {@link SlashCommandData}.
 	 * @param commandData The set of {@link CommandData}.
 	 * @return A {@link Pair} with the remaining {@link SlashCommandData} & {@link CommandData}.
 	 * @since v1.5
 	 */
-	protected static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> checkGlobal(JDA jda, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, boolean deleteUnknown) {
+	protected static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> checkGlobal(DIH4JDALogger logger, JDA jda, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, boolean deleteUnknown) {
 		List<Command> existing;
 		try {
 			existing = jda.retrieveCommands().complete();
 		} catch (ErrorResponseException e) {
-			DIH4JDALogger.error("Could not retrieve Global Commands! Please make sure that the bot was invited with " +
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not retrieve Global Commands! Please make sure that the bot was invited with " +
 					"the application.commands scope!");
 			return new Pair<>(Set.of(), Set.of());
 		}
 		if (!existing.isEmpty()) {
-			return removeDuplicates(jda, existing, slashData, commandData, null, deleteUnknown);
+			return removeDuplicates(logger, jda, existing, slashData, commandData, null, deleteUnknown);
 		}
 		return new Pair<>(slashData, commandData);
 	}
@@ -52,23 +55,24 @@ public class SmartQueue {
 	/**
 	 * Compares CommandData with already existing Commands, removed duplicates and, if enabled, deletes unknown commands.
 	 *
+	 * @param logger      The {@link DIH4JDALogger} of the {@link DIH4JDA} instance.
 	 * @param guild       The {@link Guild} which is used to retrieve the already existing commands.
 	 * @param slashData   The set of {@link SlashCommandData}.
 	 * @param commandData The set of {@link CommandData}.
 	 * @return A {@link Pair} with the remaining {@link SlashCommandData} & {@link CommandData}.
 	 * @since v1.5
 	 */
-	protected static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> checkGuild(Guild guild, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, boolean deleteUnknown) {
+	protected static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> checkGuild(DIH4JDALogger logger, Guild guild, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, boolean deleteUnknown) {
 		List<Command> existing;
 		try {
 			existing = guild.retrieveCommands().complete();
 		} catch (ErrorResponseException e) {
-			DIH4JDALogger.error("Could not retrieve Commands from Guild " + guild.getName() + "!" +
-					" Please make sure that the bot was invited with the application.commands scope!");
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not retrieve Commands from Guild %s! Please make sure that the bot " +
+					"was invited with the application.commands scope!", guild.getName());
 			return new Pair<>(Set.of(), Set.of());
 		}
 		if (!existing.isEmpty()) {
-			return removeDuplicates(guild.getJDA(), existing, slashData, commandData, guild, deleteUnknown);
+			return removeDuplicates(logger, guild.getJDA(), existing, slashData, commandData, guild, deleteUnknown);
 		}
 		return new Pair<>(slashData, commandData);
 	}
@@ -76,20 +80,23 @@ public class SmartQueue {
 	/**
 	 * Removes all duplicate CommandData and, if enabled, deletes unknown commands.
 	 *
+	 * @param logger        The {@link DIH4JDALogger} of the {@link DIH4JDA} instance.
 	 * @param jda           The {@link JDA} instance.
 	 * @param existing      A List of all existing {@link Command}s.
 	 * @param slashData     The set of {@link SlashCommandData}.
 	 * @param commandData   The set of {@link CommandData}.
-	 * @param guild         An optional guild parameter which is used with {@link SmartQueue#checkGuild(Guild, Set, Set, boolean)}.
+	 * @param guild         An optional guild parameter which is used with {@link SmartQueue#checkGuild(DIH4JDALogger, Guild, Set, Set, boolean)}.
 	 * @param deleteUnknown Whether unknown commands should be removed.
 	 * @return A {@link Pair} with the remaining {@link SlashCommandData} & {@link CommandData}.
 	 * @since v1.5
 	 */
-	private static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> removeDuplicates(JDA jda, final List<Command> existing, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, @Nullable Guild guild, boolean deleteUnknown) {
+	private static Pair<Set<UnqueuedSlashCommandData>, Set<UnqueuedCommandData>> removeDuplicates(DIH4JDALogger logger, JDA jda, final List<Command> existing, Set<UnqueuedSlashCommandData> slashData, Set<UnqueuedCommandData> commandData, @Nullable Guild guild, boolean deleteUnknown) {
 		List<Command> commands = new ArrayList<>(existing);
 		boolean global = guild == null;
-		String prefix = String.format("[%s] ", global ? "Global" : guild.getName());
-		DIH4JDALogger.info(String.format(prefix + "Found %s existing command(s)", existing.size()), DIH4JDALogger.Type.SMART_QUEUE);
+		String scope = global ? "Global" : guild.getName();
+		// guild details are only logged on debug level, as they would otherwise flood the log of larger bots
+		Level detail = global ? Level.INFO : Level.DEBUG;
+		logger.log(detail, DIH4JDALogger.Type.SMART_QUEUE, "[%s] Found %s existing command(s)", scope, existing.size());
 		// remove already-existing commands
 		commands.removeIf(cmd -> {
 			if (commandData.stream().anyMatch(data -> CommandUtils.isEqual(cmd, data.getData(), global)) ||
@@ -99,43 +106,46 @@ public class SmartQueue {
 				if (guild != null) {
 					for (UnqueuedSlashCommandData d : slashData) {
 						if (CommandUtils.isEqual(cmd, d.getData(), false) && !d.getGuilds().contains(guild)) {
-							DIH4JDALogger.info("Deleting /" + cmd.getName() + " in Guild: " + guild.getName());
+							logger.info(DIH4JDALogger.Type.SMART_QUEUE, "Deleting /%s in Guild: %s", cmd.getName(), guild.getName());
 							cmd.delete().queue();
 							return true;
 						}
 					}
 					for (UnqueuedCommandData d : commandData) {
 						if (CommandUtils.isEqual(cmd, d.getData(), false) && !d.getGuilds().contains(guild)) {
-							DIH4JDALogger.info("Deleting " + cmd.getName() + " in Guild: " + guild.getName());
+							logger.info(DIH4JDALogger.Type.SMART_QUEUE, "Deleting %s in Guild: %s", cmd.getName(), guild.getName());
 							cmd.delete().queue();
 							return true;
 						}
 					}
 				}
-				DIH4JDALogger.info(String.format(prefix + "Found duplicate %s command, which will be ignored: %s", cmd.getType(), cmd.getName()), DIH4JDALogger.Type.SMART_QUEUE);
+				logger.log(detail, DIH4JDALogger.Type.SMART_QUEUE, "[%s] Found duplicate %s command, which will be ignored: %s", scope, cmd.getType(), cmd.getName());
 				return true;
 			}
 			return false;
 		});
-		commandData.removeIf(data -> existing.stream().anyMatch(p -> CommandUtils.isEqual(p, data.getData(), global)));
-		slashData.removeIf(data -> existing.stream().anyMatch(p -> CommandUtils.isEqual(p, data.getData(), global)));
+		// the given sets are shared, thus, only copies are modified
+		Set<UnqueuedCommandData> remainingCommandData = new HashSet<>(commandData);
+		Set<UnqueuedSlashCommandData> remainingSlashData = new HashSet<>(slashData);
+		remainingCommandData.removeIf(data -> existing.stream().anyMatch(p -> CommandUtils.isEqual(p, data.getData(), global)));
+		remainingSlashData.removeIf(data -> existing.stream().anyMatch(p -> CommandUtils.isEqual(p, data.getData(), global)));
 		// remove unknown commands, if enabled
 		if (!commands.isEmpty()) {
 			for (Command command : commands) {
 				if (existing.contains(command)) {
 					if (deleteUnknown) {
-						DIH4JDALogger.info(String.format(prefix + "Deleting unknown %s command: %s", command.getType(), command.getName()), DIH4JDALogger.Type.SMART_QUEUE);
+						logger.info(DIH4JDALogger.Type.SMART_QUEUE, "[%s] Deleting unknown %s command: %s", scope, command.getType(), command.getName());
 						if (guild == null) {
 							jda.deleteCommandById(command.getId()).queue();
 						} else {
 							guild.deleteCommandById(command.getId()).queue();
 						}
 					} else {
-						DIH4JDALogger.info(String.format(prefix + "Ignored unknown %s command: %s", command.getType(), command.getName()), DIH4JDALogger.Type.SMART_QUEUE);
+						logger.log(detail, DIH4JDALogger.Type.SMART_QUEUE, "[%s] Ignored unknown %s command: %s", scope, command.getType(), command.getName());
 					}
 				}
 			}
 		}
-		return new Pair<>(slashData, commandData);
+		return new Pair<>(remainingSlashData, remainingCommandData);
 	}
 }
@@ -0,0 +1,40 @@
+package com.dynxsty.dih4jda.analytics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The format of analytics files, which consist of independent blocks that are appended on each flush:
+ * <pre>
+ * block   := int length, byte version, varint pathCount, UTF path * pathCount, varint entryCount, entry * entryCount
+ * entry   := varint pathIndex, long guildId, varlong hour, varlong count
+ * </pre>
+ * The hour is counted since the epoch. Blocks that were not written completely (e.g. due to a crash) are ignored.
+ *
+ * @since v1.6
+ */
+final class AnalyticsFormat {
+	static final byte VERSION = 1;
+
+	private AnalyticsFormat() {
+	}
+
+	static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+		throw new IOException("Malformed variable-length number");
+	}
+}
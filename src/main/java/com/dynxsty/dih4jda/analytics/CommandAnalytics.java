@@ -0,0 +1,253 @@
+package com.dynxsty.dih4jda.analytics;
+
+import com.dynxsty.dih4jda.DIH4JDALogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts command invocations per command path, guild and hour in memory, and periodically appends them to a compact
+ * local file. Recording an invocation only increments a striped counter, which is allocation-free for all
+ * combinations that were already recorded in the current hour.
+ * <br>Files can be read using {@link CommandAnalyticsReader}.
+ *
+ * <pre>{@code
+ * DIH4JDA dih4jda = DIH4JDABuilder
+ *         .setJDA(jda)
+ *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+ *         .enableAnalytics(Path.of("analytics.bin"), Duration.ofMinutes(5))
+ *         .build();
+ * }</pre>
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#enableAnalytics(Path, Duration)
+ * @since v1.6
+ */
+public class CommandAnalytics implements AutoCloseable {
+	private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+	private final Path file;
+	private final DIH4JDALogger logger;
+	// the length of all complete blocks of the file, or -1 if the file was not yet checked
+	private long validLength = -1;
+	private final Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+	// reused for lookups, so that recording does not allocate a new key
+	private final ThreadLocal<Key> probe = ThreadLocal.withInitial(Key::new);
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "DIH4JDA-Analytics");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Creates a new {@link CommandAnalytics} instance, which logs all of its messages.
+	 *
+	 * @param file          The file all invocations are appended to. It is created if it does not exist.
+	 * @param flushInterval How often invocations are appended to the file.
+	 */
+	public CommandAnalytics(@NotNull Path file, @NotNull Duration flushInterval) {
+		this(file, flushInterval, new DIH4JDALogger(Set.of()));
+	}
+
+	/**
+	 * Creates a new {@link CommandAnalytics} instance.
+	 *
+	 * @param file          The file all invocations are appended to. It is created if it does not exist.
+	 * @param flushInterval How often invocations are appended to the file.
+	 * @param logger        The {@link DIH4JDALogger} to use.
+	 */
+	public CommandAnalytics(@NotNull Path file, @NotNull Duration flushInterval, @NotNull DIH4JDALogger logger) {
+		this.file = file;
+		this.logger = logger;
+		long interval = flushInterval.toMillis();
+		executor.scheduleAtFixedRate(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Records a single invocation at the current time.
+	 *
+	 * @param path    The command's path.
+	 * @param guildId The guild's id, or 0 for direct messages.
+	 */
+	public void record(@NotNull String path, long guildId) {
+		record(path, guildId, System.currentTimeMillis());
+	}
+
+	/**
+	 * Records a single invocation.
+	 *
+	 * @param path      The command's path.
+	 * @param guildId   The guild's id, or 0 for direct messages.
+	 * @param timestamp The time of the invocation, in milliseconds since the epoch.
+	 */
+	public void record(@NotNull String path, long guildId, long timestamp) {
+		Key probe = this.probe.get().set(path, guildId, Math.floorDiv(timestamp, HOUR));
+		LongAdder counter = counters.get(probe);
+		if (counter == null) {
+			counter = counters.computeIfAbsent(new Key().set(path, guildId, probe.hour), k -> new LongAdder());
+		}
+		counter.increment();
+	}
+
+	/**
+	 * Appends all invocations that were recorded since the last flush to the file. If this fails, the invocations are
+	 * kept and appended on the next flush instead.
+	 * <br>Counters are only decremented once their block was written completely, and an incomplete block (e.g. of a
+	 * failed write or a crash) is cut off before the next one is appended, so that invocations are neither lost nor
+	 * counted twice.
+	 */
+	public synchronized void flush() {
+		long currentHour = Math.floorDiv(System.currentTimeMillis(), HOUR);
+		Map<String, Integer> paths = new HashMap<>();
+		List<Key> keys = new ArrayList<>();
+		List<Long> counts = new ArrayList<>();
+		for (Map.Entry<Key, LongAdder> entry : counters.entrySet()) {
+			Key key = entry.getKey();
+			// invocations that race with the flush stay in the counter, as only the written count is subtracted
+			long count = entry.getValue().sum();
+			if (count > 0) {
+				paths.putIfAbsent(key.path, paths.size());
+				keys.add(key);
+				counts.add(count);
+			} else if (key.hour < currentHour - 1) {
+				// past hours are not recorded anymore, apart from invocations that raced with the turn of the hour
+				counters.remove(key, entry.getValue());
+			}
+		}
+		if (keys.isEmpty()) return;
+		try {
+			append(encode(paths, keys, counts));
+		} catch (IOException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not flush command analytics: %s", e.getMessage());
+			return;
+		}
+		for (int i = 0; i < keys.size(); i++) {
+			counters.computeIfAbsent(keys.get(i), k -> new LongAdder()).add(-counts.get(i));
+		}
+	}
+
+	/**
+	 * Appends a single block to the file, after cutting off everything behind the last complete block.
+	 *
+	 * @param block The encoded block.
+	 * @throws IOException If the block could not be written.
+	 */
+	private void append(byte[] block) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			if (validLength < 0) validLength = findValidLength(channel);
+			if (channel.size() > validLength) channel.truncate(validLength);
+			ByteBuffer buffer = ByteBuffer.wrap(block);
+			long position = validLength;
+			while (buffer.hasRemaining()) {
+				position += channel.write(buffer, position);
+			}
+			channel.force(false);
+			validLength = position;
+		}
+	}
+
+	/**
+	 * @param channel The file's {@link FileChannel}.
+	 * @return The length of all complete blocks at the beginning of the file.
+	 */
+	private static long findValidLength(FileChannel channel) throws IOException {
+		long size = channel.size();
+		long position = 0;
+		ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+		while (position + Integer.BYTES <= size) {
+			header.clear();
+			while (header.hasRemaining()) {
+				if (channel.read(header, position + header.position()) < 0) return position;
+			}
+			int length = header.getInt(0);
+			if (length < 0 || position + Integer.BYTES + length > size) break;
+			position += Integer.BYTES + length;
+		}
+		return position;
+	}
+
+	private static byte[] encode(Map<String, Integer> paths, List<Key> keys, List<Long> counts) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		// placeholder for the block's length
+		out.writeInt(0);
+		out.writeByte(AnalyticsFormat.VERSION);
+		String[] table = new String[paths.size()];
+		paths.forEach((path, index) -> table[index] = path);
+		AnalyticsFormat.writeVarLong(out, table.length);
+		for (String path : table) {
+			out.writeUTF(path);
+		}
+		AnalyticsFormat.writeVarLong(out, keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			Key key = keys.get(i);
+			AnalyticsFormat.writeVarLong(out, paths.get(key.path));
+			out.writeLong(key.guildId);
+			AnalyticsFormat.writeVarLong(out, key.hour);
+			AnalyticsFormat.writeVarLong(out, counts.get(i));
+		}
+		byte[] block = bytes.toByteArray();
+		int length = block.length - Integer.BYTES;
+		block[0] = (byte) (length >>> 24);
+		block[1] = (byte) (length >>> 16);
+		block[2] = (byte) (length >>> 8);
+		block[3] = (byte) length;
+		return block;
+	}
+
+	/**
+	 * Stops the periodic flush and appends all remaining invocations to the file.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		flush();
+	}
+
+	/**
+	 * The key of a single counter. Only keys that are used for lookups are ever modified.
+	 */
+	private static final class Key {
+		private String path;
+		private long guildId;
+		private long hour;
+		private int hash;
+
+		private Key set(String path, long guildId, long hour) {
+			this.path = path;
+			this.guildId = guildId;
+			this.hour = hour;
+			this.hash = 31 * (31 * path.hashCode() + Long.hashCode(guildId)) + Long.hashCode(hour);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Key)) return false;
+			Key key = (Key) o;
+			return guildId == key.guildId && hour == key.hour && path.equals(key.path);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
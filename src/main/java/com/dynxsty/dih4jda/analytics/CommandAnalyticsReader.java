@@ -0,0 +1,93 @@
+package com.dynxsty.dih4jda.analytics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for reading files that were written by {@link CommandAnalytics}.
+ *
+ * <pre>{@code
+ * for (CommandUsage usage : CommandAnalyticsReader.read(Path.of("analytics.bin"))) {
+ *     System.out.printf("%s: /%s was used %s times%n", usage.getHour(), usage.getPath(), usage.getCount());
+ * }
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class CommandAnalyticsReader {
+
+	private CommandAnalyticsReader() {
+	}
+
+	/**
+	 * Reads all invocations of the given file. Invocations of the same command in the same guild and hour, which
+	 * may have been appended on multiple flushes, are merged.
+	 *
+	 * @param file The analytics file.
+	 * @return All {@link CommandUsage}s, sorted by their hour, path and guild.
+	 * @throws IOException If the file could not be read or is malformed.
+	 */
+	public static @NotNull List<CommandUsage> read(@NotNull Path file) throws IOException {
+		Map<String, CommandUsage> usages = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			byte[] block;
+			while ((block = readBlock(in)) != null) {
+				for (CommandUsage usage : readEntries(block)) {
+					String key = usage.getPath() + '\0' + usage.getGuildId() + '\0' + usage.getEpochHour();
+					usages.merge(key, usage, (a, b) -> new CommandUsage(a.getPath(), a.getGuildId(), a.getEpochHour(), a.getCount() + b.getCount()));
+				}
+			}
+		}
+		List<CommandUsage> result = new ArrayList<>(usages.values());
+		result.sort(Comparator.comparingLong(CommandUsage::getEpochHour)
+				.thenComparing(CommandUsage::getPath)
+				.thenComparingLong(CommandUsage::getGuildId));
+		return result;
+	}
+
+	/**
+	 * @return The next block, or null if there is no complete block left.
+	 */
+	private static byte[] readBlock(DataInputStream in) throws IOException {
+		try {
+			int length = in.readInt();
+			if (length < 0) throw new IOException("Malformed block length: " + length);
+			byte[] block = new byte[length];
+			in.readFully(block);
+			return block;
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	private static List<CommandUsage> readEntries(byte[] block) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(block));
+		byte version = in.readByte();
+		if (version != AnalyticsFormat.VERSION) throw new IOException("Unsupported analytics version: " + version);
+		String[] paths = new String[(int) AnalyticsFormat.readVarLong(in)];
+		for (int i = 0; i < paths.length; i++) {
+			paths[i] = in.readUTF();
+		}
+		int entries = (int) AnalyticsFormat.readVarLong(in);
+		List<CommandUsage> usages = new ArrayList<>(entries);
+		for (int i = 0; i < entries; i++) {
+			String path = paths[(int) AnalyticsFormat.readVarLong(in)];
+			long guildId = in.readLong();
+			long hour = AnalyticsFormat.readVarLong(in);
+			usages.add(new CommandUsage(path, guildId, hour, AnalyticsFormat.readVarLong(in)));
+		}
+		return usages;
+	}
+}
@@ -0,0 +1,63 @@
+package com.dynxsty.dih4jda.analytics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The amount of invocations of a single command in a single guild during a single hour.
+ *
+ * @see CommandAnalyticsReader
+ * @since v1.6
+ */
+public class CommandUsage {
+	private final String path;
+	private final long guildId;
+	private final long hour;
+	private final long count;
+
+	CommandUsage(String path, long guildId, long hour, long count) {
+		this.path = path;
+		this.guildId = guildId;
+		this.hour = hour;
+		this.count = count;
+	}
+
+	/**
+	 * @return The command's path.
+	 */
+	public @NotNull String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return The guild's id, or 0 for direct messages.
+	 */
+	public long getGuildId() {
+		return guildId;
+	}
+
+	/**
+	 * @return The start of the hour.
+	 */
+	public @NotNull Instant getHour() {
+		return Instant.ofEpochMilli(TimeUnit.HOURS.toMillis(hour));
+	}
+
+	/**
+	 * @return The amount of invocations.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	long getEpochHour() {
+		return hour;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CommandUsage{path=%s, guildId=%s, hour=%s, count=%s}", path, guildId, getHour(), count);
+	}
+}
@@ -0,0 +1,99 @@
+package com.dynxsty.dih4jda.audit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Utility class for reading the segments that were written by {@link MappedAuditLog}.
+ *
+ * <pre>{@code
+ * for (AuditRecord record : AuditLogReader.read(Path.of("audit"))) {
+ *     System.out.printf("%s ran /%s %s: %s%n", record.getUserId(), record.getPath(), record.getOptions(), record.getOutcome());
+ * }
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class AuditLogReader {
+
+	private AuditLogReader() {
+	}
+
+	/**
+	 * Reads all records of all segments in the given directory.
+	 *
+	 * @param directory The directory of the {@link MappedAuditLog}.
+	 * @return All {@link AuditRecord}s, in the order they were written.
+	 * @throws IOException If a segment could not be read or is malformed.
+	 */
+	public static @NotNull List<AuditRecord> read(@NotNull Path directory) throws IOException {
+		List<Path> segments;
+		try (Stream<Path> files = Files.list(directory)) {
+			segments = files.filter(file -> getSegmentIndex(file) >= 0)
+					.sorted(Comparator.comparingLong(AuditLogReader::getSegmentIndex))
+					.collect(Collectors.toList());
+		}
+		List<AuditRecord> records = new ArrayList<>();
+		for (Path segment : segments) {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+			while (buffer.remaining() >= Integer.BYTES) {
+				int length = buffer.getInt();
+				// the rest of the segment is still empty, or its last record was not written completely
+				if (length <= 0 || length > buffer.remaining()) break;
+				records.add(decode(new DataInputStream(new ByteArrayInputStream(buffer.array(), buffer.position(), length))));
+				buffer.position(buffer.position() + length);
+			}
+		}
+		return records;
+	}
+
+	private static AuditRecord decode(DataInputStream in) throws IOException {
+		Instant timestamp = Instant.ofEpochMilli(in.readLong());
+		long userId = in.readLong();
+		long guildId = in.readLong();
+		long channelId = in.readLong();
+		String path = in.readUTF();
+		int optionCount = in.readShort();
+		Map<String, String> options = new LinkedHashMap<>();
+		for (int i = 0; i < optionCount; i++) {
+			options.put(in.readUTF(), in.readUTF());
+		}
+		int outcome = in.readByte();
+		if (outcome < 0 || outcome >= AuditRecord.Outcome.values().length) {
+			throw new IOException("Malformed audit record outcome: " + outcome);
+		}
+		Duration duration = Duration.ofNanos(in.readLong());
+		String error = in.readBoolean() ? in.readUTF() : null;
+		return new AuditRecord(timestamp, userId, guildId, channelId, path, options,
+				AuditRecord.Outcome.values()[outcome], duration, error);
+	}
+
+	/**
+	 * @param file The file.
+	 * @return The index of the segment, or -1 if the file is not a segment.
+	 */
+	static long getSegmentIndex(Path file) {
+		String name = file.getFileName().toString();
+		if (!name.startsWith(MappedAuditLog.SEGMENT_PREFIX) || !name.endsWith(MappedAuditLog.SEGMENT_SUFFIX)) return -1;
+		try {
+			return Long.parseLong(name.substring(MappedAuditLog.SEGMENT_PREFIX.length(), name.length() - MappedAuditLog.SEGMENT_SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.dynxsty.dih4jda.audit;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single entry of the audit log, which describes who ran which command, with which options, where and with what
+ * outcome.
+ *
+ * @see AuditSink
+ * @since v1.6
+ */
+public class AuditRecord {
+	private final Instant timestamp;
+	private final long userId;
+	private final long guildId;
+	private final long channelId;
+	private final String path;
+	private final Map<String, String> options;
+	private final Outcome outcome;
+	private final Duration duration;
+	private final String error;
+
+	/**
+	 * Creates a new {@link AuditRecord}.
+	 *
+	 * @param timestamp The time the command was run.
+	 * @param userId    The id of the user who ran the command.
+	 * @param guildId   The guild's id, or 0 for direct messages.
+	 * @param channelId The channel's id, or 0 if unknown.
+	 * @param path      The command's path.
+	 * @param options   All options the command was run with, mapped by their name.
+	 * @param outcome   The {@link Outcome}.
+	 * @param duration  How long the execution took.
+	 * @param error     The error message, if the execution failed.
+	 */
+	public AuditRecord(@NotNull Instant timestamp, long userId, long guildId, long channelId, @NotNull String path,
+					   @NotNull Map<String, String> options, @NotNull Outcome outcome, @NotNull Duration duration,
+					   @Nullable String error) {
+		this.timestamp = timestamp;
+		this.userId = userId;
+		this.guildId = guildId;
+		this.channelId = channelId;
+		this.path = path;
+		this.options = Collections.unmodifiableMap(new LinkedHashMap<>(options));
+		this.outcome = outcome;
+		this.duration = duration;
+		this.error = error;
+	}
+
+	public @NotNull Instant getTimestamp() {
+		return timestamp;
+	}
+
+	public long getUserId() {
+		return userId;
+	}
+
+	/**
+	 * @return The guild's id, or 0 for direct messages.
+	 */
+	public long getGuildId() {
+		return guildId;
+	}
+
+	/**
+	 * @return The channel's id, or 0 if unknown.
+	 */
+	public long getChannelId() {
+		return channelId;
+	}
+
+	public @NotNull String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return All options the command was run with, mapped by their name.
+	 */
+	public @NotNull Map<String, String> getOptions() {
+		return options;
+	}
+
+	public @NotNull Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * @return How long the execution took, or {@link Duration#ZERO} if the command was not executed.
+	 */
+	public @NotNull Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return The error message, or null if the execution did not fail.
+	 */
+	public @Nullable String getError() {
+		return error;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AuditRecord{timestamp=%s, userId=%s, guildId=%s, channelId=%s, path=%s, options=%s, outcome=%s, duration=%s, error=%s}",
+				timestamp, userId, guildId, channelId, path, options, outcome, duration, error);
+	}
+
+	/**
+	 * The outcome of a single command execution.
+	 */
+	public enum Outcome {
+		/**
+		 * The command was executed successfully.
+		 */
+		SUCCESS,
+		/**
+		 * The command's execution failed with an exception.
+		 */
+		FAILURE,
+		/**
+		 * The command was not executed, as its {@link com.dynxsty.dih4jda.ratelimit.RateLimit} was exceeded.
+		 */
+		RATE_LIMITED,
+		/**
+		 * The command was not executed, as it was shed by its {@link com.dynxsty.dih4jda.execution.Bulkhead} or
+		 * {@link com.dynxsty.dih4jda.execution.CircuitBreaker}.
+		 */
+		SHED
+	}
+}
@@ -0,0 +1,29 @@
+package com.dynxsty.dih4jda.audit;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives an {@link AuditRecord} for each command that was run. As this is called during the dispatch of each
+ * command, implementations must never block; any I/O should be done asynchronously.
+ *
+ * @see MappedAuditLog
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#setAuditSink(AuditSink)
+ * @since v1.6
+ */
+public interface AuditSink extends AutoCloseable {
+
+	/**
+	 * Hands the given record to the sink, without blocking.
+	 *
+	 * @param record The {@link AuditRecord}.
+	 * @return Whether the record was accepted. Records that were not accepted are lost.
+	 */
+	boolean offer(@NotNull AuditRecord record);
+
+	/**
+	 * Writes all records that were accepted, and releases all resources of this sink.
+	 */
+	@Override
+	default void close() {
+	}
+}
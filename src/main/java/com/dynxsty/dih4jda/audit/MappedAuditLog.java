@@ -0,0 +1,233 @@
+package com.dynxsty.dih4jda.audit;
+
+import com.dynxsty.dih4jda.DIH4JDALogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@link AuditSink} which appends all records to rolling, memory-mapped segment files.
+ * <br>Records are buffered in a bounded queue and written in batches by a single background thread, so offering a
+ * record never blocks. Once the buffer is full, records are dropped according to the {@link OverflowPolicy}.
+ * Each segment has a fixed size; once a record does not fit into the current segment, a new one is created.
+ * Segments are never modified once they were rolled, and can be read using {@link AuditLogReader}.
+ *
+ * <pre>{@code
+ * DIH4JDA dih4jda = DIH4JDABuilder
+ *         .setJDA(jda)
+ *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+ *         .setAuditSink(new MappedAuditLog(Path.of("audit"), 16 * 1024 * 1024, 10_000, OverflowPolicy.DROP_OLDEST))
+ *         .build();
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class MappedAuditLog implements AuditSink {
+	static final String SEGMENT_PREFIX = "audit-";
+	static final String SEGMENT_SUFFIX = ".log";
+	private static final int MAX_BATCH = 512;
+	private static final int MAX_STRING_LENGTH = 65535 / 3;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final OverflowPolicy policy;
+	private final BlockingQueue<AuditRecord> queue;
+	private final LongAdder dropped = new LongAdder();
+	private final DIH4JDALogger logger;
+	private final Thread writer;
+	private volatile boolean running = true;
+
+	// only accessed by the writer thread
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private final DataOutputStream out = new DataOutputStream(bytes);
+	private long segmentIndex;
+	private FileChannel channel;
+	private MappedByteBuffer segment;
+
+	/**
+	 * Creates a new {@link MappedAuditLog}, which starts a new segment in the given directory.
+	 *
+	 * @param directory   The directory all segments are stored in. It is created if it does not exist.
+	 * @param segmentSize The size of each segment, in bytes.
+	 * @param capacity    The maximum amount of records that are buffered.
+	 * @param policy      The {@link OverflowPolicy}, which applies once the buffer is full.
+	 * @throws IOException If the directory could not be accessed.
+	 */
+	public MappedAuditLog(@NotNull Path directory, int segmentSize, int capacity, @NotNull OverflowPolicy policy) throws IOException {
+		this(directory, segmentSize, capacity, policy, new DIH4JDALogger(Set.of()));
+	}
+
+	/**
+	 * Creates a new {@link MappedAuditLog}, which starts a new segment in the given directory.
+	 *
+	 * @param directory   The directory all segments are stored in. It is created if it does not exist.
+	 * @param segmentSize The size of each segment, in bytes.
+	 * @param capacity    The maximum amount of records that are buffered.
+	 * @param policy      The {@link OverflowPolicy}, which applies once the buffer is full.
+	 * @param logger      The {@link DIH4JDALogger} to use.
+	 * @throws IOException If the directory could not be accessed.
+	 */
+	public MappedAuditLog(@NotNull Path directory, int segmentSize, int capacity, @NotNull OverflowPolicy policy, @NotNull DIH4JDALogger logger) throws IOException {
+		if (segmentSize <= Integer.BYTES) throw new IllegalArgumentException("Segment size is too small!");
+		this.directory = Files.createDirectories(directory);
+		this.segmentSize = segmentSize;
+		this.policy = policy;
+		this.logger = logger;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		try (Stream<Path> segments = Files.list(directory)) {
+			// existing segments are never appended to, so that a crash can at most truncate the latest one
+			segmentIndex = segments.mapToLong(AuditLogReader::getSegmentIndex).max().orElse(-1) + 1;
+		}
+		writer = new Thread(this::run, "DIH4JDA-AuditLog");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@Override
+	public boolean offer(@NotNull AuditRecord record) {
+		if (!running) return false;
+		if (queue.offer(record)) return true;
+		if (policy == OverflowPolicy.DROP_NEWEST) {
+			dropped.increment();
+			return false;
+		}
+		do {
+			if (queue.poll() != null) dropped.increment();
+		} while (!queue.offer(record));
+		return true;
+	}
+
+	/**
+	 * @return The amount of records that were dropped, either due to the {@link OverflowPolicy}, or as they could not
+	 * be written.
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Stops accepting records and waits until all buffered records were written.
+	 */
+	@Override
+	public void close() {
+		running = false;
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void run() {
+		List<AuditRecord> batch = new ArrayList<>(MAX_BATCH);
+		try {
+			while (running || !queue.isEmpty()) {
+				AuditRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) continue;
+				batch.add(first);
+				queue.drainTo(batch, MAX_BATCH - 1);
+				for (AuditRecord record : batch) {
+					write(record);
+				}
+				batch.clear();
+				if (segment != null) segment.force();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			closeSegment();
+		}
+	}
+
+	private void write(AuditRecord record) {
+		try {
+			bytes.reset();
+			encode(record);
+		} catch (IOException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not encode audit record: %s", e.getMessage());
+			dropped.increment();
+			return;
+		}
+		int length = bytes.size();
+		if (length > segmentSize - Integer.BYTES) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Dropping audit record of /%s, as it exceeds the segment size", record.getPath());
+			dropped.increment();
+			return;
+		}
+		try {
+			if (segment == null || segment.remaining() < Integer.BYTES + length) {
+				roll();
+			}
+		} catch (IOException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not create audit segment: %s", e.getMessage());
+			dropped.increment();
+			closeSegment();
+			return;
+		}
+		int position = segment.position();
+		// the length is written last, so that a partially written record is never read
+		segment.position(position + Integer.BYTES);
+		segment.put(bytes.toByteArray());
+		segment.putInt(position, length);
+	}
+
+	private void encode(AuditRecord record) throws IOException {
+		out.writeLong(record.getTimestamp().toEpochMilli());
+		out.writeLong(record.getUserId());
+		out.writeLong(record.getGuildId());
+		out.writeLong(record.getChannelId());
+		writeString(record.getPath());
+		out.writeShort(record.getOptions().size());
+		for (Map.Entry<String, String> option : record.getOptions().entrySet()) {
+			writeString(option.getKey());
+			writeString(option.getValue());
+		}
+		out.writeByte(record.getOutcome().ordinal());
+		out.writeLong(record.getDuration().toNanos());
+		out.writeBoolean(record.getError() != null);
+		if (record.getError() != null) writeString(record.getError());
+	}
+
+	private void writeString(String s) throws IOException {
+		// modified UTF-8 uses at most 3 bytes per char, which must not exceed the limit of writeUTF
+		out.writeUTF(s.length() > MAX_STRING_LENGTH ? s.substring(0, MAX_STRING_LENGTH) : s);
+	}
+
+	private void roll() throws IOException {
+		closeSegment();
+		Path file = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, segmentIndex++, SEGMENT_SUFFIX));
+		channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+	}
+
+	private void closeSegment() {
+		if (segment != null) {
+			segment.force();
+			segment = null;
+		}
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				logger.error(DIH4JDALogger.Type.ERROR, "Could not close audit segment: %s", e.getMessage());
+			}
+			channel = null;
+		}
+	}
+}
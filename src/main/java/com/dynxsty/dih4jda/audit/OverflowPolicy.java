@@ -0,0 +1,17 @@
+package com.dynxsty.dih4jda.audit;
+
+/**
+ * Defines which records are dropped once the buffer of a {@link MappedAuditLog} is full.
+ *
+ * @since v1.6
+ */
+public enum OverflowPolicy {
+	/**
+	 * Drops the record that was just offered, keeping all records that are already buffered.
+	 */
+	DROP_NEWEST,
+	/**
+	 * Drops the oldest buffered record, to make room for the record that was just offered.
+	 */
+	DROP_OLDEST
+}
@@ -0,0 +1,97 @@
+package com.dynxsty.dih4jda.cluster;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link RegistrationCoordinator} for nodes that run on the same host (or share a file system which supports
+ * file locks). The lease is an exclusive lock on a file in the given directory, which the operating system releases
+ * even if the holding process crashes. The fingerprint is published atomically to a second file.
+ *
+ * @since v1.6
+ */
+public class FileLockRegistrationCoordinator implements RegistrationCoordinator {
+
+	private final Path directory;
+	private final Path lockFile;
+	private final Path fingerprintFile;
+
+	/**
+	 * Creates a new {@link FileLockRegistrationCoordinator}.
+	 *
+	 * @param directory The directory which is shared by all nodes.
+	 */
+	public FileLockRegistrationCoordinator(@NotNull Path directory) {
+		this.directory = directory;
+		this.lockFile = directory.resolve("dih4jda-registration.lock");
+		this.fingerprintFile = directory.resolve("dih4jda-registration.fingerprint");
+	}
+
+	@Override
+	public @Nullable String getPublishedFingerprint() throws IOException {
+		if (!Files.exists(fingerprintFile)) return null;
+		String fingerprint = new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8).trim();
+		return fingerprint.isEmpty() ? null : fingerprint;
+	}
+
+	@Override
+	public @Nullable Lease tryAcquire() throws IOException {
+		Files.createDirectories(directory);
+		FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		FileLock lock;
+		try {
+			lock = channel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			// the lock is already held by this JVM
+			lock = null;
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		if (lock == null) {
+			channel.close();
+			return null;
+		}
+		return new FileLease(channel, lock);
+	}
+
+	private final class FileLease implements Lease {
+		private final FileChannel channel;
+		private final FileLock lock;
+
+		private FileLease(FileChannel channel, FileLock lock) {
+			this.channel = channel;
+			this.lock = lock;
+		}
+
+		@Override
+		public void publish(@NotNull String fingerprint) throws IOException {
+			Path temp = Files.createTempFile(directory, "dih4jda-registration", ".tmp");
+			try {
+				Files.write(temp, fingerprint.getBytes(StandardCharsets.UTF_8));
+				Files.move(temp, fingerprintFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				lock.release();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+}
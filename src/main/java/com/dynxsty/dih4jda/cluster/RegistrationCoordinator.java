@@ -0,0 +1,63 @@
+package com.dynxsty.dih4jda.cluster;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Coordinates the registration of global commands between multiple nodes (e.g. one JVM per shard range) that run
+ * the same bot. Only the node that holds the registration lease registers global commands; once it is done, it
+ * publishes a fingerprint of the registered commands. All other nodes skip the registration, as does every node
+ * which finds that the fingerprint of its commands was already published.
+ * <br>Guild commands are not affected, as each node only registers them for the guilds of its own shards.
+ *
+ * <pre>{@code
+ * DIH4JDA dih4jda = DIH4JDABuilder
+ *         .setJDA(jda)
+ *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+ *         .setRegistrationCoordinator(new FileLockRegistrationCoordinator(Path.of("/var/run/superawesomebot")))
+ *         .build();
+ * }</pre>
+ *
+ * @see FileLockRegistrationCoordinator
+ * @since v1.6
+ */
+public interface RegistrationCoordinator {
+
+	/**
+	 * @return The fingerprint of the most recently registered global commands, or null if there is none.
+	 * @throws IOException If the fingerprint could not be read.
+	 */
+	@Nullable String getPublishedFingerprint() throws IOException;
+
+	/**
+	 * Tries to acquire the registration lease, without waiting for it.
+	 *
+	 * @return The acquired {@link Lease}, or null if another node currently holds it.
+	 * @throws IOException If the lease could not be acquired.
+	 */
+	@Nullable Lease tryAcquire() throws IOException;
+
+	/**
+	 * The registration lease, which must be closed once the registration is done.
+	 */
+	interface Lease extends AutoCloseable {
+
+		/**
+		 * Publishes the fingerprint of the global commands that were just registered.
+		 *
+		 * @param fingerprint The fingerprint.
+		 * @throws IOException If the fingerprint could not be published.
+		 */
+		void publish(@NotNull String fingerprint) throws IOException;
+
+		/**
+		 * Releases the lease.
+		 *
+		 * @throws IOException If the lease could not be released.
+		 */
+		@Override
+		void close() throws IOException;
+	}
+}
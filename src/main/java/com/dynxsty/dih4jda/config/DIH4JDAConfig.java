@@ -1,9 +1,27 @@
 package com.dynxsty.dih4jda.config;
 
 import com.dynxsty.dih4jda.DIH4JDALogger;
+import com.dynxsty.dih4jda.audit.AuditSink;
+import com.dynxsty.dih4jda.cluster.RegistrationCoordinator;
+import com.dynxsty.dih4jda.execution.OrderingKey;
+import com.dynxsty.dih4jda.injection.InstanceFactory;
+import com.dynxsty.dih4jda.interactions.commands.ExecutableCommand;
+import com.dynxsty.dih4jda.interactions.state.ComponentStateStore;
+import com.dynxsty.dih4jda.interactions.state.MemoryComponentStateStore;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
+import com.dynxsty.dih4jda.ratelimit.LocalRateLimitBackend;
+import com.dynxsty.dih4jda.ratelimit.RateLimitBackend;
+import com.dynxsty.dih4jda.registry.CommandRegistry;
 import net.dv8tion.jda.api.JDA;
 
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
@@ -15,12 +33,37 @@ import java.util.concurrent.ForkJoinPool;
 public class DIH4JDAConfig {
 	private JDA jda;
 	private String commandsPackage;
-	private Set<DIH4JDALogger.Type> blockedLogTypes = new HashSet<>();
+	private Set<DIH4JDALogger.Type> blockedLogTypes = EnumSet.noneOf(DIH4JDALogger.Type.class);
 	private boolean registerOnReady = true;
 	private boolean globalSmartQueue = true;
 	private boolean guildSmartQueue = true;
 	private boolean deleteUnknownCommands = true;
 	private Executor executor = ForkJoinPool.commonPool();
+	private Duration autoDeferralDelay = null;
+	private boolean autoDeferralEphemeral = false;
+	private String shutdownNotice = "The bot is restarting. Please try again in a moment.";
+	private int maxComponentListeners = 10_000;
+	private ComponentStateStore componentStateStore = new MemoryComponentStateStore(10_000);
+	private RegistrationCoordinator registrationCoordinator = null;
+	private RateLimitBackend rateLimitBackend = new LocalRateLimitBackend();
+	private double rateLimitFastPathRatio = 0;
+	private OrderingKey orderingKey = null;
+	private int orderingStripes = 1024;
+	private int maxInFlight = 0;
+	private Map<Long, Integer> guildWeights = new HashMap<>();
+	private int warmupIterations = 0;
+	private Duration warmupBudget = null;
+	private List<ExecutableCommand> commands = new ArrayList<>();
+	private CommandRegistry commandRegistry = null;
+	private InstanceFactory instanceFactory = null;
+	private Map<Class<?>, Object> dependencies = new LinkedHashMap<>();
+	private Path analyticsFile = null;
+	private Duration analyticsFlushInterval = null;
+	private AuditSink auditSink = null;
+	private String textCommandPrefix = null;
+	private Duration memberCacheMaxAge = null;
+	private CommandToggles commandToggles = new CommandToggles();
+	private Duration commandToggleSyncDelay = null;
 
 	public JDA getJDA() {
 		return jda;
@@ -85,4 +128,204 @@ public class DIH4JDAConfig {
 	public void setExecutor(Executor executor) {
 		this.executor = executor;
 	}
+
+	public Duration getAutoDeferralDelay() {
+		return autoDeferralDelay;
+	}
+
+	public void setAutoDeferralDelay(Duration autoDeferralDelay) {
+		this.autoDeferralDelay = autoDeferralDelay;
+	}
+
+	public boolean isAutoDeferralEphemeral() {
+		return autoDeferralEphemeral;
+	}
+
+	public void setAutoDeferralEphemeral(boolean autoDeferralEphemeral) {
+		this.autoDeferralEphemeral = autoDeferralEphemeral;
+	}
+
+	public String getShutdownNotice() {
+		return shutdownNotice;
+	}
+
+	public void setShutdownNotice(String shutdownNotice) {
+		this.shutdownNotice = shutdownNotice;
+	}
+
+	public int getMaxComponentListeners() {
+		return maxComponentListeners;
+	}
+
+	public void setMaxComponentListeners(int maxComponentListeners) {
+		this.maxComponentListeners = maxComponentListeners;
+	}
+
+	public ComponentStateStore getComponentStateStore() {
+		return componentStateStore;
+	}
+
+	public void setComponentStateStore(ComponentStateStore componentStateStore) {
+		this.componentStateStore = componentStateStore;
+	}
+
+	public RegistrationCoordinator getRegistrationCoordinator() {
+		return registrationCoordinator;
+	}
+
+	public void setRegistrationCoordinator(RegistrationCoordinator registrationCoordinator) {
+		this.registrationCoordinator = registrationCoordinator;
+	}
+
+	public RateLimitBackend getRateLimitBackend() {
+		return rateLimitBackend;
+	}
+
+	public void setRateLimitBackend(RateLimitBackend rateLimitBackend) {
+		this.rateLimitBackend = rateLimitBackend;
+	}
+
+	public double getRateLimitFastPathRatio() {
+		return rateLimitFastPathRatio;
+	}
+
+	public void setRateLimitFastPathRatio(double rateLimitFastPathRatio) {
+		this.rateLimitFastPathRatio = rateLimitFastPathRatio;
+	}
+
+	public OrderingKey getOrderingKey() {
+		return orderingKey;
+	}
+
+	public void setOrderingKey(OrderingKey orderingKey) {
+		this.orderingKey = orderingKey;
+	}
+
+	public int getOrderingStripes() {
+		return orderingStripes;
+	}
+
+	public void setOrderingStripes(int orderingStripes) {
+		this.orderingStripes = orderingStripes;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	public Map<Long, Integer> getGuildWeights() {
+		return guildWeights;
+	}
+
+	public void setGuildWeights(Map<Long, Integer> guildWeights) {
+		this.guildWeights = guildWeights;
+	}
+
+	public int getWarmupIterations() {
+		return warmupIterations;
+	}
+
+	public void setWarmupIterations(int warmupIterations) {
+		this.warmupIterations = warmupIterations;
+	}
+
+	public Duration getWarmupBudget() {
+		return warmupBudget;
+	}
+
+	public void setWarmupBudget(Duration warmupBudget) {
+		this.warmupBudget = warmupBudget;
+	}
+
+	public List<ExecutableCommand> getCommands() {
+		return commands;
+	}
+
+	public void setCommands(List<ExecutableCommand> commands) {
+		this.commands = commands;
+	}
+
+	public CommandRegistry getCommandRegistry() {
+		return commandRegistry;
+	}
+
+	public void setCommandRegistry(CommandRegistry commandRegistry) {
+		this.commandRegistry = commandRegistry;
+	}
+
+	public InstanceFactory getInstanceFactory() {
+		return instanceFactory;
+	}
+
+	public void setInstanceFactory(InstanceFactory instanceFactory) {
+		this.instanceFactory = instanceFactory;
+	}
+
+	public Map<Class<?>, Object> getDependencies() {
+		return dependencies;
+	}
+
+	public void setDependencies(Map<Class<?>, Object> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	public Path getAnalyticsFile() {
+		return analyticsFile;
+	}
+
+	public void setAnalyticsFile(Path analyticsFile) {
+		this.analyticsFile = analyticsFile;
+	}
+
+	public Duration getAnalyticsFlushInterval() {
+		return analyticsFlushInterval;
+	}
+
+	public void setAnalyticsFlushInterval(Duration analyticsFlushInterval) {
+		this.analyticsFlushInterval = analyticsFlushInterval;
+	}
+
+	public AuditSink getAuditSink() {
+		return auditSink;
+	}
+
+	public void setAuditSink(AuditSink auditSink) {
+		this.auditSink = auditSink;
+	}
+
+	public String getTextCommandPrefix() {
+		return textCommandPrefix;
+	}
+
+	public void setTextCommandPrefix(String textCommandPrefix) {
+		this.textCommandPrefix = textCommandPrefix;
+	}
+
+	public Duration getMemberCacheMaxAge() {
+		return memberCacheMaxAge;
+	}
+
+	public void setMemberCacheMaxAge(Duration memberCacheMaxAge) {
+		this.memberCacheMaxAge = memberCacheMaxAge;
+	}
+
+	public CommandToggles getCommandToggles() {
+		return commandToggles;
+	}
+
+	public void setCommandToggles(CommandToggles commandToggles) {
+		this.commandToggles = commandToggles;
+	}
+
+	public Duration getCommandToggleSyncDelay() {
+		return commandToggleSyncDelay;
+	}
+
+	public void setCommandToggleSyncDelay(Duration commandToggleSyncDelay) {
+		this.commandToggleSyncDelay = commandToggleSyncDelay;
+	}
 }
@@ -1,23 +1,30 @@
 package com.dynxsty.dih4jda.events;
 
+import com.dynxsty.dih4jda.execution.ShedReason;
 import com.dynxsty.dih4jda.interactions.commands.AutoCompletable;
+import com.dynxsty.dih4jda.interactions.commands.RequirementEvaluator;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.Interaction;
 import net.dv8tion.jda.api.interactions.ModalInteraction;
 import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
 import net.dv8tion.jda.api.interactions.commands.CommandInteraction;
 import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 
 public abstract class DIH4JDAListenerAdapter {
 
 	/**
 	 * An Event that gets fired when an exception gets raised while executing any Command.
+	 * This includes exceptions that complete the {@link java.util.concurrent.CompletionStage} of an asynchronous command.
 	 *
 	 * @param interaction The {@link CommandInteraction}.
 	 * @param e           The Exception that was raised.
@@ -30,6 +37,7 @@ public abstract class DIH4JDAListenerAdapter {
 
 	/**
 	 * An Event that gets fired when an exception gets raised while interacting with a message component.
+	 * This includes exceptions that complete the {@link java.util.concurrent.CompletionStage} of an asynchronous handler.
 	 *
 	 * @param interaction The {@link ComponentInteraction}.
 	 * @param e           The Exception that was raised.
@@ -53,6 +61,16 @@ public abstract class DIH4JDAListenerAdapter {
 	 */
 	public void onModalException(ModalInteraction interaction, Exception e) {}
 
+	/**
+	 * An Event that gets fired when a submitted modal does not pass the validation of its
+	 * {@link com.dynxsty.dih4jda.interactions.binding.ModalHandler}'s form. The handler itself is not invoked.
+	 *
+	 * @param interaction The {@link ModalInteraction}.
+	 * @param violations  All violations, mapped by the id of the invalid text input.
+	 * @since v1.6
+	 */
+	public void onModalValidationFailure(ModalInteraction interaction, Map<String, String> violations) {}
+
 	/**
 	 * An Event that gets fired when the user, which invoked the command, does NOT have one of the required Permissions.
 	 *
@@ -79,5 +97,93 @@ public abstract class DIH4JDAListenerAdapter {
 	 * @see com.dynxsty.dih4jda.interactions.commands.CommandRequirements#requireUsers(Long...)
 	 */
 	public void onInvalidRole(CommandInteraction interaction, Set<Long> roleIds) {}
-}
 
+	/**
+	 * An Event that gets fired when the user, which invoked the command, exceeded the command's rate limit.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @param retryAfter  How long it takes until the command can be used again.
+	 * @see com.dynxsty.dih4jda.interactions.commands.CommandRequirements#requireRateLimit(int, Duration, com.dynxsty.dih4jda.ratelimit.RateLimit.Scope)
+	 * @since v1.6
+	 */
+	public void onRateLimited(CommandInteraction interaction, Duration retryAfter) {}
+
+	/**
+	 * An Event that gets fired when a command is used in a guild it was disabled in.
+	 *
+	 * @param interaction The {@link CommandInteraction}.
+	 * @see com.dynxsty.dih4jda.interactions.toggle.CommandToggles
+	 * @since v1.6
+	 */
+	public void onCommandDisabled(CommandInteraction interaction) {}
+
+	/**
+	 * An Event that gets fired when a component (or modal) of a command is used in a guild the command was disabled in.
+	 *
+	 * @param interaction The component's {@link Interaction}.
+	 * @see com.dynxsty.dih4jda.interactions.toggle.CommandToggles
+	 * @since v1.6
+	 */
+	public void onComponentDisabled(Interaction interaction) {}
+
+	/**
+	 * An Event that gets fired when a command or component was not executed, as its
+	 * {@link com.dynxsty.dih4jda.execution.Bulkhead} was full or its {@link com.dynxsty.dih4jda.execution.CircuitBreaker}
+	 * was open.
+	 *
+	 * @param interaction The {@link Interaction} that was shed.
+	 * @param reason      The {@link ShedReason}.
+	 * @since v1.6
+	 */
+	public void onShed(Interaction interaction, ShedReason reason) {}
+
+	/**
+	 * An Event that gets fired when an exception gets raised while executing a {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}.
+	 *
+	 * @param event The {@link MessageReceivedEvent} that invoked the command.
+	 * @param e     The Exception that was raised.
+	 * @since v1.6
+	 */
+	public void onTextCommandException(MessageReceivedEvent event, Exception e) {}
+
+	/**
+	 * An Event that gets fired when the author of a message does NOT meet the requirements of the invoked
+	 * {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}.
+	 *
+	 * @param event  The {@link MessageReceivedEvent} that invoked the command.
+	 * @param result The {@link RequirementEvaluator.Result}, which describes the requirement that was not met.
+	 * @since v1.6
+	 */
+	public void onTextCommandRejected(MessageReceivedEvent event, RequirementEvaluator.Result result) {}
+
+	/**
+	 * An Event that gets fired when the author of a message exceeded the rate limit of the invoked
+	 * {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}.
+	 *
+	 * @param event      The {@link MessageReceivedEvent} that invoked the command.
+	 * @param retryAfter How long it takes until the command can be used again.
+	 * @since v1.6
+	 */
+	public void onTextCommandRateLimited(MessageReceivedEvent event, Duration retryAfter) {}
+
+	/**
+	 * An Event that gets fired when a {@link com.dynxsty.dih4jda.interactions.commands.TextCommand} was not executed,
+	 * as its {@link com.dynxsty.dih4jda.execution.Bulkhead} was full or its
+	 * {@link com.dynxsty.dih4jda.execution.CircuitBreaker} was open.
+	 *
+	 * @param event  The {@link MessageReceivedEvent} that invoked the command.
+	 * @param reason The {@link ShedReason}.
+	 * @since v1.6
+	 */
+	public void onTextCommandShed(MessageReceivedEvent event, ShedReason reason) {}
+
+	/**
+	 * An Event that gets fired when a {@link com.dynxsty.dih4jda.interactions.commands.TextCommand} is used in a guild
+	 * it was disabled in.
+	 *
+	 * @param event The {@link MessageReceivedEvent} that invoked the command.
+	 * @see com.dynxsty.dih4jda.interactions.toggle.CommandToggles
+	 * @since v1.6
+	 */
+	public void onTextCommandDisabled(MessageReceivedEvent event) {}
+}
@@ -0,0 +1,59 @@
+package com.dynxsty.dih4jda.execution;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many executions of a single handler may run at the same time, so that a handler whose backend degrades
+ * can't occupy all threads of the shared executor. Executions that exceed the limit are shed right away instead of
+ * being queued.
+ *
+ * @see com.dynxsty.dih4jda.interactions.commands.ComponentHandler#limitConcurrency(int)
+ * @since v1.6
+ */
+public class Bulkhead {
+
+	private final int maxConcurrent;
+	private final Semaphore permits;
+
+	/**
+	 * Creates a new {@link Bulkhead}.
+	 *
+	 * @param maxConcurrent The maximum amount of concurrent executions.
+	 */
+	public Bulkhead(int maxConcurrent) {
+		if (maxConcurrent <= 0) throw new IllegalArgumentException("Max concurrent executions must be positive!");
+		this.maxConcurrent = maxConcurrent;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * Tries to start a new execution. Each successful call must be followed by exactly one call to
+	 * {@link Bulkhead#release()}.
+	 *
+	 * @return Whether the execution may start.
+	 */
+	public boolean tryAcquire() {
+		return permits.tryAcquire();
+	}
+
+	/**
+	 * Marks an execution as finished.
+	 */
+	public void release() {
+		permits.release();
+	}
+
+	/**
+	 * @return The maximum amount of concurrent executions.
+	 */
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	/**
+	 * @return The amount of executions that are currently running.
+	 */
+	public int getActive() {
+		return maxConcurrent - permits.availablePermits();
+	}
+}
@@ -0,0 +1,176 @@
+package com.dynxsty.dih4jda.execution;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Stops executing a single handler once too many of its recent executions failed or were too slow, so that a
+ * handler whose backend degrades fails fast instead of piling up on the shared executor.
+ * <br>The breaker keeps the outcomes of the last executions in a fixed-size window. Once the window is full and the
+ * rate of failed (or slow) executions reaches the threshold, the breaker opens and sheds all executions. After the
+ * open duration, a single trial execution is let through: if it succeeds, the breaker closes again; otherwise, it
+ * stays open for another open duration. A trial that did not finish within its timeout (the slow call threshold or,
+ * if there is none, the open duration) counts as failed, so that a hung trial can't keep the breaker half-open.
+ * <br>Each permit belongs to the state it was acquired in. Results of executions that finish after the breaker
+ * changed its state are ignored, thus, only the trial execution itself can close the breaker again.
+ * <br>While the breaker is closed, checking whether an execution may start never locks.
+ *
+ * @see com.dynxsty.dih4jda.interactions.commands.ComponentHandler#enableCircuitBreaker(int, double, Duration, Duration)
+ * @since v1.6
+ */
+public class CircuitBreaker {
+
+	/**
+	 * Returned by {@link CircuitBreaker#tryAcquire()} if the execution may not start.
+	 */
+	public static final long REJECTED = -1;
+
+	private final double failureRateThreshold;
+	private final long slowCallThreshold;
+	private final long openDuration;
+	private final long trialTimeout;
+
+	// guarded by this
+	private final boolean[] outcomes;
+	private int next;
+	private int calls;
+	private int failures;
+	private long openedAt;
+	private long trialStartedAt;
+	private long generation;
+
+	private volatile State state = State.CLOSED;
+	// the current generation while the breaker is closed, so that acquiring a permit doesn't need to lock
+	private volatile long closedGeneration;
+
+	/**
+	 * Creates a new {@link CircuitBreaker}.
+	 *
+	 * @param windowSize           The amount of recent executions the failure rate is calculated from.
+	 * @param failureRateThreshold The failure rate at which the breaker opens, between 0 (exclusive) and 1 (inclusive).
+	 * @param slowCallThreshold    The duration after which an execution counts as failed even if it succeeded,
+	 *                             or null if slow executions should count as successful.
+	 * @param openDuration         How long the breaker stays open before a trial execution is let through.
+	 */
+	public CircuitBreaker(int windowSize, double failureRateThreshold, @Nullable Duration slowCallThreshold, @NotNull Duration openDuration) {
+		if (windowSize <= 0) throw new IllegalArgumentException("Window size must be positive!");
+		if (failureRateThreshold <= 0 || failureRateThreshold > 1) throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]!");
+		this.outcomes = new boolean[windowSize];
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallThreshold = slowCallThreshold == null ? Long.MAX_VALUE : slowCallThreshold.toNanos();
+		this.openDuration = openDuration.toNanos();
+		this.trialTimeout = slowCallThreshold == null ? this.openDuration : this.slowCallThreshold;
+	}
+
+	/**
+	 * Tries to start a new execution. Each successful call must be followed by exactly one call to
+	 * {@link CircuitBreaker#onResult(long, boolean, long)} with the returned permit.
+	 *
+	 * @return The permit of the execution, or {@link CircuitBreaker#REJECTED} if it may not start.
+	 */
+	public long tryAcquire() {
+		long closed = closedGeneration;
+		if (closed != REJECTED) return closed;
+		synchronized (this) {
+			long now = System.nanoTime();
+			if (state == State.HALF_OPEN && now - trialStartedAt >= trialTimeout) {
+				// the trial hung, which counts as a failure
+				open(trialStartedAt + trialTimeout);
+			}
+			if (state == State.OPEN && now - openedAt >= openDuration) {
+				transition(State.HALF_OPEN);
+				trialStartedAt = now;
+				return generation;
+			}
+			return state == State.CLOSED ? generation : REJECTED;
+		}
+	}
+
+	/**
+	 * Records the outcome of an execution that was started using {@link CircuitBreaker#tryAcquire()}.
+	 *
+	 * @param permit   The permit that was returned by {@link CircuitBreaker#tryAcquire()}.
+	 * @param failed   Whether the execution failed.
+	 * @param duration How long the execution took, in nanoseconds.
+	 */
+	public synchronized void onResult(long permit, boolean failed, long duration) {
+		// executions that started before the breaker changed its state don't affect it anymore
+		if (permit != generation) return;
+		boolean failure = failed || duration >= slowCallThreshold;
+		switch (state) {
+			case HALF_OPEN:
+				if (failure) {
+					open(System.nanoTime());
+				} else {
+					reset();
+					transition(State.CLOSED);
+				}
+				break;
+			case CLOSED:
+				if (calls == outcomes.length) {
+					if (outcomes[next]) failures--;
+				} else {
+					calls++;
+				}
+				outcomes[next] = failure;
+				if (failure) failures++;
+				next = (next + 1) % outcomes.length;
+				if (calls == outcomes.length && failures >= failureRateThreshold * calls) open(System.nanoTime());
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * @return The current {@link State}.
+	 */
+	public @NotNull State getState() {
+		return state;
+	}
+
+	/**
+	 * @return The duration after which an execution counts as failed, or null if slow executions count as successful.
+	 */
+	public @Nullable Duration getSlowCallThreshold() {
+		return slowCallThreshold == Long.MAX_VALUE ? null : Duration.ofNanos(slowCallThreshold);
+	}
+
+	private void open(long now) {
+		reset();
+		openedAt = now;
+		transition(State.OPEN);
+	}
+
+	private void transition(State next) {
+		generation++;
+		state = next;
+		closedGeneration = next == State.CLOSED ? generation : REJECTED;
+	}
+
+	private void reset() {
+		next = 0;
+		calls = 0;
+		failures = 0;
+	}
+
+	/**
+	 * The state of a {@link CircuitBreaker}.
+	 */
+	public enum State {
+		/**
+		 * All executions are let through.
+		 */
+		CLOSED,
+		/**
+		 * All executions are shed.
+		 */
+		OPEN,
+		/**
+		 * A single trial execution was let through, whose outcome decides whether the breaker closes again.
+		 */
+		HALF_OPEN
+	}
+}
@@ -0,0 +1,234 @@
+package com.dynxsty.dih4jda.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Schedules tasks of multiple tenants (usually guilds) onto a delegate {@link Executor} using deficit round robin,
+ * so that a single tenant can't monopolize the executor.
+ * <br>At most {@code maxInFlight} tasks run at the same time; all others are queued per tenant. Whenever a slot
+ * becomes free, tenants are visited in turn and each may start as many tasks as its weight allows per round.
+ * A tenant with a weight of 3 thus gets three times the throughput of a tenant with a weight of 1 while both have
+ * queued work, while idle tenants cost nothing.
+ * <br>A task occupies its slot until the {@link CompletionStage} it returned completed.
+ *
+ * <pre>{@code
+ * FairScheduler scheduler = new FairScheduler(ForkJoinPool.commonPool(), 64);
+ * scheduler.setWeight(premiumGuildId, 4);
+ * scheduler.submit(guildId, () -> handle(event));
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class FairScheduler {
+
+	private final Executor delegate;
+	private final int maxInFlight;
+	private final Map<Long, Integer> weights = new ConcurrentHashMap<>();
+	// all following fields are guarded by the lock
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Long, Tenant> tenants = new HashMap<>();
+	private final Deque<Tenant> active = new ArrayDeque<>();
+	private int inFlight;
+
+	/**
+	 * Creates a new {@link FairScheduler}.
+	 *
+	 * @param delegate    The {@link Executor} that actually runs all tasks.
+	 * @param maxInFlight The maximum amount of tasks that run at the same time.
+	 */
+	public FairScheduler(@NotNull Executor delegate, int maxInFlight) {
+		if (maxInFlight <= 0) throw new IllegalArgumentException("Max in-flight tasks must be positive!");
+		this.delegate = delegate;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Sets the weight of a single tenant. Tenants without a weight have a weight of 1.
+	 *
+	 * @param tenant The tenant's id.
+	 * @param weight The tenant's weight, which is the amount of tasks it may start per round.
+	 */
+	public void setWeight(long tenant, int weight) {
+		if (weight <= 0) throw new IllegalArgumentException("Weight must be positive!");
+		if (weight == 1) {
+			weights.remove(tenant);
+		} else {
+			weights.put(tenant, weight);
+		}
+	}
+
+	/**
+	 * @param tenant The tenant's id.
+	 * @return The tenant's weight.
+	 */
+	public int getWeight(long tenant) {
+		return weights.getOrDefault(tenant, 1);
+	}
+
+	/**
+	 * Submits a task of the given tenant.
+	 *
+	 * @param tenant The tenant's id.
+	 * @param task   The task, which returns the {@link CompletionStage} of its (asynchronous) work.
+	 * @param <T>    The type of the task's result.
+	 * @return A {@link CompletableFuture} which completes with the task's result.
+	 */
+	public <T> @NotNull CompletableFuture<T> submit(long tenant, @NotNull Callable<? extends CompletionStage<T>> task) {
+		Task<T> queued = new Task<>(task);
+		lock.lock();
+		try {
+			Tenant t = tenants.computeIfAbsent(tenant, Tenant::new);
+			if (t.queue.isEmpty()) active.addLast(t);
+			t.queue.addLast(queued);
+		} finally {
+			lock.unlock();
+		}
+		drain();
+		return queued.result;
+	}
+
+	/**
+	 * @param tenant The tenant's id.
+	 * @return The amount of queued tasks of the given tenant, which do not run yet.
+	 */
+	public int getQueueDepth(long tenant) {
+		lock.lock();
+		try {
+			Tenant t = tenants.get(tenant);
+			return t == null ? 0 : t.queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The amount of queued tasks of all tenants that have any, mapped by the tenant's id.
+	 */
+	public @NotNull Map<Long, Integer> getQueueDepths() {
+		lock.lock();
+		try {
+			Map<Long, Integer> depths = new HashMap<>(tenants.size());
+			for (Tenant t : tenants.values()) {
+				depths.put(t.id, t.queue.size());
+			}
+			return depths;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The amount of tasks that currently run.
+	 */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The maximum amount of tasks that run at the same time.
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Starts queued tasks while there are free slots. Tasks are started outside the lock.
+	 */
+	private void drain() {
+		List<Task<?>> start = new ArrayList<>();
+		lock.lock();
+		try {
+			while (inFlight < maxInFlight && !active.isEmpty()) {
+				Tenant t = active.peekFirst();
+				if (t.deficit <= 0) t.deficit += getWeight(t.id);
+				while (t.deficit > 0 && inFlight < maxInFlight && !t.queue.isEmpty()) {
+					start.add(t.queue.pollFirst());
+					t.deficit--;
+					inFlight++;
+				}
+				if (t.queue.isEmpty()) {
+					// idle tenants neither keep their deficit nor any memory
+					active.pollFirst();
+					tenants.remove(t.id);
+					t.deficit = 0;
+				} else if (t.deficit <= 0) {
+					active.addLast(active.pollFirst());
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (Task<?> task : start) {
+			task.start();
+		}
+	}
+
+	private void release() {
+		lock.lock();
+		try {
+			inFlight--;
+		} finally {
+			lock.unlock();
+		}
+		drain();
+	}
+
+	private static final class Tenant {
+		private final long id;
+		private final Deque<Task<?>> queue = new ArrayDeque<>();
+		private int deficit;
+
+		private Tenant(long id) {
+			this.id = id;
+		}
+	}
+
+	private final class Task<T> {
+		private final Callable<? extends CompletionStage<T>> callable;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private Task(Callable<? extends CompletionStage<T>> callable) {
+			this.callable = callable;
+		}
+
+		private void start() {
+			try {
+				delegate.execute(this::run);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+				release();
+			}
+		}
+
+		private void run() {
+			CompletionStage<T> stage;
+			try {
+				stage = callable.call();
+			} catch (Exception e) {
+				stage = CompletableFuture.failedFuture(e);
+			}
+			if (stage == null) stage = CompletableFuture.completedFuture(null);
+			stage.whenComplete((v, t) -> {
+				release();
+				if (t != null) {
+					result.completeExceptionally(t);
+				} else {
+					result.complete(v);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.dynxsty.dih4jda.execution;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.interactions.Interaction;
+import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Determines which interactions are handled one after another if ordered execution is enabled.
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#enableOrderedExecution(OrderingKey)
+ * @since v1.6
+ */
+public enum OrderingKey {
+	/**
+	 * All interactions of the same user are handled in order.
+	 */
+	USER,
+	/**
+	 * All component interactions on the same message are handled in order. Other interactions fall back to
+	 * {@link OrderingKey#USER}.
+	 */
+	MESSAGE,
+	/**
+	 * All interactions within the same guild are handled in order. In direct messages, this falls back to
+	 * {@link OrderingKey#USER}.
+	 */
+	GUILD;
+
+	/**
+	 * @param interaction The {@link Interaction}.
+	 * @return The key of the given interaction.
+	 */
+	public long getKey(@NotNull Interaction interaction) {
+		switch (this) {
+			case MESSAGE:
+				if (interaction instanceof ComponentInteraction) {
+					return ((ComponentInteraction) interaction).getMessageIdLong();
+				}
+				break;
+			case GUILD:
+				if (interaction.getGuild() != null) {
+					return interaction.getGuild().getIdLong();
+				}
+				break;
+		}
+		return interaction.getUser().getIdLong();
+	}
+
+	/**
+	 * @param message The {@link Message} that invoked a {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}.
+	 * @return The key of the given message. {@link OrderingKey#MESSAGE} falls back to {@link OrderingKey#USER}.
+	 * @since v1.6
+	 */
+	public long getKey(@NotNull Message message) {
+		if (this == GUILD && message.isFromGuild()) {
+			return message.getGuild().getIdLong();
+		}
+		return message.getAuthor().getIdLong();
+	}
+}
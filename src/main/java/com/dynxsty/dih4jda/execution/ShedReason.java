@@ -0,0 +1,18 @@
+package com.dynxsty.dih4jda.execution;
+
+/**
+ * The reason an execution was shed without being run.
+ *
+ * @see com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onShed
+ * @since v1.6
+ */
+public enum ShedReason {
+	/**
+	 * The handler's {@link Bulkhead} was full.
+	 */
+	BULKHEAD_FULL,
+	/**
+	 * The handler's {@link CircuitBreaker} was open.
+	 */
+	CIRCUIT_OPEN
+}
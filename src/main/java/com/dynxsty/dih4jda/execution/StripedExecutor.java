@@ -0,0 +1,92 @@
+package com.dynxsty.dih4jda.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs tasks on a delegate {@link Executor}, while tasks that share the same key are run one after another, in the
+ * order they were submitted. Tasks with different keys run in parallel.
+ * <br>Keys are hashed onto a fixed amount of stripes, each of which only keeps a reference to the completion of its
+ * latest task. New tasks are chained onto that completion, thus, there is neither a thread nor a queue per key and
+ * submitting never locks. A task is only considered complete once the {@link CompletionStage} it returned completed,
+ * so asynchronous work is serialized as well.
+ * <br>Please note that distinct keys may share a stripe, in which case they are serialized too. Thus, the amount of
+ * stripes should be well above the amount of threads of the delegate.
+ *
+ * <pre>{@code
+ * StripedExecutor executor = new StripedExecutor(ForkJoinPool.commonPool(), 1024);
+ * executor.submit(userId, () -> updateBalance(userId));
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class StripedExecutor {
+
+	private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+	private final Executor delegate;
+	private final AtomicReferenceArray<CompletableFuture<Void>> tails;
+	private final int mask;
+
+	/**
+	 * Creates a new {@link StripedExecutor}.
+	 *
+	 * @param delegate The {@link Executor} that actually runs all tasks.
+	 * @param stripes  The amount of stripes. This is rounded up to the next power of two.
+	 */
+	public StripedExecutor(@NotNull Executor delegate, int stripes) {
+		if (stripes <= 0) throw new IllegalArgumentException("Stripes must be positive!");
+		int size = Integer.highestOneBit(stripes);
+		if (size < stripes) size <<= 1;
+		this.delegate = delegate;
+		this.tails = new AtomicReferenceArray<>(size);
+		for (int i = 0; i < size; i++) {
+			tails.set(i, COMPLETED);
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Submits a task, which is run once all previously submitted tasks of the same key completed.
+	 *
+	 * @param key  The key. Tasks with equal keys never run concurrently.
+	 * @param task The task, which returns the {@link CompletionStage} of its (asynchronous) work.
+	 * @param <T>  The type of the task's result.
+	 * @return A {@link CompletableFuture} which completes with the task's result.
+	 */
+	public <T> @NotNull CompletableFuture<T> submit(@NotNull Object key, @NotNull Callable<? extends CompletionStage<T>> task) {
+		int stripe = spread(key.hashCode()) & mask;
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		CompletableFuture<Void> previous = tails.getAndSet(stripe, done);
+		Function<Object, CompletionStage<T>> run = ignored -> {
+			try {
+				CompletionStage<T> stage = task.call();
+				return stage == null ? CompletableFuture.completedFuture(null) : stage;
+			} catch (Exception e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		};
+		// failures of the previous task must not prevent this one from running
+		CompletableFuture<T> result = previous.handle((v, t) -> null).thenComposeAsync(run, delegate);
+		result.whenComplete((v, t) -> {
+			done.complete(null);
+			// release the chain if no other task was submitted in the meantime
+			tails.compareAndSet(stripe, done, COMPLETED);
+		});
+		return result;
+	}
+
+	/**
+	 * @return The amount of stripes.
+	 */
+	public int getStripes() {
+		return mask + 1;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,132 @@
+package com.dynxsty.dih4jda.injection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link InstanceFactory} that injects shared dependencies into the constructor of each class. Of all public
+ * constructors, the one with the most parameters that can all be resolved is used. A parameter is resolved to the
+ * dependency that was registered for exactly its type or, if there is none, to the first dependency that is
+ * assignable to it.
+ * <br>Constructors are only resolved once per class: the result is a compiled {@link MethodHandle} with all
+ * dependencies already bound, so creating further instances neither needs reflection nor any lookups.
+ *
+ * <pre>{@code
+ * public class StatsCommand extends SlashCommand {
+ *
+ *     private final DataSource dataSource;
+ *
+ *     public StatsCommand(DataSource dataSource) {
+ *         this.dataSource = dataSource;
+ *         setSlashCommandData(Commands.slash("stats", "Shows your stats"));
+ *     }
+ * }
+ *
+ * DIH4JDABuilder.setJDA(jda)
+ *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+ *         .addDependency(DataSource.class, dataSource)
+ *         .build();
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class ConstructorInstanceFactory implements InstanceFactory {
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+	private final Map<Class<?>, Object> dependencies;
+	private final Map<Class<?>, MethodHandle> factories = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ConstructorInstanceFactory}.
+	 *
+	 * @param dependencies All dependencies, mapped by the type they are registered for. The order of this map is
+	 *                     used to resolve parameters that do not exactly match the type of any dependency.
+	 */
+	public ConstructorInstanceFactory(@NotNull Map<Class<?>, Object> dependencies) {
+		this.dependencies = new LinkedHashMap<>(dependencies);
+	}
+
+	@Override
+	public @NotNull <T> T newInstance(@NotNull Class<T> type) throws ReflectiveOperationException {
+		MethodHandle factory = factories.get(type);
+		if (factory == null) {
+			factory = compile(type);
+			MethodHandle existing = factories.putIfAbsent(type, factory);
+			if (existing != null) factory = existing;
+		}
+		try {
+			return type.cast((Object) factory.invokeExact());
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public boolean canInstantiate(@NotNull Class<?> type) {
+		if (factories.containsKey(type)) return true;
+		try {
+			factories.putIfAbsent(type, compile(type));
+			return true;
+		} catch (ReflectiveOperationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resolves the constructor of the given class and binds all of its dependencies.
+	 *
+	 * @param type The class.
+	 * @return A {@link MethodHandle} that takes no arguments and returns a new instance.
+	 * @throws ReflectiveOperationException If no constructor can be resolved or accessed.
+	 */
+	private MethodHandle compile(Class<?> type) throws ReflectiveOperationException {
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+			throw new InstantiationException("Class " + type.getName() + " is abstract.");
+		}
+		Constructor<?> constructor = null;
+		Object[] arguments = null;
+		for (Constructor<?> c : type.getConstructors()) {
+			if (constructor != null && c.getParameterCount() <= constructor.getParameterCount()) continue;
+			Object[] resolved = resolve(c.getParameterTypes());
+			if (resolved != null) {
+				constructor = c;
+				arguments = resolved;
+			}
+		}
+		if (constructor == null) {
+			throw new NoSuchMethodException(String.format("Class %s does not have a public constructor whose parameters can all be resolved. Available dependencies: %s",
+					type.getName(), dependencies.keySet()));
+		}
+		MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+		return MethodHandles.insertArguments(handle, 0, arguments).asType(FACTORY_TYPE);
+	}
+
+	private @Nullable Object[] resolve(Class<?>[] parameters) {
+		Object[] arguments = new Object[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			Object dependency = dependencies.get(parameters[i]);
+			if (dependency == null) {
+				Class<?> parameter = parameters[i];
+				dependency = dependencies.values().stream()
+						.filter(parameter::isInstance)
+						.findFirst()
+						.orElse(null);
+			}
+			if (dependency == null) return null;
+			arguments[i] = dependency;
+		}
+		return arguments;
+	}
+}
@@ -0,0 +1,32 @@
+package com.dynxsty.dih4jda.injection;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates the instances of all commands and component handlers that were discovered in the commands package.
+ * By default, a {@link ConstructorInstanceFactory} is used, which injects all dependencies that were added using
+ * {@link com.dynxsty.dih4jda.DIH4JDABuilder#addDependency(Class, Object)}.
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#setInstanceFactory(InstanceFactory)
+ * @since v1.6
+ */
+public interface InstanceFactory {
+
+	/**
+	 * Creates a new instance of the given class. This may be called concurrently.
+	 *
+	 * @param type The class to instantiate.
+	 * @param <T>  The type of the class.
+	 * @return The new instance.
+	 * @throws ReflectiveOperationException If the class can not be instantiated.
+	 */
+	@NotNull <T> T newInstance(@NotNull Class<T> type) throws ReflectiveOperationException;
+
+	/**
+	 * Checks whether the given class can be instantiated by this factory, without instantiating it.
+	 *
+	 * @param type The class to check.
+	 * @return Whether {@link InstanceFactory#newInstance(Class)} is able to create an instance of the given class.
+	 */
+	boolean canInstantiate(@NotNull Class<?> type);
+}
@@ -0,0 +1,210 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import com.dynxsty.dih4jda.exceptions.InvalidCommandException;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Binds the values of a {@link ModalInteractionEvent} to a form object and passes it to a {@link ModalHandler} method.
+ * <br>Binders are built once upon registration: the form's constructor, all field setters and the handler method are
+ * resolved into {@link MethodHandle}s. Upon submission, the form is filled and validated in a single pass over all
+ * values, so no reflection and no repeated lookups are needed.
+ *
+ * @see ModalHandler
+ * @see ModalField
+ * @since v1.6
+ */
+public final class ModalBinder {
+
+	private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+	private static final Map<Class<?>, Function<String, Object>> CONVERTERS = Map.of(
+			String.class, s -> s,
+			int.class, s -> Integer.parseInt(s.trim()),
+			Integer.class, s -> Integer.parseInt(s.trim()),
+			long.class, s -> Long.parseLong(s.trim()),
+			Long.class, s -> Long.parseLong(s.trim()),
+			double.class, s -> Double.parseDouble(s.trim()),
+			Double.class, s -> Double.parseDouble(s.trim())
+	);
+
+	private final MethodHandle invoker;
+	private final MethodHandle constructor;
+	private final Map<String, Integer> indices;
+	private final FieldBinding[] fields;
+
+	private ModalBinder(MethodHandle invoker, MethodHandle constructor, Map<String, Integer> indices, FieldBinding[] fields) {
+		this.invoker = invoker;
+		this.constructor = constructor;
+		this.indices = Map.copyOf(indices);
+		this.fields = fields;
+	}
+
+	/**
+	 * Builds the {@link ModalBinder} for the {@link ModalHandler} method of the given class.
+	 *
+	 * @param type The handler's class.
+	 * @return The {@link ModalBinder}, or null if the class does not declare a {@link ModalHandler} method.
+	 * @throws InvalidCommandException If the class declares more than one, or an invalid {@link ModalHandler} method.
+	 */
+	public static @Nullable ModalBinder of(@NotNull Class<?> type) throws InvalidCommandException {
+		Method handler = null;
+		for (Method method : type.getMethods()) {
+			if (!method.isAnnotationPresent(ModalHandler.class)) continue;
+			if (handler != null) {
+				throw new InvalidCommandException(String.format("Class %s declares more than one @ModalHandler method!", type.getName()));
+			}
+			handler = method;
+		}
+		return handler == null ? null : of(handler);
+	}
+
+	private static ModalBinder of(Method method) throws InvalidCommandException {
+		String name = method.getDeclaringClass().getName() + "#" + method.getName();
+		Class<?>[] parameters = method.getParameterTypes();
+		if (Modifier.isStatic(method.getModifiers())) {
+			throw new InvalidCommandException(String.format("@ModalHandler method %s must not be static!", name));
+		}
+		if (parameters.length != 2 || parameters[0] != ModalInteractionEvent.class) {
+			throw new InvalidCommandException(String.format("@ModalHandler method %s must take a ModalInteractionEvent and a form!", name));
+		}
+		if (method.getReturnType() != void.class && !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+			throw new InvalidCommandException(String.format("@ModalHandler method %s must either return void or a CompletionStage!", name));
+		}
+		Class<?> form = parameters[1];
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			Constructor<?> formConstructor = form.getDeclaredConstructor();
+			formConstructor.setAccessible(true);
+			Map<String, Integer> indices = new HashMap<>();
+			List<FieldBinding> fields = new ArrayList<>();
+			for (Field field : form.getDeclaredFields()) {
+				ModalField annotation = field.getAnnotation(ModalField.class);
+				if (annotation == null) continue;
+				Function<String, Object> converter = CONVERTERS.get(field.getType());
+				if (converter == null || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+					throw new InvalidCommandException(String.format("Field %s of form %s can not be bound!", field.getName(), form.getName()));
+				}
+				if (indices.put(annotation.id(), fields.size()) != null) {
+					throw new InvalidCommandException(String.format("Form %s binds input \"%s\" twice!", form.getName(), annotation.id()));
+				}
+				field.setAccessible(true);
+				MethodHandle setter = lookup.unreflectSetter(field)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				fields.add(new FieldBinding(annotation, setter, converter));
+			}
+			method.setAccessible(true);
+			MethodHandle invoker = lookup.unreflect(method)
+					.asType(MethodType.methodType(Object.class, Object.class, Object.class, Object.class));
+			MethodHandle constructor = lookup.unreflectConstructor(formConstructor)
+					.asType(MethodType.methodType(Object.class));
+			return new ModalBinder(invoker, constructor, indices, fields.toArray(new FieldBinding[0]));
+		} catch (NoSuchMethodException e) {
+			throw new InvalidCommandException(String.format("Form %s of @ModalHandler method %s is missing an empty constructor!", form.getName(), name), e);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new InvalidCommandException(String.format("Could not access @ModalHandler method %s", name), e);
+		}
+	}
+
+	/**
+	 * Fills and validates a new form from the given event and invokes the {@link ModalHandler} method.
+	 *
+	 * @param target      The handler instance the method is invoked on.
+	 * @param event       The {@link ModalInteractionEvent} that was fired.
+	 * @param onViolation Receives all violations, mapped by the input's id, if validation fails. In that case,
+	 *                    the {@link ModalHandler} method is not invoked.
+	 * @return The {@link CompletionStage} that was returned by the method, or an already completed one.
+	 * @throws Exception If the method throws an exception.
+	 */
+	public @NotNull CompletionStage<Void> invoke(@NotNull Object target, @NotNull ModalInteractionEvent event,
+												 @NotNull Consumer<Map<String, String>> onViolation) throws Exception {
+		try {
+			Object form = constructor.invokeExact();
+			boolean[] present = new boolean[fields.length];
+			Map<String, String> violations = null;
+			for (ModalMapping mapping : event.getValues()) {
+				Integer index = indices.get(mapping.getId());
+				if (index == null) continue;
+				String value = mapping.getAsString();
+				if (value.isEmpty()) continue;
+				present[index] = true;
+				String violation = fields[index].bind(form, value);
+				if (violation != null) {
+					if (violations == null) violations = new LinkedHashMap<>();
+					violations.put(mapping.getId(), violation);
+				}
+			}
+			for (int i = 0; i < fields.length; i++) {
+				if (!present[i] && fields[i].annotation.required()) {
+					if (violations == null) violations = new LinkedHashMap<>();
+					violations.put(fields[i].annotation.id(), "must not be empty");
+				}
+			}
+			if (violations != null) {
+				onViolation.accept(violations);
+				return COMPLETED;
+			}
+			Object result = invoker.invokeExact(target, (Object) event, form);
+			return result instanceof CompletionStage ? ((CompletionStage<?>) result).thenApply(r -> null) : COMPLETED;
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new CompletionException(t);
+		}
+	}
+
+	private static final class FieldBinding {
+		private final ModalField annotation;
+		private final MethodHandle setter;
+		private final Function<String, Object> converter;
+		private final Pattern pattern;
+
+		private FieldBinding(ModalField annotation, MethodHandle setter, Function<String, Object> converter) {
+			this.annotation = annotation;
+			this.setter = setter;
+			this.converter = converter;
+			this.pattern = annotation.pattern().isEmpty() ? null : Pattern.compile(annotation.pattern());
+		}
+
+		/**
+		 * Validates the given value and sets it on the given form.
+		 *
+		 * @return The violation, or null if the value is valid.
+		 */
+		private @Nullable String bind(Object form, String value) throws Throwable {
+			if (value.length() < annotation.minLength()) {
+				return String.format("must be at least %s characters long", annotation.minLength());
+			}
+			if (value.length() > annotation.maxLength()) {
+				return String.format("must be at most %s characters long", annotation.maxLength());
+			}
+			if (pattern != null && !pattern.matcher(value).matches()) {
+				return "has an invalid format";
+			}
+			Object converted;
+			try {
+				converted = converter.apply(value);
+			} catch (NumberFormatException e) {
+				return "must be a number";
+			}
+			setter.invokeExact(form, converted);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a field of a form class to the text input with the given id.
+ * <br>Supported field types are {@link String}, {@code int}, {@code long}, {@code double} and their wrappers.
+ * Fields of inputs that were left empty keep their initial value.
+ *
+ * @see ModalHandler
+ * @since v1.6
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ModalField {
+
+	/**
+	 * @return The id of the text input.
+	 */
+	String id();
+
+	/**
+	 * @return Whether the input must not be empty.
+	 */
+	boolean required() default true;
+
+	/**
+	 * @return The minimum length of the input, if not empty.
+	 */
+	int minLength() default 0;
+
+	/**
+	 * @return The maximum length of the input.
+	 */
+	int maxLength() default Integer.MAX_VALUE;
+
+	/**
+	 * @return A regular expression the whole input must match, if not empty.
+	 */
+	String pattern() default "";
+}
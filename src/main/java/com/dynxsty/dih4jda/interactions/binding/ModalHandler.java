@@ -0,0 +1,46 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a {@link com.dynxsty.dih4jda.interactions.commands.ComponentHandler} as the handler of all
+ * modals it handles, replacing {@code handleModal}. The method must take the
+ * {@link net.dv8tion.jda.api.events.interaction.ModalInteractionEvent} and a form class, whose fields are annotated
+ * with {@link ModalField}. It may either return {@code void} or a {@link java.util.concurrent.CompletionStage}.
+ * <br>The form is filled in a single pass over the submitted values and validated before the method is invoked.
+ * If validation fails, {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onModalValidationFailure} is fired
+ * instead.
+ *
+ * <pre>{@code
+ * public class ApplyCommand extends SlashCommand {
+ *
+ *     public ApplyCommand() {
+ *         setSlashCommandData(Commands.slash("apply", "Apply for staff"));
+ *         handleModalIds("apply");
+ *     }
+ *
+ *     public static class Application {
+ *         @ModalField(id = "email", pattern = ".+@.+")
+ *         private String email;
+ *         @ModalField(id = "age")
+ *         private int age;
+ *     }
+ *
+ *     @ModalHandler
+ *     public void apply(ModalInteractionEvent event, Application application) {
+ *         createApplication(application.email, application.age);
+ *         event.reply("Thanks for your application!").queue();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ModalField
+ * @since v1.6
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ModalHandler {
+}
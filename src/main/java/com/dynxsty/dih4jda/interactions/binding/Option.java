@@ -0,0 +1,47 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a parameter of an {@link OptionHandler} method as a slash command option.
+ * <br>The option's type is derived from the parameter's type. Supported types are {@link String}, {@code long},
+ * {@code int}, {@code double}, {@code boolean} (and their wrappers), {@link net.dv8tion.jda.api.entities.User},
+ * {@link net.dv8tion.jda.api.entities.Member}, {@link net.dv8tion.jda.api.entities.Role},
+ * {@link net.dv8tion.jda.api.entities.IMentionable}, {@link net.dv8tion.jda.api.entities.GuildChannel},
+ * {@link net.dv8tion.jda.api.entities.TextChannel}, {@link net.dv8tion.jda.api.entities.VoiceChannel},
+ * {@link net.dv8tion.jda.api.entities.Message.Attachment} and enums, whose constants are used as choices.
+ *
+ * @see OptionHandler
+ * @since v1.6
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Option {
+
+	/**
+	 * @return The option's name.
+	 */
+	String name();
+
+	/**
+	 * @return The option's description.
+	 */
+	String description() default "No description";
+
+	/**
+	 * Whether the option is required. If an optional primitive parameter is omitted, it is set to its
+	 * default value ({@code 0} or {@code false}); all others are set to {@code null}.
+	 *
+	 * @return Whether the option is required.
+	 */
+	boolean required() default true;
+
+	/**
+	 * @return Whether the option supports AutoComplete.
+	 * @see com.dynxsty.dih4jda.interactions.commands.AutoCompletable
+	 */
+	boolean autoComplete() default false;
+}
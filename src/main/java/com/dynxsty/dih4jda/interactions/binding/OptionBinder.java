@@ -0,0 +1,213 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import com.dynxsty.dih4jda.exceptions.InvalidCommandException;
+import net.dv8tion.jda.api.entities.*;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Binds the options of a {@link SlashCommandInteractionEvent} to the parameters of an {@link OptionHandler} method.
+ * <br>Binders are built once upon registration: the option data is generated from the parameters, and the method is
+ * compiled into a {@link MethodHandle}. Upon execution, all options are decoded in a single pass, so no reflection
+ * and no repeated option lookups are needed.
+ *
+ * @see OptionHandler
+ * @since v1.6
+ */
+public final class OptionBinder {
+
+	private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+	private static final Map<Class<?>, Binding> BINDINGS = new HashMap<>();
+
+	static {
+		bind(OptionType.STRING, OptionMapping::getAsString, null, String.class);
+		bind(OptionType.INTEGER, OptionMapping::getAsLong, 0L, long.class, Long.class);
+		bind(OptionType.INTEGER, OptionMapping::getAsInt, 0, int.class, Integer.class);
+		bind(OptionType.NUMBER, OptionMapping::getAsDouble, 0D, double.class, Double.class);
+		bind(OptionType.BOOLEAN, OptionMapping::getAsBoolean, false, boolean.class, Boolean.class);
+		bind(OptionType.USER, OptionMapping::getAsUser, null, User.class);
+		bind(OptionType.USER, OptionMapping::getAsMember, null, Member.class);
+		bind(OptionType.ROLE, OptionMapping::getAsRole, null, Role.class);
+		bind(OptionType.MENTIONABLE, OptionMapping::getAsMentionable, null, IMentionable.class);
+		bind(OptionType.CHANNEL, OptionMapping::getAsGuildChannel, null, GuildChannel.class);
+		bind(OptionType.CHANNEL, OptionMapping::getAsTextChannel, null, TextChannel.class);
+		bind(OptionType.CHANNEL, OptionMapping::getAsVoiceChannel, null, VoiceChannel.class);
+		bind(OptionType.ATTACHMENT, OptionMapping::getAsAttachment, null, Message.Attachment.class);
+	}
+
+	private final MethodHandle invoker;
+	private final Map<String, Integer> indices;
+	private final Decoder[] decoders;
+	private final Object[] defaults;
+	private final List<OptionData> options;
+
+	private OptionBinder(MethodHandle invoker, Map<String, Integer> indices, Decoder[] decoders, Object[] defaults, List<OptionData> options) {
+		this.invoker = invoker;
+		this.indices = Map.copyOf(indices);
+		this.decoders = decoders;
+		this.defaults = defaults;
+		this.options = List.copyOf(options);
+	}
+
+	/**
+	 * Builds the {@link OptionBinder} for the {@link OptionHandler} method of the given class.
+	 *
+	 * @param type The command's class.
+	 * @return The {@link OptionBinder}, or null if the class does not declare an {@link OptionHandler} method.
+	 * @throws InvalidCommandException If the class declares more than one, or an invalid {@link OptionHandler} method.
+	 */
+	public static @Nullable OptionBinder of(@NotNull Class<?> type) throws InvalidCommandException {
+		Method handler = null;
+		for (Method method : type.getMethods()) {
+			if (!method.isAnnotationPresent(OptionHandler.class)) continue;
+			if (handler != null) {
+				throw new InvalidCommandException(String.format("Class %s declares more than one @OptionHandler method!", type.getName()));
+			}
+			handler = method;
+		}
+		return handler == null ? null : of(handler);
+	}
+
+	private static OptionBinder of(Method method) throws InvalidCommandException {
+		String name = method.getDeclaringClass().getName() + "#" + method.getName();
+		Parameter[] parameters = method.getParameters();
+		if (Modifier.isStatic(method.getModifiers())) {
+			throw new InvalidCommandException(String.format("@OptionHandler method %s must not be static!", name));
+		}
+		if (parameters.length == 0 || parameters[0].getType() != SlashCommandInteractionEvent.class) {
+			throw new InvalidCommandException(String.format("The first parameter of @OptionHandler method %s must be a SlashCommandInteractionEvent!", name));
+		}
+		if (method.getReturnType() != void.class && !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+			throw new InvalidCommandException(String.format("@OptionHandler method %s must either return void or a CompletionStage!", name));
+		}
+		Map<String, Integer> indices = new HashMap<>();
+		Decoder[] decoders = new Decoder[parameters.length];
+		Object[] defaults = new Object[parameters.length];
+		List<OptionData> required = new ArrayList<>();
+		List<OptionData> optional = new ArrayList<>();
+		for (int i = 1; i < parameters.length; i++) {
+			Option option = parameters[i].getAnnotation(Option.class);
+			if (option == null) {
+				throw new InvalidCommandException(String.format("Parameter %s of @OptionHandler method %s is not annotated with @Option!", i, name));
+			}
+			if (indices.put(option.name(), i) != null) {
+				throw new InvalidCommandException(String.format("@OptionHandler method %s declares option \"%s\" twice!", name, option.name()));
+			}
+			Class<?> parameterType = parameters[i].getType();
+			OptionData data;
+			if (parameterType.isEnum()) {
+				data = new OptionData(OptionType.STRING, option.name(), option.description());
+				decoders[i] = enumDecoder(parameterType, data);
+			} else {
+				Binding binding = BINDINGS.get(parameterType);
+				if (binding == null) {
+					throw new InvalidCommandException(String.format("Unsupported type %s of option \"%s\" in @OptionHandler method %s!", parameterType.getName(), option.name(), name));
+				}
+				data = new OptionData(binding.type, option.name(), option.description());
+				decoders[i] = binding.decoder;
+				defaults[i] = parameterType.isPrimitive() ? binding.defaultValue : null;
+				if (parameterType == TextChannel.class) data.setChannelTypes(ChannelType.TEXT);
+				if (parameterType == VoiceChannel.class) data.setChannelTypes(ChannelType.VOICE);
+			}
+			data.setRequired(option.required()).setAutoComplete(option.autoComplete());
+			// discord requires all required options to be listed first
+			(option.required() ? required : optional).add(data);
+		}
+		required.addAll(optional);
+		try {
+			method.setAccessible(true);
+			MethodHandle invoker = MethodHandles.lookup().unreflect(method)
+					.asSpreader(Object[].class, parameters.length)
+					.asType(INVOKER_TYPE);
+			return new OptionBinder(invoker, indices, decoders, defaults, required);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new InvalidCommandException(String.format("Could not access @OptionHandler method %s", name), e);
+		}
+	}
+
+	/**
+	 * @return All generated {@link OptionData}, with required options listed first.
+	 */
+	public @NotNull List<OptionData> getOptions() {
+		return options;
+	}
+
+	/**
+	 * Decodes all options of the given event and invokes the {@link OptionHandler} method.
+	 *
+	 * @param target The command instance the method is invoked on.
+	 * @param event  The {@link SlashCommandInteractionEvent} that was fired.
+	 * @return The {@link CompletionStage} that was returned by the method, or an already completed one.
+	 * @throws Exception If the method throws an exception.
+	 */
+	public @NotNull CompletionStage<Void> invoke(@NotNull Object target, @NotNull SlashCommandInteractionEvent event) throws Exception {
+		Object[] args = defaults.clone();
+		args[0] = event;
+		for (OptionMapping mapping : event.getOptions()) {
+			Integer index = indices.get(mapping.getName());
+			if (index != null) {
+				Object value = decoders[index].decode(mapping);
+				if (value != null) args[index] = value;
+			}
+		}
+		Object result;
+		try {
+			result = invoker.invokeExact(target, args);
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new CompletionException(t);
+		}
+		return result instanceof CompletionStage ? ((CompletionStage<?>) result).thenApply(r -> null) : COMPLETED;
+	}
+
+	private static Decoder enumDecoder(Class<?> type, OptionData data) {
+		Map<String, Object> constants = new LinkedHashMap<>();
+		for (Object constant : type.getEnumConstants()) {
+			constants.put(((Enum<?>) constant).name(), constant);
+		}
+		if (constants.size() <= OptionData.MAX_CHOICES) {
+			constants.keySet().forEach(constant -> data.addChoice(constant, constant));
+		}
+		return mapping -> constants.get(mapping.getAsString());
+	}
+
+	private static void bind(OptionType type, Decoder decoder, Object defaultValue, Class<?>... classes) {
+		for (Class<?> c : classes) {
+			BINDINGS.put(c, new Binding(type, decoder, defaultValue));
+		}
+	}
+
+	@FunctionalInterface
+	private interface Decoder {
+		Object decode(OptionMapping mapping);
+	}
+
+	private static final class Binding {
+		private final OptionType type;
+		private final Decoder decoder;
+		private final Object defaultValue;
+
+		private Binding(OptionType type, Decoder decoder, Object defaultValue) {
+			this.type = type;
+			this.decoder = decoder;
+			this.defaultValue = defaultValue;
+		}
+	}
+}
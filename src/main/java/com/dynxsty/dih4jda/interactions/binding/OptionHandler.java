@@ -0,0 +1,40 @@
+package com.dynxsty.dih4jda.interactions.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a {@link com.dynxsty.dih4jda.interactions.commands.SlashCommand} or
+ * {@link com.dynxsty.dih4jda.interactions.commands.SlashCommand.Subcommand} as its handler, replacing
+ * {@code execute}. The first parameter must be the
+ * {@link net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent}, all following
+ * ones must be annotated with {@link Option}. The method may either return {@code void} or a
+ * {@link java.util.concurrent.CompletionStage}.
+ * <br>All options are added to the command's data upon registration and decoded in a single pass once the command
+ * is executed, without using reflection.
+ *
+ * <pre>{@code
+ * public class BanCommand extends SlashCommand {
+ *
+ *     public BanCommand() {
+ *         setSlashCommandData(Commands.slash("ban", "Bans a user"));
+ *     }
+ *
+ *     @OptionHandler
+ *     public void ban(SlashCommandInteractionEvent event,
+ *                     @Option(name = "user", description = "The user to ban") User user,
+ *                     @Option(name = "days", description = "Days of messages to delete", required = false) int days) {
+ *         event.getGuild().ban(user, days).queue();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see Option
+ * @since v1.6
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface OptionHandler {
+}
@@ -1,6 +1,10 @@
 package com.dynxsty.dih4jda.interactions.commands;
 
+import com.dynxsty.dih4jda.ratelimit.RateLimit;
 import net.dv8tion.jda.api.Permission;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
 
 import java.util.Arrays;
 import java.util.Set;
@@ -14,10 +18,13 @@ import java.util.stream.Collectors;
  */
 public abstract class CommandRequirements extends ComponentHandler {
 	private Set<Permission> requiredPermissions = Set.of();
+	private long requiredPermissionsRaw = 0;
 	private Set<Long> requiredUsers = Set.of();
 
 	private Set<Long> requiredRoles = Set.of();
 
+	private RateLimit rateLimit = null;
+
 	/**
 	 * Allows to require a set of {@link Permission}s which are needed to execute the corresponding command.
 	 *
@@ -25,6 +32,7 @@ public abstract class CommandRequirements extends ComponentHandler {
 	 */
 	public final void requirePermissions(Permission... permissions) {
 		requiredPermissions = Arrays.stream(permissions).collect(Collectors.toSet());
+		requiredPermissionsRaw = Permission.getRaw(permissions);
 	}
 
 	/**
@@ -45,10 +53,33 @@ public abstract class CommandRequirements extends ComponentHandler {
 		requiredRoles = Arrays.stream(roles).collect(Collectors.toSet());
 	}
 
+	/**
+	 * Limits how often the corresponding command may be used per time window. If the limit is exceeded,
+	 * {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onRateLimited} is fired instead.
+	 * <br>Counters are kept by the configured {@link com.dynxsty.dih4jda.ratelimit.RateLimitBackend}.
+	 *
+	 * @param limit  How often the command may be used per window.
+	 * @param window The window's duration.
+	 * @param scope  The {@link RateLimit.Scope} the limit applies to.
+	 * @see com.dynxsty.dih4jda.DIH4JDABuilder#setRateLimitBackend(com.dynxsty.dih4jda.ratelimit.RateLimitBackend)
+	 * @since v1.6
+	 */
+	public final void requireRateLimit(int limit, Duration window, RateLimit.Scope scope) {
+		rateLimit = new RateLimit(limit, window, scope);
+	}
+
 	public final Set<Permission> getRequiredPermissions() {
 		return requiredPermissions;
 	}
 
+	/**
+	 * @return All required {@link Permission}s, as a raw bitfield.
+	 * @since v1.6
+	 */
+	public final long getRequiredPermissionsRaw() {
+		return requiredPermissionsRaw;
+	}
+
 	public final Set<Long> getRequiredUsers() {
 		return requiredUsers;
 	}
@@ -56,4 +87,8 @@ public abstract class CommandRequirements extends ComponentHandler {
 	public final Set<Long> getRequiredRoles() {
 		return requiredRoles;
 	}
+
+	public final @Nullable RateLimit getRateLimit() {
+		return rateLimit;
+	}
 }
@@ -1,14 +1,20 @@
 package com.dynxsty.dih4jda.interactions.commands;
 
+import com.dynxsty.dih4jda.execution.Bulkhead;
+import com.dynxsty.dih4jda.execution.CircuitBreaker;
 import com.dynxsty.dih4jda.interactions.ComponentIdBuilder;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.SelectMenuInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +29,8 @@ public abstract class ComponentHandler {
 	private List<String> handledSelectMenuIds = List.of();
 	private List<String> handledModalIds = List.of();
 	private boolean handleAutoComplete = false;
+	private Bulkhead bulkhead = null;
+	private CircuitBreaker circuitBreaker = null;
 
 	protected ComponentHandler() {
 	}
@@ -167,6 +175,18 @@ public abstract class ComponentHandler {
 	 */
 	public void handleButton(ButtonInteractionEvent event, Button button) {}
 
+	/**
+	 * Asynchronous variant of {@link ComponentHandler#handleButton(ButtonInteractionEvent, Button)}.
+	 * By default, this simply calls {@link ComponentHandler#handleButton(ButtonInteractionEvent, Button)}.
+	 *
+	 * @return A {@link CompletionStage} which completes once the interaction was handled.
+	 * @since v1.6
+	 */
+	public CompletionStage<Void> handleButtonAsync(ButtonInteractionEvent event, Button button) {
+		handleButton(event, button);
+		return CompletableFuture.completedFuture(null);
+	}
+
 	/**
 	 * Gets all SelectMenu identifiers that should be handled.
 	 *
@@ -251,6 +271,18 @@ public abstract class ComponentHandler {
 	 */
 	public void handleSelectMenu(SelectMenuInteractionEvent event, List<String> values) {}
 
+	/**
+	 * Asynchronous variant of {@link ComponentHandler#handleSelectMenu(SelectMenuInteractionEvent, List)}.
+	 * By default, this simply calls {@link ComponentHandler#handleSelectMenu(SelectMenuInteractionEvent, List)}.
+	 *
+	 * @return A {@link CompletionStage} which completes once the interaction was handled.
+	 * @since v1.6
+	 */
+	public CompletionStage<Void> handleSelectMenuAsync(SelectMenuInteractionEvent event, List<String> values) {
+		handleSelectMenu(event, values);
+		return CompletableFuture.completedFuture(null);
+	}
+
 	/**
 	 * Gets all Modal identifiers that should be handled.
 	 *
@@ -363,4 +395,70 @@ public abstract class ComponentHandler {
 	 * @since v1.4
 	 */
 	public void handleModal(ModalInteractionEvent event, List<ModalMapping> values) {}
+
+	/**
+	 * Asynchronous variant of {@link ComponentHandler#handleModal(ModalInteractionEvent, List)}.
+	 * By default, this simply calls {@link ComponentHandler#handleModal(ModalInteractionEvent, List)}.
+	 *
+	 * @return A {@link CompletionStage} which completes once the interaction was handled.
+	 * @since v1.6
+	 */
+	public CompletionStage<Void> handleModalAsync(ModalInteractionEvent event, List<ModalMapping> values) {
+		handleModal(event, values);
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Limits how many executions of this class (commands and components alike) may run at the same time.
+	 * Executions that exceed the limit are shed and
+	 * {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onShed} is fired instead.
+	 *
+	 * <pre>{@code
+	 * public ReportCommand() {
+	 *     setSlashCommandData(Commands.slash("report", "Generates a report"));
+	 *     limitConcurrency(4);
+	 *     enableCircuitBreaker(20, 0.5, Duration.ofSeconds(5), Duration.ofSeconds(30));
+	 * }
+	 * }</pre>
+	 *
+	 * @param maxConcurrent The maximum amount of concurrent executions.
+	 * @see Bulkhead
+	 * @since v1.6
+	 */
+	public final void limitConcurrency(int maxConcurrent) {
+		bulkhead = new Bulkhead(maxConcurrent);
+	}
+
+	/**
+	 * Stops executing this class (commands and components alike) once too many of its recent executions failed or
+	 * were too slow. While the breaker is open, executions are shed and
+	 * {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onShed} is fired instead.
+	 *
+	 * @param windowSize           The amount of recent executions the failure rate is calculated from.
+	 * @param failureRateThreshold The failure rate at which the breaker opens, between 0 (exclusive) and 1 (inclusive).
+	 * @param slowCallThreshold    The duration after which an execution counts as failed, or null if slow
+	 *                             executions should count as successful.
+	 * @param openDuration         How long the breaker stays open before a trial execution is let through.
+	 * @see CircuitBreaker
+	 * @since v1.6
+	 */
+	public final void enableCircuitBreaker(int windowSize, double failureRateThreshold, @Nullable Duration slowCallThreshold, Duration openDuration) {
+		circuitBreaker = new CircuitBreaker(windowSize, failureRateThreshold, slowCallThreshold, openDuration);
+	}
+
+	/**
+	 * @return The {@link Bulkhead} of this class, or null if its concurrency is not limited.
+	 * @since v1.6
+	 */
+	public final @Nullable Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	/**
+	 * @return The {@link CircuitBreaker} of this class, or null if it has none.
+	 * @since v1.6
+	 */
+	public final @Nullable CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
 }
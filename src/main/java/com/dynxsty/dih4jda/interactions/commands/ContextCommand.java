@@ -1,11 +1,12 @@
 package com.dynxsty.dih4jda.interactions.commands;
 
-import com.dynxsty.dih4jda.DIH4JDALogger;
 import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
-import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Model class which represents a single Context Command.
  *
@@ -24,22 +25,20 @@ public abstract class ContextCommand extends ExecutableCommand {
 
 	/**
 	 * Sets this commands' {@link CommandData}.
+	 * <br>Its type must match the command's class (user or message). Otherwise, the command is ignored once the
+	 * interactions are registered.
 	 *
 	 * @param commandData The corresponding {@link CommandData} which should be used for this context command.
 	 * @see net.dv8tion.jda.api.interactions.commands.build.Commands#user(String)
 	 * @see net.dv8tion.jda.api.interactions.commands.build.Commands#message(String)
 	 */
 	public final void setCommandData(CommandData commandData) {
-		if (commandData.getType() == Command.Type.MESSAGE || commandData.getType() == Command.Type.USER) {
-			this.commandData = commandData;
-		} else {
-			DIH4JDALogger.error(String.format("Invalid Command Type \"%s\" for Context Command! This command will be ignored.", commandData.getType()));
-		}
+		this.commandData = commandData;
 	}
 
 	public abstract static class User extends ContextCommand {
 		/**
-		 * Abstract method that must be implemented for all User Context Commands.
+		 * Method that should be overridden for all User Context Commands, unless {@link ContextCommand.User#executeAsync(UserContextInteractionEvent)} is overridden instead.
 		 *
 		 * <pre>{@code
 		 * public class PingContextMenu extends ContextCommand.User {
@@ -53,13 +52,31 @@ public abstract class ContextCommand extends ExecutableCommand {
 		 * 		event.reply("Pong!").queue();
 		 *    }
 		 * }}
+		 *
+		 * @throws IllegalStateException If neither this method nor {@link ContextCommand.User#executeAsync} is
+		 *                               overridden.
+		 */
+		public void execute(UserContextInteractionEvent event) {
+			throw new IllegalStateException(getClass().getName() + " must override either execute or executeAsync!");
+		}
+
+		/**
+		 * Asynchronous variant of {@link ContextCommand.User#execute(UserContextInteractionEvent)}.
+		 * By default, this simply calls {@link ContextCommand.User#execute(UserContextInteractionEvent)}.
+		 *
+		 * @param event The {@link UserContextInteractionEvent} that was fired.
+		 * @return A {@link CompletionStage} which completes once the command was handled.
+		 * @since v1.6
 		 */
-		public abstract void execute(UserContextInteractionEvent event);
+		public CompletionStage<Void> executeAsync(UserContextInteractionEvent event) {
+			execute(event);
+			return CompletableFuture.completedFuture(null);
+		}
 	}
 
 	public abstract static class Message extends ContextCommand {
 		/**
-		 * Abstract method that must be implemented for all Message Context Commands.
+		 * Method that should be overridden for all Message Context Commands, unless {@link ContextCommand.Message#executeAsync(MessageContextInteractionEvent)} is overridden instead.
 		 *
 		 * <pre>{@code
 		 * public class PingContextMenu extends GuildContextCommand implements MessageContextCommand {
@@ -73,7 +90,25 @@ public abstract class ContextCommand extends ExecutableCommand {
 		 * 		event.reply("Pong!").queue();
 		 *    }
 		 * }}
+		 *
+		 * @throws IllegalStateException If neither this method nor {@link ContextCommand.Message#executeAsync} is
+		 *                               overridden.
+		 */
+		public void execute(MessageContextInteractionEvent event) {
+			throw new IllegalStateException(getClass().getName() + " must override either execute or executeAsync!");
+		}
+
+		/**
+		 * Asynchronous variant of {@link ContextCommand.Message#execute(MessageContextInteractionEvent)}.
+		 * By default, this simply calls {@link ContextCommand.Message#execute(MessageContextInteractionEvent)}.
+		 *
+		 * @param event The {@link MessageContextInteractionEvent} that was fired.
+		 * @return A {@link CompletionStage} which completes once the command was handled.
+		 * @since v1.6
 		 */
-		public abstract void execute(MessageContextInteractionEvent event);
+		public CompletionStage<Void> executeAsync(MessageContextInteractionEvent event) {
+			execute(event);
+			return CompletableFuture.completedFuture(null);
+		}
 	}
 }
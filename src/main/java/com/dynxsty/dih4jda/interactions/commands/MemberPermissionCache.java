@@ -0,0 +1,227 @@
+package com.dynxsty.dih4jda.interactions.commands;
+
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberUpdateEvent;
+import net.dv8tion.jda.api.events.guild.update.GuildUpdateOwnerEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdatePermissionsEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.Interaction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the {@link MemberSnapshot} of each member per guild, so that evaluating {@link CommandRequirements} for
+ * active members neither recomputes their effective permissions nor rescans their roles.
+ * <br>Entries are invalidated by all events that change a member's roles or the permissions of a role. As these
+ * events require the {@link net.dv8tion.jda.api.requests.GatewayIntent#GUILD_MEMBERS} intent, entries additionally
+ * expire after a maximum age, which bounds how long a missed event can go unnoticed. Additionally, the roles a
+ * {@link Member} (e.g. of an interaction's payload) currently has always win over the ones of a cached snapshot.
+ * <br>Once a guild reaches its maximum amount of members, expired entries are dropped first, then the oldest ones.
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#enableMemberPermissionCache(Duration)
+ * @since v1.6
+ */
+public class MemberPermissionCache extends ListenerAdapter {
+	/**
+	 * The default maximum amount of members that are cached per guild.
+	 */
+	public static final int DEFAULT_MAX_MEMBERS = 10_000;
+
+	private final Map<Long, GuildEntry> guilds = new ConcurrentHashMap<>();
+	private final long maxAge;
+	private final int maxMembers;
+
+	/**
+	 * Creates a new {@link MemberPermissionCache}, which caches up to {@link MemberPermissionCache#DEFAULT_MAX_MEMBERS}
+	 * members per guild.
+	 *
+	 * @param maxAge The maximum age of each entry.
+	 */
+	public MemberPermissionCache(@NotNull Duration maxAge) {
+		this(maxAge, DEFAULT_MAX_MEMBERS);
+	}
+
+	/**
+	 * Creates a new {@link MemberPermissionCache}.
+	 *
+	 * @param maxAge     The maximum age of each entry.
+	 * @param maxMembers The maximum amount of members that are cached per guild. Once a guild reaches this, its
+	 *                   expired and, if needed, its oldest entries are dropped.
+	 */
+	public MemberPermissionCache(@NotNull Duration maxAge, int maxMembers) {
+		if (maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("Max age must be positive!");
+		if (maxMembers <= 0) throw new IllegalArgumentException("Max members must be positive!");
+		this.maxAge = maxAge.toNanos();
+		this.maxMembers = maxMembers;
+	}
+
+	/**
+	 * @param member The {@link Member}.
+	 * @return The (possibly cached) snapshot of the given member. If the member's roles differ from the cached
+	 * snapshot, the snapshot is reloaded.
+	 */
+	public @NotNull MemberSnapshot get(@NotNull Member member) {
+		long guildId = member.getGuild().getIdLong();
+		MemberSnapshot snapshot = get(guildId, member.getIdLong(), () -> MemberSnapshot.of(member));
+		if (snapshot.hasSameRoles(member.getRoles())) return snapshot;
+		// the member's roles are newer than the cached ones, e.g. as an update event was missed
+		invalidate(guildId, member.getIdLong());
+		return get(guildId, member.getIdLong(), () -> MemberSnapshot.of(member));
+	}
+
+	/**
+	 * @param interaction The {@link Interaction}.
+	 * @return The (possibly cached) snapshot of the interaction's member, or null if the interaction was not sent in
+	 * a guild.
+	 */
+	public @Nullable MemberSnapshot get(@NotNull Interaction interaction) {
+		if (!interaction.isFromGuild() || interaction.getGuild() == null || interaction.getMember() == null) return null;
+		return get(interaction.getMember());
+	}
+
+	/**
+	 * Returns the cached snapshot of the given member, or loads and caches it if there is none.
+	 *
+	 * @param guildId  The guild's id.
+	 * @param memberId The member's id.
+	 * @param loader   Creates the snapshot of the member, if it is not cached.
+	 * @return The snapshot of the given member.
+	 */
+	public @NotNull MemberSnapshot get(long guildId, long memberId, @NotNull Supplier<MemberSnapshot> loader) {
+		long now = System.nanoTime();
+		GuildEntry guild = guilds.computeIfAbsent(guildId, id -> new GuildEntry());
+		MemberEntry entry = guild.members.get(memberId);
+		if (entry != null && now - entry.loadedAt < maxAge) return entry.snapshot;
+		// invalidations that race with loading must win, thus, they are detected by comparing the guild's version
+		long version = guild.version.get();
+		MemberSnapshot snapshot = loader.get();
+		if (guild.members.size() >= maxMembers) evict(guild, now);
+		MemberEntry loaded = new MemberEntry(snapshot, now);
+		guild.members.put(memberId, loaded);
+		if (guild.version.get() != version || guilds.get(guildId) != guild) {
+			guild.members.remove(memberId, loaded);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Drops all expired entries of the given guild and, if it is still full, its oldest entries. As sorting all
+	 * entries is expensive, a tenth of the guild's entries is dropped at once.
+	 *
+	 * @param guild The guild's {@link GuildEntry}.
+	 * @param now   The current time, as returned by {@link System#nanoTime()}.
+	 */
+	private void evict(GuildEntry guild, long now) {
+		synchronized (guild) {
+			if (guild.members.size() < maxMembers) return;
+			guild.members.values().removeIf(entry -> now - entry.loadedAt >= maxAge);
+			int excess = guild.members.size() - maxMembers + 1;
+			if (excess <= 0) return;
+			List<Map.Entry<Long, MemberEntry>> entries = new ArrayList<>(guild.members.entrySet());
+			entries.sort(Comparator.comparingLong(entry -> entry.getValue().loadedAt));
+			int count = Math.min(entries.size(), excess + maxMembers / 10);
+			for (int i = 0; i < count; i++) {
+				guild.members.remove(entries.get(i).getKey(), entries.get(i).getValue());
+			}
+		}
+	}
+
+	/**
+	 * Invalidates the cached snapshot of a single member.
+	 *
+	 * @param guildId  The guild's id.
+	 * @param memberId The member's id.
+	 */
+	public void invalidate(long guildId, long memberId) {
+		GuildEntry guild = guilds.get(guildId);
+		if (guild == null) return;
+		guild.version.incrementAndGet();
+		guild.members.remove(memberId);
+	}
+
+	/**
+	 * Invalidates the cached snapshots of all members of a guild.
+	 *
+	 * @param guildId The guild's id.
+	 */
+	public void invalidateGuild(long guildId) {
+		GuildEntry guild = guilds.remove(guildId);
+		if (guild != null) guild.version.incrementAndGet();
+	}
+
+	/**
+	 * @return The amount of members that are currently cached, across all guilds.
+	 */
+	public int size() {
+		return guilds.values().stream().mapToInt(guild -> guild.members.size()).sum();
+	}
+
+	@Override
+	public void onGuildMemberRoleAdd(@NotNull GuildMemberRoleAddEvent event) {
+		invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+	}
+
+	@Override
+	public void onGuildMemberRoleRemove(@NotNull GuildMemberRoleRemoveEvent event) {
+		invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+	}
+
+	@Override
+	public void onGuildMemberUpdate(@NotNull GuildMemberUpdateEvent event) {
+		invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+	}
+
+	@Override
+	public void onGuildMemberRemove(@NotNull GuildMemberRemoveEvent event) {
+		invalidate(event.getGuild().getIdLong(), event.getUser().getIdLong());
+	}
+
+	@Override
+	public void onRoleUpdatePermissions(@NotNull RoleUpdatePermissionsEvent event) {
+		invalidateGuild(event.getGuild().getIdLong());
+	}
+
+	@Override
+	public void onRoleDelete(@NotNull RoleDeleteEvent event) {
+		invalidateGuild(event.getGuild().getIdLong());
+	}
+
+	@Override
+	public void onGuildUpdateOwner(@NotNull GuildUpdateOwnerEvent event) {
+		invalidateGuild(event.getGuild().getIdLong());
+	}
+
+	@Override
+	public void onGuildLeave(@NotNull GuildLeaveEvent event) {
+		invalidateGuild(event.getGuild().getIdLong());
+	}
+
+	private static final class GuildEntry {
+		private final Map<Long, MemberEntry> members = new ConcurrentHashMap<>();
+		private final AtomicLong version = new AtomicLong();
+	}
+
+	private static final class MemberEntry {
+		private final MemberSnapshot snapshot;
+		private final long loadedAt;
+
+		private MemberEntry(MemberSnapshot snapshot, long loadedAt) {
+			this.snapshot = snapshot;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
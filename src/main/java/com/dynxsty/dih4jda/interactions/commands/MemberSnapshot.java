@@ -0,0 +1,93 @@
+package com.dynxsty.dih4jda.interactions.commands;
+
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.interactions.Interaction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable snapshot of everything about a {@link Member} that is needed to evaluate {@link CommandRequirements}:
+ * their effective permissions and the ids of their roles.
+ *
+ * @see RequirementEvaluator
+ * @since v1.6
+ */
+public final class MemberSnapshot {
+
+	private final long permissions;
+	private final long[] roleIds;
+
+	/**
+	 * Creates a new {@link MemberSnapshot}.
+	 *
+	 * @param permissions The member's effective permissions, as a raw bitfield.
+	 * @param roleIds     The ids of the member's roles.
+	 */
+	public MemberSnapshot(long permissions, long @NotNull ... roleIds) {
+		this.permissions = permissions;
+		this.roleIds = roleIds.clone();
+		Arrays.sort(this.roleIds);
+	}
+
+	/**
+	 * @param member The {@link Member}.
+	 * @return The snapshot of the given member.
+	 */
+	public static @NotNull MemberSnapshot of(@NotNull Member member) {
+		List<Role> roles = member.getRoles();
+		long[] roleIds = new long[roles.size()];
+		for (int i = 0; i < roleIds.length; i++) {
+			roleIds[i] = roles.get(i).getIdLong();
+		}
+		return new MemberSnapshot(Permission.getRaw(member.getPermissions()), roleIds);
+	}
+
+	/**
+	 * @param interaction The {@link Interaction}.
+	 * @return The snapshot of the interaction's member, or null if the interaction was not sent in a guild.
+	 */
+	public static @Nullable MemberSnapshot of(@NotNull Interaction interaction) {
+		if (!interaction.isFromGuild() || interaction.getGuild() == null || interaction.getMember() == null) return null;
+		return of(interaction.getMember());
+	}
+
+	/**
+	 * @param required The required permissions, as a raw bitfield.
+	 * @return Whether the member has all of the given permissions.
+	 */
+	public boolean hasPermissions(long required) {
+		return (permissions & required) == required;
+	}
+
+	/**
+	 * @return Whether the member has no roles at all.
+	 */
+	public boolean hasNoRoles() {
+		return roleIds.length == 0;
+	}
+
+	/**
+	 * @param roleId The role's id.
+	 * @return Whether the member has the given role.
+	 */
+	public boolean hasRole(long roleId) {
+		return Arrays.binarySearch(roleIds, roleId) >= 0;
+	}
+
+	/**
+	 * @param roles The roles to compare with.
+	 * @return Whether the member has exactly the given roles.
+	 */
+	public boolean hasSameRoles(@NotNull List<Role> roles) {
+		if (roles.size() != roleIds.length) return false;
+		for (Role role : roles) {
+			if (!hasRole(role.getIdLong())) return false;
+		}
+		return true;
+	}
+}
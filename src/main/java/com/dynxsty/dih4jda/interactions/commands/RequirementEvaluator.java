@@ -0,0 +1,63 @@
+package com.dynxsty.dih4jda.interactions.commands;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Evaluates {@link CommandRequirements} without any side effects. This only works on ids and raw permissions, so that
+ * it can be used without any actual interaction (e.g. to warm up the dispatch path).
+ *
+ * @since v1.6
+ */
+public final class RequirementEvaluator {
+
+	private RequirementEvaluator() {
+	}
+
+	/**
+	 * Evaluates the given requirements. Requirements are checked in the order of the {@link Result}s; only the first
+	 * unmet requirement is returned.
+	 *
+	 * @param requirements The {@link CommandRequirements}.
+	 * @param userId       The id of the user that used the command.
+	 * @param member       The {@link MemberSnapshot} of the user, or null if the command was not used in a guild.
+	 * @return The {@link Result}.
+	 */
+	public static @NotNull Result evaluate(@NotNull CommandRequirements requirements, long userId, @Nullable MemberSnapshot member) {
+		long permissions = requirements.getRequiredPermissionsRaw();
+		if (permissions != 0 && member != null && !member.hasPermissions(permissions)) {
+			return Result.INSUFFICIENT_PERMISSIONS;
+		}
+		if (!requirements.getRequiredUsers().isEmpty() && !requirements.getRequiredUsers().contains(userId)) {
+			return Result.INVALID_USER;
+		}
+		// members without any roles are not restricted
+		if (!requirements.getRequiredRoles().isEmpty() && member != null && !member.hasNoRoles()
+				&& requirements.getRequiredRoles().stream().noneMatch(member::hasRole)) {
+			return Result.INVALID_ROLE;
+		}
+		return Result.PASSED;
+	}
+
+	/**
+	 * The result of evaluating {@link CommandRequirements}.
+	 */
+	public enum Result {
+		/**
+		 * All requirements are met.
+		 */
+		PASSED,
+		/**
+		 * The member is missing some of the required permissions.
+		 */
+		INSUFFICIENT_PERMISSIONS,
+		/**
+		 * The user is not one of the required users.
+		 */
+		INVALID_USER,
+		/**
+		 * The member has none of the required roles.
+		 */
+		INVALID_ROLE
+	}
+}
@@ -8,6 +8,8 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandGroupData;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
@@ -43,9 +45,45 @@ public abstract class SlashCommand extends ExecutableCommand {
 	 * }
 	 * }</pre>
 	 *
+	 * @throws IllegalStateException If neither this method nor {@link SlashCommand#executeAsync} is overridden.
 	 * @since v1.5
 	 */
-	public void execute(SlashCommandInteractionEvent event) {}
+	public void execute(SlashCommandInteractionEvent event) {
+		throw new IllegalStateException(getClass().getName() + " must override either execute or executeAsync!");
+	}
+
+	/**
+	 * Asynchronous variant of {@link SlashCommand#execute(SlashCommandInteractionEvent)}.
+	 * Override this method instead of {@link SlashCommand#execute(SlashCommandInteractionEvent)} if the command waits
+	 * on other services (databases, HTTP requests, etc.), so that no thread is blocked while doing so.
+	 * By default, this simply calls {@link SlashCommand#execute(SlashCommandInteractionEvent)}.
+	 *
+	 * <pre>{@code
+	 * public class ProfileCommand extends SlashCommand {
+	 *
+	 *     public ProfileCommand() {
+	 *         setSlashCommandData(Commands.slash("profile", "Shows your profile"));
+	 *     }
+	 *
+	 *    @Override
+	 *    public CompletionStage<Void> executeAsync(SlashCommandInteractionEvent event) {
+	 * 		return database.findProfile(event.getUser().getIdLong())
+	 * 				.thenCompose(profile -> event.reply(profile.toString()).submit())
+	 * 				.thenAccept(hook -> {});
+	 *    }
+	 *
+	 * }
+	 * }</pre>
+	 *
+	 * @param event The {@link SlashCommandInteractionEvent} that was fired.
+	 * @return A {@link CompletionStage} which completes once the command was handled. Exceptions that complete
+	 * this stage are passed to {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onCommandException}.
+	 * @since v1.6
+	 */
+	public CompletionStage<Void> executeAsync(SlashCommandInteractionEvent event) {
+		execute(event);
+		return CompletableFuture.completedFuture(null);
+	}
 
 	public final SlashCommandData getSlashCommandData() {
 		return commandData;
@@ -126,8 +164,26 @@ public abstract class SlashCommand extends ExecutableCommand {
 		 * }
 		 * }</pre>
 		 *
+		 * @throws IllegalStateException If neither this method nor {@link SlashCommand.Subcommand#executeAsync} is
+		 *                               overridden.
 		 * @since v1.5
 		 */
-		public abstract void execute(SlashCommandInteractionEvent event);
+		public void execute(SlashCommandInteractionEvent event) {
+			throw new IllegalStateException(getClass().getName() + " must override either execute or executeAsync!");
+		}
+
+		/**
+		 * Asynchronous variant of {@link SlashCommand.Subcommand#execute(SlashCommandInteractionEvent)}.
+		 * By default, this simply calls {@link SlashCommand.Subcommand#execute(SlashCommandInteractionEvent)}.
+		 *
+		 * @param event The {@link SlashCommandInteractionEvent} that was fired.
+		 * @return A {@link CompletionStage} which completes once the subcommand was handled.
+		 * @see SlashCommand#executeAsync(SlashCommandInteractionEvent)
+		 * @since v1.6
+		 */
+		public CompletionStage<Void> executeAsync(SlashCommandInteractionEvent event) {
+			execute(event);
+			return CompletableFuture.completedFuture(null);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.dynxsty.dih4jda.interactions.commands;
+
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a single prefix (text) command, which is invoked by a message that starts with the configured prefix,
+ * followed by the command's name or one of its aliases. All requirements of {@link CommandRequirements} apply, just
+ * like they do for slash commands.
+ * <br>Text commands require the {@link net.dv8tion.jda.api.requests.GatewayIntent#MESSAGE_CONTENT} intent.
+ *
+ * @see TextCommand#execute(MessageReceivedEvent, List)
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#enableTextCommands(String)
+ * @since v1.6
+ */
+public abstract class TextCommand extends CommandRequirements {
+
+	private String name = null;
+	private Set<String> aliases = Set.of();
+
+	protected TextCommand() {
+	}
+
+	/**
+	 * Method that should be overridden for all Text Commands that should be executed.
+	 * Arguments are separated by whitespace; arguments that contain whitespace may be enclosed in double quotes.
+	 *
+	 * <pre>{@code
+	 * public class BanCommand extends TextCommand {
+	 *
+	 *     public BanCommand() {
+	 *         setName("ban", "b");
+	 *         requirePermissions(Permission.BAN_MEMBERS);
+	 *     }
+	 *
+	 *    @Override
+	 *    public void execute(MessageReceivedEvent event, List<String> args) {
+	 * 		// !ban 123456789 "Spamming in #general"
+	 * 		event.getGuild().ban(UserSnowflake.fromId(args.get(0)), 0, args.get(1)).queue();
+	 *    }
+	 *
+	 * }
+	 * }</pre>
+	 *
+	 * @param event The {@link MessageReceivedEvent} that was fired.
+	 * @param args  All arguments, excluding the command's name.
+	 * @throws IllegalStateException If neither this method nor {@link TextCommand#executeAsync} is overridden.
+	 */
+	public void execute(MessageReceivedEvent event, List<String> args) {
+		throw new IllegalStateException(getClass().getName() + " must override either execute or executeAsync!");
+	}
+
+	/**
+	 * Asynchronous variant of {@link TextCommand#execute(MessageReceivedEvent, List)}.
+	 * By default, this simply calls {@link TextCommand#execute(MessageReceivedEvent, List)}.
+	 *
+	 * @param event The {@link MessageReceivedEvent} that was fired.
+	 * @param args  All arguments, excluding the command's name.
+	 * @return A {@link CompletionStage} which completes once the command was handled. Exceptions that complete
+	 * this stage are passed to {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter#onTextCommandException}.
+	 */
+	public CompletionStage<Void> executeAsync(MessageReceivedEvent event, List<String> args) {
+		execute(event, args);
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Sets the name of this command and, optionally, its aliases. Names are case-insensitive and must not contain
+	 * whitespace.
+	 *
+	 * @param name    The command's name.
+	 * @param aliases All aliases.
+	 */
+	public final void setName(String name, String... aliases) {
+		this.name = name.toLowerCase(Locale.ROOT);
+		this.aliases = Arrays.stream(aliases).map(alias -> alias.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+	}
+
+	public final String getName() {
+		return name;
+	}
+
+	public final Set<String> getAliases() {
+		return aliases;
+	}
+}
@@ -0,0 +1,32 @@
+package com.dynxsty.dih4jda.interactions.commands.lazy;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A command whose metadata (data, requirements and component ids) is declared up-front, while the actual
+ * implementation is only instantiated once it is first needed. This keeps startup fast and the heap small
+ * for bots with a lot of rarely used commands.
+ *
+ * @param <T> The type of the implementation.
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#addCommands(com.dynxsty.dih4jda.interactions.commands.ExecutableCommand...)
+ * @since v1.6
+ */
+public interface LazyCommand<T> {
+
+	/**
+	 * @return The class of the implementation.
+	 */
+	@NotNull Class<? extends T> getCommandClass();
+
+	/**
+	 * Gets the implementation, which is created on the first call. This is thread-safe and creates at most one instance.
+	 *
+	 * @return The implementation.
+	 */
+	@NotNull T getInstance();
+
+	/**
+	 * @return Whether the implementation was already created.
+	 */
+	boolean isInstantiated();
+}
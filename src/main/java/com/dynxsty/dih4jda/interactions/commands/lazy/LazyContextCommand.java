@@ -0,0 +1,139 @@
+package com.dynxsty.dih4jda.interactions.commands.lazy;
+
+import com.dynxsty.dih4jda.interactions.commands.ContextCommand;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.SelectMenuInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * {@link ContextCommand}s whose implementation is only created once it is first used.
+ * All metadata is declared on the lazy command itself, using the usual methods of {@link ContextCommand}.
+ *
+ * <pre>{@code
+ * LazyContextCommand.User info = new LazyContextCommand.User(UserInfoCommand.class, UserInfoCommand::new);
+ * info.setCommandData(Commands.user("Info"));
+ * }</pre>
+ *
+ * @see LazyCommand
+ * @since v1.6
+ */
+public final class LazyContextCommand {
+
+	private LazyContextCommand() {
+	}
+
+	/**
+	 * A lazy {@link ContextCommand.User}.
+	 */
+	public static class User extends ContextCommand.User implements LazyCommand<ContextCommand.User> {
+
+		private final LazyInstance<ContextCommand.User> instance;
+
+		/**
+		 * Creates a new lazy {@link ContextCommand.User}.
+		 *
+		 * @param type    The class of the implementation.
+		 * @param factory Creates the implementation.
+		 */
+		public <T extends ContextCommand.User> User(@NotNull Class<T> type, @NotNull Supplier<T> factory) {
+			this.instance = new LazyInstance<>(type, factory);
+		}
+
+		@Override
+		public @NotNull Class<? extends ContextCommand.User> getCommandClass() {
+			return instance.getType();
+		}
+
+		@Override
+		public @NotNull ContextCommand.User getInstance() {
+			return instance.get();
+		}
+
+		@Override
+		public boolean isInstantiated() {
+			return instance.isCreated();
+		}
+
+		@Override
+		public CompletionStage<Void> executeAsync(UserContextInteractionEvent event) {
+			return getInstance().executeAsync(event);
+		}
+
+		@Override
+		public CompletionStage<Void> handleButtonAsync(ButtonInteractionEvent event, Button button) {
+			return getInstance().handleButtonAsync(event, button);
+		}
+
+		@Override
+		public CompletionStage<Void> handleSelectMenuAsync(SelectMenuInteractionEvent event, List<String> values) {
+			return getInstance().handleSelectMenuAsync(event, values);
+		}
+
+		@Override
+		public CompletionStage<Void> handleModalAsync(ModalInteractionEvent event, List<ModalMapping> values) {
+			return getInstance().handleModalAsync(event, values);
+		}
+	}
+
+	/**
+	 * A lazy {@link ContextCommand.Message}.
+	 */
+	public static class Message extends ContextCommand.Message implements LazyCommand<ContextCommand.Message> {
+
+		private final LazyInstance<ContextCommand.Message> instance;
+
+		/**
+		 * Creates a new lazy {@link ContextCommand.Message}.
+		 *
+		 * @param type    The class of the implementation.
+		 * @param factory Creates the implementation.
+		 */
+		public <T extends ContextCommand.Message> Message(@NotNull Class<T> type, @NotNull Supplier<T> factory) {
+			this.instance = new LazyInstance<>(type, factory);
+		}
+
+		@Override
+		public @NotNull Class<? extends ContextCommand.Message> getCommandClass() {
+			return instance.getType();
+		}
+
+		@Override
+		public @NotNull ContextCommand.Message getInstance() {
+			return instance.get();
+		}
+
+		@Override
+		public boolean isInstantiated() {
+			return instance.isCreated();
+		}
+
+		@Override
+		public CompletionStage<Void> executeAsync(MessageContextInteractionEvent event) {
+			return getInstance().executeAsync(event);
+		}
+
+		@Override
+		public CompletionStage<Void> handleButtonAsync(ButtonInteractionEvent event, Button button) {
+			return getInstance().handleButtonAsync(event, button);
+		}
+
+		@Override
+		public CompletionStage<Void> handleSelectMenuAsync(SelectMenuInteractionEvent event, List<String> values) {
+			return getInstance().handleSelectMenuAsync(event, values);
+		}
+
+		@Override
+		public CompletionStage<Void> handleModalAsync(ModalInteractionEvent event, List<ModalMapping> values) {
+			return getInstance().handleModalAsync(event, values);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.dynxsty.dih4jda.interactions.commands.lazy;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds a lazily created instance, which is created at most once.
+ *
+ * @param <T> The type of the instance.
+ */
+final class LazyInstance<T> {
+
+	private final Class<? extends T> type;
+	private Supplier<? extends T> factory;
+	private volatile T instance;
+
+	LazyInstance(Class<? extends T> type, Supplier<? extends T> factory) {
+		this.type = type;
+		this.factory = factory;
+	}
+
+	Class<? extends T> getType() {
+		return type;
+	}
+
+	T get() {
+		T instance = this.instance;
+		if (instance == null) {
+			synchronized (this) {
+				instance = this.instance;
+				if (instance == null) {
+					instance = factory.get();
+					if (instance == null) throw new IllegalStateException("Factory of " + type.getName() + " returned null!");
+					this.instance = instance;
+					// the factory is no longer needed
+					factory = null;
+				}
+			}
+		}
+		return instance;
+	}
+
+	boolean isCreated() {
+		return instance != null;
+	}
+}
@@ -0,0 +1,89 @@
+package com.dynxsty.dih4jda.interactions.commands.lazy;
+
+import com.dynxsty.dih4jda.interactions.commands.AutoCompletable;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.SelectMenuInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * A {@link SlashCommand.Subcommand} whose implementation is only created once it is first used.
+ * All metadata is declared on this instance, using the usual methods of {@link SlashCommand.Subcommand}; the metadata
+ * the implementation declares itself is ignored.
+ *
+ * <pre>{@code
+ * LazySubcommand get = new LazySubcommand(GetConfigSubcommand.class, GetConfigSubcommand::new);
+ * get.setSubcommandData(new SubcommandData("get", "Gets a value."));
+ * config.addSubcommands(get);
+ * }</pre>
+ *
+ * @see LazyCommand
+ * @since v1.6
+ */
+public class LazySubcommand extends SlashCommand.Subcommand implements LazyCommand<SlashCommand.Subcommand>, AutoCompletable {
+
+	private final LazyInstance<SlashCommand.Subcommand> instance;
+
+	/**
+	 * Creates a new {@link LazySubcommand}.
+	 *
+	 * @param type    The class of the implementation.
+	 * @param factory Creates the implementation.
+	 */
+	public <T extends SlashCommand.Subcommand> LazySubcommand(@NotNull Class<T> type, @NotNull Supplier<T> factory) {
+		this.instance = new LazyInstance<>(type, factory);
+	}
+
+	@Override
+	public @NotNull Class<? extends SlashCommand.Subcommand> getCommandClass() {
+		return instance.getType();
+	}
+
+	@Override
+	public @NotNull SlashCommand.Subcommand getInstance() {
+		return instance.get();
+	}
+
+	@Override
+	public boolean isInstantiated() {
+		return instance.isCreated();
+	}
+
+	@Override
+	public CompletionStage<Void> executeAsync(SlashCommandInteractionEvent event) {
+		return getInstance().executeAsync(event);
+	}
+
+	@Override
+	public CompletionStage<Void> handleButtonAsync(ButtonInteractionEvent event, Button button) {
+		return getInstance().handleButtonAsync(event, button);
+	}
+
+	@Override
+	public CompletionStage<Void> handleSelectMenuAsync(SelectMenuInteractionEvent event, List<String> values) {
+		return getInstance().handleSelectMenuAsync(event, values);
+	}
+
+	@Override
+	public CompletionStage<Void> handleModalAsync(ModalInteractionEvent event, List<ModalMapping> values) {
+		return getInstance().handleModalAsync(event, values);
+	}
+
+	@Override
+	public void handleAutoComplete(CommandAutoCompleteInteractionEvent event, AutoCompleteQuery target) {
+		SlashCommand.Subcommand command = getInstance();
+		if (command instanceof AutoCompletable) {
+			((AutoCompletable) command).handleAutoComplete(event, target);
+		}
+	}
+}
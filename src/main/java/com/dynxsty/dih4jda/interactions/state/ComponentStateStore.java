@@ -0,0 +1,78 @@
+package com.dynxsty.dih4jda.interactions.state;
+
+import com.dynxsty.dih4jda.interactions.ComponentIdBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+
+/**
+ * Stores the state of message components (buttons, select menus and modals) under a short key, so that the state
+ * does not need to be encoded into the component id itself (which is limited to 100 characters).
+ *
+ * <pre>{@code
+ * // when sending the button
+ * String key = dih4jda.getComponentStateStore().put(new BanRequest(target.getIdLong(), reason));
+ * event.reply("Are you sure?").addActionRow(Button.danger(ComponentIdBuilder.build("ban-confirm", key), "Ban")).queue();
+ *
+ * // when handling the button
+ * @Override
+ * public void handleButton(ButtonInteractionEvent event, Button button) {
+ *     BanRequest request = dih4jda.getComponentStateStore().getState(event.getComponentId(), BanRequest.class);
+ *     [...]
+ * }
+ * }</pre>
+ *
+ * @see MemoryComponentStateStore
+ * @see MappedComponentStateStore
+ * @see TieredComponentStateStore
+ * @since v1.6
+ */
+public interface ComponentStateStore extends AutoCloseable {
+
+	/**
+	 * Stores the given state.
+	 *
+	 * @param state The state to store.
+	 * @return The short key the state is stored under.
+	 */
+	@NotNull String put(@NotNull Serializable state);
+
+	/**
+	 * Gets the state that is stored under the given key.
+	 *
+	 * @param key  The key that was returned by {@link ComponentStateStore#put(Serializable)}.
+	 * @param type The type of the state.
+	 * @param <T>  The type of the state.
+	 * @return The state, or null if there is no state of the given type stored under the given key.
+	 */
+	@Nullable <T> T get(@NotNull String key, @NotNull Class<T> type);
+
+	/**
+	 * Removes the state that is stored under the given key.
+	 *
+	 * @param key The key that was returned by {@link ComponentStateStore#put(Serializable)}.
+	 */
+	void remove(@NotNull String key);
+
+	/**
+	 * Gets the state of the given component id, assuming its last element is the state's key.
+	 * This does not split the whole component id.
+	 *
+	 * @param componentId The full component id, built using {@link ComponentIdBuilder#build(String, Object...)}.
+	 * @param type        The type of the state.
+	 * @param <T>         The type of the state.
+	 * @return The state, or null if there is no state of the given type stored for the given component id.
+	 */
+	default @Nullable <T> T getState(@NotNull String componentId, @NotNull Class<T> type) {
+		String separator = ComponentIdBuilder.getSeparator();
+		int index = componentId.lastIndexOf(separator);
+		return get(index < 0 ? componentId : componentId.substring(index + separator.length()), type);
+	}
+
+	/**
+	 * Releases all resources held by this store.
+	 */
+	@Override
+	default void close() {}
+}
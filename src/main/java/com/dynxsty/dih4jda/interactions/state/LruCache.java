@@ -0,0 +1,42 @@
+package com.dynxsty.dih4jda.interactions.state;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A simple, synchronized least-recently-used cache with a fixed capacity.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @since v1.6
+ */
+class LruCache<K, V> {
+
+	private final Map<K, V> map;
+
+	LruCache(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive!");
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	synchronized V get(K key) {
+		return map.get(key);
+	}
+
+	synchronized void put(K key, V value) {
+		map.put(key, value);
+	}
+
+	synchronized void remove(K key) {
+		map.remove(key);
+	}
+
+	synchronized int size() {
+		return map.size();
+	}
+}
@@ -0,0 +1,333 @@
+package com.dynxsty.dih4jda.interactions.state;
+
+import com.dynxsty.dih4jda.DIH4JDALogger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link ComponentStateStore} which keeps all state in a memory-mapped local file, so that it survives restarts.
+ * <br>State is serialized using Java Serialization and appended to the file. Once the file is full, it is compacted;
+ * if that does not free enough space, the oldest state is dropped. Compaction first writes the compacted file to a
+ * separate {@code .compact} file, which is atomically moved into place once it is complete, and only then copied
+ * into the mapped file. If the process crashes while copying, the copy is repeated on the next start, thus, a crash
+ * never leaves a partially compacted file behind.
+ * <br>Only files written by this class should be used, as their content is deserialized. Deserialization is
+ * restricted by an {@link ObjectInputFilter}, which by default only accepts the requested type, classes of its
+ * package (and subpackages) and common JDK value classes, such as strings, boxed primitives, collections and
+ * {@code java.time} types.
+ *
+ * <h2>File Format</h2>
+ * <pre>
+ * header: magic (int), version (int), key counter (long), write position (int), reserved (int)
+ * record: data length (int, -1 for removals), key length (byte), key (ASCII), data
+ * </pre>
+ *
+ * @see TieredComponentStateStore
+ * @since v1.6
+ */
+public class MappedComponentStateStore implements ComponentStateStore {
+
+	private static final int MAGIC = 0x44494853;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 24;
+	private static final int RECORD_HEADER_SIZE = 5;
+	private static final int REMOVED = -1;
+
+	private final Path compacted;
+	private final ObjectInputFilter filter;
+	private final DIH4JDALogger logger;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+	private final Map<String, Integer> index = new HashMap<>();
+	private long counter;
+	private int writePosition;
+
+	/**
+	 * Opens (or creates) the given file, using the default {@link ObjectInputFilter}.
+	 *
+	 * @param file The file all state is stored in.
+	 * @param size The file's size in bytes. If the file already exists and is larger, its size is kept.
+	 * @throws IOException If the file could not be opened or mapped.
+	 */
+	public MappedComponentStateStore(@NotNull Path file, int size) throws IOException {
+		this(file, size, null);
+	}
+
+	/**
+	 * Opens (or creates) the given file.
+	 *
+	 * @param file   The file all state is stored in.
+	 * @param size   The file's size in bytes. If the file already exists and is larger, its size is kept.
+	 * @param filter The {@link ObjectInputFilter} all state is deserialized with, or null to use the default filter.
+	 * @throws IOException If the file could not be opened or mapped.
+	 */
+	public MappedComponentStateStore(@NotNull Path file, int size, @Nullable ObjectInputFilter filter) throws IOException {
+		this(file, size, filter, new DIH4JDALogger(Set.of()));
+	}
+
+	/**
+	 * Opens (or creates) the given file.
+	 *
+	 * @param file   The file all state is stored in.
+	 * @param size   The file's size in bytes. If the file already exists and is larger, its size is kept.
+	 * @param filter The {@link ObjectInputFilter} all state is deserialized with, or null to use the default filter.
+	 * @param logger The {@link DIH4JDALogger} to use.
+	 * @throws IOException If the file could not be opened or mapped.
+	 */
+	public MappedComponentStateStore(@NotNull Path file, int size, @Nullable ObjectInputFilter filter, @NotNull DIH4JDALogger logger) throws IOException {
+		if (size <= HEADER_SIZE) throw new IllegalArgumentException("Size must be larger than " + HEADER_SIZE + " bytes!");
+		this.compacted = file.resolveSibling(file.getFileName() + ".compact");
+		this.filter = filter;
+		this.logger = logger;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.capacity = (int) Math.max(size, Math.min(channel.size(), Integer.MAX_VALUE));
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+		// a compaction that was interrupted by a crash is completed first
+		if (Files.exists(compacted)) {
+			byte[] image = Files.readAllBytes(compacted);
+			if (image.length <= capacity) write(0, image);
+			buffer.force();
+			Files.delete(compacted);
+		}
+		if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+			load();
+		} else {
+			// start at a random key, so that keys don't collide with the ones of a deleted file
+			counter = ThreadLocalRandom.current().nextInt() & 0xffffffffL;
+			writePosition = HEADER_SIZE;
+			writeHeader();
+		}
+	}
+
+	@Override
+	public synchronized @NotNull String put(@NotNull Serializable state) {
+		byte[] data = serialize(state);
+		String key = Long.toString(++counter, Character.MAX_RADIX);
+		index.put(key, append(key, data, data.length));
+		writeHeader();
+		return key;
+	}
+
+	@Override
+	public synchronized @Nullable <T> T get(@NotNull String key, @NotNull Class<T> type) {
+		Integer offset = index.get(key);
+		if (offset == null) return null;
+		byte[] data = new byte[buffer.getInt(offset)];
+		read(offset + RECORD_HEADER_SIZE + buffer.get(offset + 4), data, 0, data.length);
+		Object state = deserialize(data, filter != null ? filter : getDefaultFilter(type));
+		return type.isInstance(state) ? type.cast(state) : null;
+	}
+
+	@Override
+	public synchronized void remove(@NotNull String key) {
+		if (index.remove(key) != null) {
+			append(key, new byte[0], REMOVED);
+			writeHeader();
+		}
+	}
+
+	/**
+	 * Flushes all changes to the disk and closes the file.
+	 */
+	@Override
+	public synchronized void close() {
+		buffer.force();
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.error(DIH4JDALogger.Type.ERROR, "Could not close component state file: %s", e.getMessage());
+		}
+	}
+
+	/**
+	 * @return The amount of states that are currently stored.
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+
+	private void load() {
+		counter = buffer.getLong(8);
+		int end = Math.min(buffer.getInt(16), capacity);
+		int offset = HEADER_SIZE;
+		while (offset + RECORD_HEADER_SIZE <= end) {
+			int length = buffer.getInt(offset);
+			int keyLength = buffer.get(offset + 4);
+			int next = offset + RECORD_HEADER_SIZE + keyLength + Math.max(length, 0);
+			if (length < REMOVED || keyLength <= 0 || next > end) {
+				logger.warn(DIH4JDALogger.Type.WARN, "Component state file is corrupted at offset %s. All following state is dropped.", offset);
+				break;
+			}
+			byte[] key = new byte[keyLength];
+			read(offset + RECORD_HEADER_SIZE, key, 0, keyLength);
+			if (length == REMOVED) {
+				index.remove(new String(key, StandardCharsets.US_ASCII));
+			} else {
+				index.put(new String(key, StandardCharsets.US_ASCII), offset);
+			}
+			offset = next;
+		}
+		writePosition = offset;
+	}
+
+	private void writeHeader() {
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putLong(8, counter);
+		buffer.putInt(16, writePosition);
+	}
+
+	private int append(String key, byte[] data, int length) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.US_ASCII);
+		int size = RECORD_HEADER_SIZE + keyBytes.length + data.length;
+		if (size > capacity - HEADER_SIZE) {
+			throw new IllegalArgumentException(String.format("State of %s bytes exceeds the store's capacity!", data.length));
+		}
+		if (writePosition + size > capacity) {
+			compact(size);
+		}
+		int offset = writePosition;
+		buffer.putInt(offset, length);
+		buffer.put(offset + 4, (byte) keyBytes.length);
+		write(offset + RECORD_HEADER_SIZE, keyBytes);
+		write(offset + RECORD_HEADER_SIZE + keyBytes.length, data);
+		writePosition += size;
+		return offset;
+	}
+
+	/**
+	 * Rewrites all stored states to the start of the file, dropping removed ones. If this doesn't free at least
+	 * a quarter of the file (and the required space), the oldest states are dropped as well.
+	 * <br>The compacted file is written to a separate file first, so that it can be restored after a crash.
+	 *
+	 * @param required The amount of bytes that are required.
+	 */
+	private void compact(int required) {
+		List<Map.Entry<String, Integer>> records = new ArrayList<>(index.entrySet());
+		records.sort(Map.Entry.comparingByValue());
+		int usable = capacity - HEADER_SIZE;
+		int target = Math.max(required, usable / 4);
+		int total = 0;
+		for (Map.Entry<String, Integer> record : records) {
+			total += recordSize(record.getValue());
+		}
+		int dropped = 0;
+		while (dropped < records.size() && total + target > usable) {
+			total -= recordSize(records.get(dropped).getValue());
+			index.remove(records.get(dropped).getKey());
+			dropped++;
+		}
+		if (dropped > 0) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Component state file is full. Dropped %s of the oldest state(s).", dropped);
+		}
+		ByteBuffer image = ByteBuffer.allocate(HEADER_SIZE + total);
+		image.putInt(0, MAGIC);
+		image.putInt(4, VERSION);
+		image.putLong(8, counter);
+		image.putInt(16, HEADER_SIZE + total);
+		Map<String, Integer> offsets = new HashMap<>();
+		int position = HEADER_SIZE;
+		for (Map.Entry<String, Integer> record : records.subList(dropped, records.size())) {
+			int size = recordSize(record.getValue());
+			read(record.getValue(), image.array(), position, size);
+			offsets.put(record.getKey(), position);
+			position += size;
+		}
+		try {
+			Path temp = compacted.resolveSibling(compacted.getFileName() + ".tmp");
+			try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				while (image.hasRemaining()) out.write(image);
+				out.force(true);
+			}
+			// once the complete file was moved, the compaction can always be finished
+			Files.move(temp, compacted, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			write(0, image.array());
+			buffer.force();
+			Files.delete(compacted);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not compact component state file", e);
+		}
+		index.putAll(offsets);
+		writePosition = HEADER_SIZE + total;
+	}
+
+	private void read(int offset, byte[] target, int targetOffset, int length) {
+		buffer.position(offset);
+		buffer.get(target, targetOffset, length);
+	}
+
+	private void write(int offset, byte[] data) {
+		buffer.position(offset);
+		buffer.put(data);
+	}
+
+	private int recordSize(int offset) {
+		return RECORD_HEADER_SIZE + buffer.get(offset + 4) + Math.max(buffer.getInt(offset), 0);
+	}
+
+	private static byte[] serialize(Serializable state) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(state);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not serialize component state", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Creates the default {@link ObjectInputFilter}, which only accepts the given type, classes of its package (and
+	 * subpackages), primitives and common JDK value classes.
+	 *
+	 * @param type The requested type.
+	 * @return The {@link ObjectInputFilter}.
+	 */
+	private ObjectInputFilter getDefaultFilter(Class<?> type) {
+		String typePackage = type.getPackageName();
+		return info -> {
+			if (info.depth() > 32 || info.references() > 10_000 || info.streamBytes() > capacity) {
+				return ObjectInputFilter.Status.REJECTED;
+			}
+			Class<?> serialClass = info.serialClass();
+			if (serialClass == null) return ObjectInputFilter.Status.UNDECIDED;
+			while (serialClass.isArray()) serialClass = serialClass.getComponentType();
+			String name = serialClass.getName();
+			String classPackage = serialClass.getPackageName();
+			if (serialClass.isPrimitive() || serialClass == type || classPackage.equals(typePackage) || classPackage.startsWith(typePackage + ".")) {
+				return ObjectInputFilter.Status.ALLOWED;
+			}
+			boolean value = name.startsWith("java.lang.") && !name.startsWith("java.lang.invoke.") && !name.startsWith("java.lang.reflect.")
+					|| name.startsWith("java.util.") && !name.startsWith("java.util.concurrent.")
+					|| name.startsWith("java.time.")
+					|| name.startsWith("java.math.");
+			return value ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+		};
+	}
+
+	private @Nullable Object deserialize(byte[] data, ObjectInputFilter filter) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+			in.setObjectInputFilter(filter);
+			return in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Could not deserialize component state: %s", e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.dynxsty.dih4jda.interactions.state;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ComponentStateStore} which keeps all state on the heap. If the store is full, the least recently used
+ * state is dropped. All state is lost on restart.
+ *
+ * @see TieredComponentStateStore
+ * @since v1.6
+ */
+public class MemoryComponentStateStore implements ComponentStateStore {
+
+	private static final int SALT_MIN = Character.MAX_RADIX * Character.MAX_RADIX * Character.MAX_RADIX;
+
+	private final LruCache<String, Serializable> cache;
+	// prevents keys from colliding with the ones of previous runs, whose components may still exist (always 4 characters)
+	private final String salt = Integer.toString(ThreadLocalRandom.current().nextInt(SALT_MIN, SALT_MIN * Character.MAX_RADIX), Character.MAX_RADIX);
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Creates a new {@link MemoryComponentStateStore}.
+	 *
+	 * @param capacity The maximum amount of states that are kept.
+	 */
+	public MemoryComponentStateStore(int capacity) {
+		this.cache = new LruCache<>(capacity);
+	}
+
+	@Override
+	public @NotNull String put(@NotNull Serializable state) {
+		String key = salt + Long.toString(counter.incrementAndGet(), Character.MAX_RADIX);
+		cache.put(key, state);
+		return key;
+	}
+
+	@Override
+	public @Nullable <T> T get(@NotNull String key, @NotNull Class<T> type) {
+		Serializable state = cache.get(key);
+		return type.isInstance(state) ? type.cast(state) : null;
+	}
+
+	@Override
+	public void remove(@NotNull String key) {
+		cache.remove(key);
+	}
+}
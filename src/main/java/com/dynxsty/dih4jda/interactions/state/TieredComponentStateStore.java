@@ -0,0 +1,68 @@
+package com.dynxsty.dih4jda.interactions.state;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+
+/**
+ * A {@link ComponentStateStore} which keeps recently used state on the heap, backed by a
+ * {@link MappedComponentStateStore} that survives restarts.
+ * <br>All state is written to both tiers. Lookups that miss the heap tier are served from the file and promoted
+ * to the heap tier again. As the heap tier keeps references to the stored objects, state should be immutable.
+ *
+ * <pre>{@code
+ * DIH4JDA dih4jda = DIH4JDABuilder
+ *         .setJDA(jda)
+ *         .setCommandsPackage("com.dynxsty.superawesomebot.commands")
+ *         .setComponentStateStore(new TieredComponentStateStore(10_000,
+ *                 new MappedComponentStateStore(Path.of("component-state.bin"), 64 * 1024 * 1024)))
+ *         .build();
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class TieredComponentStateStore implements ComponentStateStore {
+
+	private final LruCache<String, Serializable> memory;
+	private final MappedComponentStateStore disk;
+
+	/**
+	 * Creates a new {@link TieredComponentStateStore}.
+	 *
+	 * @param memoryCapacity The maximum amount of states that are kept on the heap.
+	 * @param disk           The {@link MappedComponentStateStore} that backs the heap tier.
+	 */
+	public TieredComponentStateStore(int memoryCapacity, @NotNull MappedComponentStateStore disk) {
+		this.memory = new LruCache<>(memoryCapacity);
+		this.disk = disk;
+	}
+
+	@Override
+	public @NotNull String put(@NotNull Serializable state) {
+		String key = disk.put(state);
+		memory.put(key, state);
+		return key;
+	}
+
+	@Override
+	public @Nullable <T> T get(@NotNull String key, @NotNull Class<T> type) {
+		Serializable cached = memory.get(key);
+		if (cached != null) return type.isInstance(cached) ? type.cast(cached) : null;
+		// the requested type is passed on, as the file's deserialization filter is derived from it
+		T state = disk.get(key, type);
+		if (state instanceof Serializable) memory.put(key, (Serializable) state);
+		return state;
+	}
+
+	@Override
+	public void remove(@NotNull String key) {
+		memory.remove(key);
+		disk.remove(key);
+	}
+
+	@Override
+	public void close() {
+		disk.close();
+	}
+}
@@ -0,0 +1,225 @@
+package com.dynxsty.dih4jda.interactions.toggle;
+
+import net.dv8tion.jda.api.interactions.commands.Command;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Enables and disables commands per guild at runtime, without re-registering them. All commands are enabled by
+ * default.
+ * <br>Commands are identified by a key that consists of their type and name (see {@link CommandToggles#getKey}),
+ * thus, a slash command, a context command and a text command that share the same name are toggled separately.
+ * Components are toggled along with the command that declares them.
+ * <br>Each key is assigned an ordinal once; the disabled commands of each guild are stored as a compact
+ * bitset indexed by these ordinals. Bitsets are copied on write, so that checking whether a command is enabled never
+ * locks and costs a constant amount of work, no matter how many commands or guilds there are.
+ *
+ * <pre>{@code
+ * // e.g. in a "/config toggle" command
+ * dih4jda.getCommandToggles().setEnabled(event.getGuild().getIdLong(), Command.Type.SLASH, "giveaway", false);
+ * }</pre>
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#enableCommandToggleSync(java.time.Duration)
+ * @since v1.6
+ */
+public class CommandToggles {
+	/**
+	 * The maximum amount of distinct command names, which bounds the memory used by ordinals and bitsets.
+	 */
+	public static final int MAX_COMMANDS = 4096;
+
+	/**
+	 * The type that is part of the keys of text commands, which don't have a {@link Command.Type}.
+	 */
+	public static final String TEXT_COMMAND = "TEXT";
+
+	private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+	private final List<String> names = new ArrayList<>();
+	private final Map<Long, long[]> disabled = new ConcurrentHashMap<>();
+	private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
+
+	/**
+	 * @param type The command's {@link Command.Type}.
+	 * @param name The command's (top-level) name.
+	 * @return The key of the given slash or context command, e.g. {@code "SLASH:giveaway"}.
+	 */
+	public static @NotNull String getKey(@NotNull Command.Type type, @NotNull String name) {
+		return type.name() + ":" + name;
+	}
+
+	/**
+	 * @param name The text command's name.
+	 * @return The key of the given text command, e.g. {@code "TEXT:giveaway"}.
+	 */
+	public static @NotNull String getTextCommandKey(@NotNull String name) {
+		return TEXT_COMMAND + ":" + name;
+	}
+
+	/**
+	 * @param name The command's key.
+	 * @return The ordinal of the given command key, which is assigned on first use and never changes afterwards.
+	 * @throws IllegalStateException If {@link CommandToggles#MAX_COMMANDS} names were already assigned an ordinal.
+	 */
+	public int getOrdinal(@NotNull String name) {
+		Integer ordinal = ordinals.get(name);
+		if (ordinal != null) return ordinal;
+		synchronized (names) {
+			if (!ordinals.containsKey(name) && names.size() >= MAX_COMMANDS) {
+				throw new IllegalStateException("Can't toggle more than " + MAX_COMMANDS + " distinct commands!");
+			}
+			return ordinals.computeIfAbsent(name, n -> {
+				names.add(n);
+				return names.size() - 1;
+			});
+		}
+	}
+
+	/**
+	 * @param guildId The guild's id.
+	 * @param type    The command's {@link Command.Type}.
+	 * @param name    The command's (top-level) name.
+	 * @return Whether the given slash or context command is enabled in the given guild.
+	 */
+	public boolean isEnabled(long guildId, @NotNull Command.Type type, @NotNull String name) {
+		return isEnabled(guildId, getKey(type, name));
+	}
+
+	/**
+	 * @param guildId The guild's id.
+	 * @param name    The command's key.
+	 * @return Whether the given command is enabled in the given guild.
+	 * @see CommandToggles#getKey(Command.Type, String)
+	 * @see CommandToggles#getTextCommandKey(String)
+	 */
+	public boolean isEnabled(long guildId, @NotNull String name) {
+		long[] bits = disabled.get(guildId);
+		if (bits == null) return true;
+		Integer ordinal = ordinals.get(name);
+		return ordinal == null || !isSet(bits, ordinal);
+	}
+
+	/**
+	 * @param guildId The guild's id.
+	 * @param ordinal The command's ordinal.
+	 * @return Whether the command with the given ordinal is enabled in the given guild.
+	 * @see CommandToggles#getOrdinal(String)
+	 */
+	public boolean isEnabled(long guildId, int ordinal) {
+		long[] bits = disabled.get(guildId);
+		return bits == null || !isSet(bits, ordinal);
+	}
+
+	/**
+	 * Enables or disables the given slash or context command in the given guild.
+	 *
+	 * @param guildId The guild's id.
+	 * @param type    The command's {@link Command.Type}.
+	 * @param name    The command's (top-level) name.
+	 * @param enabled Whether the command should be enabled.
+	 * @return Whether this changed anything.
+	 * @throws IllegalStateException If the command would be the {@link CommandToggles#MAX_COMMANDS} + 1st distinct
+	 *                               command that is disabled.
+	 */
+	public boolean setEnabled(long guildId, @NotNull Command.Type type, @NotNull String name, boolean enabled) {
+		return setEnabled(guildId, getKey(type, name), enabled);
+	}
+
+	/**
+	 * Enables or disables the given command in the given guild.
+	 *
+	 * @param guildId The guild's id.
+	 * @param name    The command's key.
+	 * @param enabled Whether the command should be enabled.
+	 * @return Whether this changed anything.
+	 * @throws IllegalStateException If the command would be the {@link CommandToggles#MAX_COMMANDS} + 1st distinct
+	 *                               command that is disabled.
+	 */
+	public boolean setEnabled(long guildId, @NotNull String name, boolean enabled) {
+		// commands that were never disabled are enabled everywhere, so they don't need an ordinal
+		if (enabled && !ordinals.containsKey(name)) return false;
+		int ordinal = getOrdinal(name);
+		boolean[] changed = new boolean[1];
+		disabled.compute(guildId, (id, bits) -> {
+			boolean set = bits != null && isSet(bits, ordinal);
+			if (set != enabled) return bits;
+			changed[0] = true;
+			long[] copy = bits == null ? new long[(ordinal >>> 6) + 1] : Arrays.copyOf(bits, Math.max(bits.length, (ordinal >>> 6) + 1));
+			if (enabled) {
+				copy[ordinal >>> 6] &= ~(1L << ordinal);
+			} else {
+				copy[ordinal >>> 6] |= 1L << ordinal;
+			}
+			for (long word : copy) {
+				if (word != 0) return copy;
+			}
+			// guilds without disabled commands don't need a bitset at all
+			return null;
+		});
+		if (changed[0]) {
+			for (Listener listener : listeners) {
+				listener.onToggle(guildId, name, enabled);
+			}
+		}
+		return changed[0];
+	}
+
+	/**
+	 * @param guildId The guild's id.
+	 * @return The keys of all commands that are disabled in the given guild, e.g. in order to persist them.
+	 */
+	public @NotNull Set<String> getDisabled(long guildId) {
+		long[] bits = disabled.get(guildId);
+		Set<String> result = new HashSet<>();
+		if (bits == null) return result;
+		synchronized (names) {
+			for (int i = 0; i < names.size(); i++) {
+				if (isSet(bits, i)) result.add(names.get(i));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a {@link Listener}, which is notified whenever a command is enabled or disabled.
+	 *
+	 * @param listener The {@link Listener}.
+	 */
+	public void addListener(@NotNull Listener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a {@link Listener}.
+	 *
+	 * @param listener The {@link Listener}.
+	 */
+	public void removeListener(@NotNull Listener listener) {
+		listeners.remove(listener);
+	}
+
+	private static boolean isSet(long[] bits, int ordinal) {
+		int word = ordinal >>> 6;
+		return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * Gets notified whenever a command is enabled or disabled.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+		/**
+		 * @param guildId The guild's id.
+		 * @param name    The command's key.
+		 * @param enabled Whether the command was enabled or disabled.
+		 */
+		void onToggle(long guildId, @NotNull String name, boolean enabled);
+	}
+}
@@ -0,0 +1,62 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link RateLimitBackend} which keeps all counters in memory. This is the default backend, which only limits
+ * the current process.
+ *
+ * @since v1.6
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+	private static final int SWEEP_THRESHOLD = 10_000;
+
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+	@Override
+	public @NotNull CompletionStage<Map<String, Long>> increment(@NotNull Map<String, Long> deltas, @NotNull Duration ttl) {
+		return CompletableFuture.completedFuture(incrementNow(deltas, ttl));
+	}
+
+	/**
+	 * Synchronous variant of {@link LocalRateLimitBackend#increment(Map, Duration)}.
+	 *
+	 * @param deltas The amount each counter should be incremented by, mapped by the counter's key.
+	 * @param ttl    The time-to-live of newly created counters.
+	 * @return The new value of each counter, mapped by the counter's key.
+	 */
+	public @NotNull Map<String, Long> incrementNow(@NotNull Map<String, Long> deltas, @NotNull Duration ttl) {
+		long now = System.currentTimeMillis();
+		long expiresAt = now + ttl.toMillis();
+		Map<String, Long> totals = new HashMap<>(deltas.size());
+		deltas.forEach((key, delta) -> {
+			Counter counter = counters.compute(key, (k, c) -> c == null || c.expiresAt <= now ? new Counter(expiresAt) : c);
+			totals.put(key, counter.add(delta));
+		});
+		if (counters.size() > SWEEP_THRESHOLD) {
+			counters.values().removeIf(c -> c.expiresAt <= now);
+		}
+		return totals;
+	}
+
+	private static final class Counter {
+		private final long expiresAt;
+		private long value;
+
+		private Counter(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		private synchronized long add(long delta) {
+			return value += delta;
+		}
+	}
+}
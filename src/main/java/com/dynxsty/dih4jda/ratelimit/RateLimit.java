@@ -0,0 +1,112 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.interactions.Interaction;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * A rate limit, which allows a command to be used a certain amount of times per fixed time window.
+ *
+ * @see com.dynxsty.dih4jda.interactions.commands.CommandRequirements#requireRateLimit(int, Duration, Scope)
+ * @since v1.6
+ */
+public final class RateLimit {
+
+	private final int limit;
+	private final Duration window;
+	private final Scope scope;
+
+	/**
+	 * Creates a new {@link RateLimit}.
+	 *
+	 * @param limit  How often the command may be used per window.
+	 * @param window The window's duration.
+	 * @param scope  The {@link Scope} the limit applies to.
+	 */
+	public RateLimit(int limit, @NotNull Duration window, @NotNull Scope scope) {
+		if (limit <= 0) throw new IllegalArgumentException("Limit must be positive!");
+		if (window.toMillis() <= 0) throw new IllegalArgumentException("Window must be at least one millisecond!");
+		this.limit = limit;
+		this.window = window;
+		this.scope = scope;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public Duration getWindow() {
+		return window;
+	}
+
+	public Scope getScope() {
+		return scope;
+	}
+
+	/**
+	 * @return How long it takes until the current window ends.
+	 */
+	public Duration getRetryAfter() {
+		long millis = window.toMillis();
+		return Duration.ofMillis(millis - System.currentTimeMillis() % millis);
+	}
+
+	/**
+	 * The scope a {@link RateLimit} applies to.
+	 */
+	public enum Scope {
+		/**
+		 * Each user has their own limit.
+		 */
+		USER,
+		/**
+		 * Each guild has its own limit. In direct messages, this falls back to {@link Scope#USER}.
+		 */
+		GUILD,
+		/**
+		 * Each channel has its own limit.
+		 */
+		CHANNEL,
+		/**
+		 * All users share a single limit.
+		 */
+		GLOBAL;
+
+		/**
+		 * @param interaction The {@link Interaction}.
+		 * @return The key of the given interaction within this scope.
+		 */
+		public String getKey(@NotNull Interaction interaction) {
+			switch (this) {
+				case USER:
+					return "u" + interaction.getUser().getId();
+				case GUILD:
+					return interaction.getGuild() != null ? "g" + interaction.getGuild().getId() : "u" + interaction.getUser().getId();
+				case CHANNEL:
+					return interaction.getChannel() != null ? "c" + interaction.getChannel().getId() : "u" + interaction.getUser().getId();
+				default:
+					return "*";
+			}
+		}
+
+		/**
+		 * @param message The {@link Message} that invoked a {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}.
+		 * @return The key of the given message within this scope.
+		 * @since v1.6
+		 */
+		public String getKey(@NotNull Message message) {
+			switch (this) {
+				case USER:
+					return "u" + message.getAuthor().getId();
+				case GUILD:
+					return message.isFromGuild() ? "g" + message.getGuild().getId() : "u" + message.getAuthor().getId();
+				case CHANNEL:
+					return "c" + message.getChannel().getId();
+				default:
+					return "*";
+			}
+		}
+	}
+}
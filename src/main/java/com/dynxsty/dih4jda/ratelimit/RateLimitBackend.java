@@ -0,0 +1,35 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A store of counters which is shared by all nodes of a bot, so that rate limits can't be bypassed by using another
+ * shard. All operations are batched and asynchronous, as backends are usually remote.
+ *
+ * @see LocalRateLimitBackend
+ * @see SocketRateLimitBackend
+ * @since v1.6
+ */
+public interface RateLimitBackend extends AutoCloseable {
+
+	/**
+	 * Increments all given counters. Counters that do not yet exist are created and removed once the given
+	 * time-to-live has passed.
+	 *
+	 * @param deltas The amount each counter should be incremented by, mapped by the counter's key.
+	 * @param ttl    The time-to-live of newly created counters.
+	 * @return A {@link CompletionStage} containing the new value of each counter, mapped by the counter's key.
+	 */
+	@NotNull CompletionStage<Map<String, Long>> increment(@NotNull Map<String, Long> deltas, @NotNull Duration ttl);
+
+	/**
+	 * Releases all resources of this backend.
+	 */
+	@Override
+	default void close() {
+	}
+}
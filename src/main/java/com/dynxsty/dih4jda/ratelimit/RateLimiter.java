@@ -0,0 +1,193 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import com.dynxsty.dih4jda.DIH4JDALogger;
+import com.dynxsty.dih4jda.util.TimingWheel;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Enforces {@link RateLimit}s using fixed windows, whose counters are kept by a {@link RateLimitBackend}.
+ * <br>Optionally, keys that are clearly below their limit take a local fast path: their usage is counted locally and
+ * sent to the backend in periodic batches, thus, no remote call is made at all. Once a key approaches its limit, each
+ * usage is sent to the backend right away. As the backend doesn't see locally counted usages until they are flushed,
+ * each node may allow up to {@code limit * fastPathRatio} usages on its own, thus, the fast path should only be used
+ * if exceeding the limit by that amount per node is acceptable (or if the ratio is divided by the amount of nodes).
+ * <br>If the backend fails, usages are allowed (fail-open), as a broken backend should not make the bot unusable.
+ *
+ * @since v1.6
+ */
+public class RateLimiter implements AutoCloseable {
+
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final RateLimitBackend backend;
+	private final TimingWheel wheel;
+	private final long flushIntervalNanos;
+	private final double fastPathRatio;
+	private final DIH4JDALogger logger;
+
+	/**
+	 * Creates a new {@link RateLimiter}, which logs all of its messages.
+	 *
+	 * @param backend       The {@link RateLimitBackend} that keeps all counters.
+	 * @param wheel         The {@link TimingWheel} that is used to schedule flushes.
+	 * @param flushInterval The interval in which locally counted usages are sent to the backend.
+	 * @param fastPathRatio The share of the limit, between 0 and 1, up to which usages are counted locally.
+	 *                      0 sends every usage to the backend right away.
+	 */
+	public RateLimiter(@NotNull RateLimitBackend backend, @NotNull TimingWheel wheel, @NotNull Duration flushInterval, double fastPathRatio) {
+		this(backend, wheel, flushInterval, fastPathRatio, new DIH4JDALogger(Set.of()));
+	}
+
+	/**
+	 * Creates a new {@link RateLimiter}.
+	 *
+	 * @param backend       The {@link RateLimitBackend} that keeps all counters.
+	 * @param wheel         The {@link TimingWheel} that is used to schedule flushes.
+	 * @param flushInterval The interval in which locally counted usages are sent to the backend.
+	 * @param fastPathRatio The share of the limit, between 0 and 1, up to which usages are counted locally.
+	 *                      0 sends every usage to the backend right away.
+	 * @param logger        The {@link DIH4JDALogger} to use.
+	 */
+	public RateLimiter(@NotNull RateLimitBackend backend, @NotNull TimingWheel wheel, @NotNull Duration flushInterval, double fastPathRatio, @NotNull DIH4JDALogger logger) {
+		if (fastPathRatio < 0 || fastPathRatio > 1) throw new IllegalArgumentException("Fast path ratio must be between 0 and 1!");
+		this.logger = logger;
+		this.backend = backend;
+		this.wheel = wheel;
+		this.flushIntervalNanos = flushInterval.toNanos();
+		this.fastPathRatio = fastPathRatio;
+	}
+
+	/**
+	 * Counts a single usage of the given key.
+	 *
+	 * @param key   The key, which should contain the command and the {@link RateLimit.Scope}'s key.
+	 * @param limit The {@link RateLimit} of the key.
+	 * @return A {@link CompletionStage} which contains whether the usage is allowed.
+	 */
+	public @NotNull CompletionStage<Boolean> tryAcquire(@NotNull String key, @NotNull RateLimit limit) {
+		long windowMillis = limit.getWindow().toMillis();
+		long window = System.currentTimeMillis() / windowMillis;
+		String windowKey = key + "@" + window;
+		Counter counter = counters.computeIfAbsent(windowKey, k -> new Counter((window + 1) * windowMillis));
+		// flushes also remove the counters of past windows
+		scheduleFlush();
+		long delta;
+		synchronized (counter) {
+			long estimate = counter.known + counter.inflight + counter.pending + 1;
+			if (estimate > limit.getLimit()) {
+				return CompletableFuture.completedFuture(false);
+			}
+			if (estimate <= limit.getLimit() * fastPathRatio) {
+				counter.pending++;
+				return CompletableFuture.completedFuture(true);
+			}
+			// send all locally counted usages along with this one
+			delta = counter.pending + 1;
+			counter.pending = 0;
+			counter.inflight += delta;
+		}
+		return backend.increment(Map.of(windowKey, delta), remaining(counter)).handle((totals, error) -> {
+			synchronized (counter) {
+				counter.inflight -= delta;
+				if (error == null) {
+					long total = totals.getOrDefault(windowKey, 0L);
+					counter.known = Math.max(counter.known, total);
+					return total <= limit.getLimit();
+				}
+				// the usage is allowed, thus, it is counted just like all others
+				counter.pending += delta;
+			}
+			logger.warn(DIH4JDALogger.Type.WARN, "Could not reach rate limit backend, allowing usage: %s", error);
+			return true;
+		});
+	}
+
+	/**
+	 * Sends all locally counted usages to the backend.
+	 */
+	public void flush() {
+		long now = System.currentTimeMillis();
+		Map<String, Long> batch = new HashMap<>();
+		Map<String, Counter> taken = new HashMap<>();
+		long ttl = 0;
+		for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+			Counter counter = entry.getValue();
+			synchronized (counter) {
+				if (counter.expiresAt <= now) {
+					// the window has ended, so its usages don't matter anymore
+					if (counter.inflight == 0) counters.remove(entry.getKey(), counter);
+					continue;
+				}
+				if (counter.pending == 0) continue;
+				batch.put(entry.getKey(), counter.pending);
+				counter.inflight += counter.pending;
+				counter.pending = 0;
+			}
+			taken.put(entry.getKey(), counter);
+			ttl = Math.max(ttl, counter.expiresAt - now);
+		}
+		if (batch.isEmpty()) return;
+		backend.increment(batch, Duration.ofMillis(ttl)).whenComplete((totals, error) -> {
+			taken.forEach((key, counter) -> {
+				long delta = batch.get(key);
+				synchronized (counter) {
+					counter.inflight -= delta;
+					if (error == null) {
+						counter.known = Math.max(counter.known, totals.getOrDefault(key, 0L));
+					} else {
+						counter.pending += delta;
+					}
+				}
+			});
+			if (error != null) {
+				logger.warn(DIH4JDALogger.Type.WARN, "Could not flush rate limit counters: %s", error);
+				scheduleFlush();
+			}
+		});
+	}
+
+	/**
+	 * Sends all remaining usages to the backend.
+	 */
+	@Override
+	public void close() {
+		flush();
+	}
+
+	private void scheduleFlush() {
+		if (flushScheduled.compareAndSet(false, true)) {
+			wheel.schedule(() -> {
+				flushScheduled.set(false);
+				flush();
+			}, flushIntervalNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static Duration remaining(Counter counter) {
+		return Duration.ofMillis(Math.max(1, counter.expiresAt - System.currentTimeMillis()));
+	}
+
+	private static final class Counter {
+		private final long expiresAt;
+		// the latest total reported by the backend
+		private long known;
+		// usages that were counted locally, but not yet sent
+		private long pending;
+		// usages that were sent, but not yet confirmed
+		private long inflight;
+
+		private Counter(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+	}
+}
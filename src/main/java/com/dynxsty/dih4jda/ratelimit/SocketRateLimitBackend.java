@@ -0,0 +1,120 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RateLimitBackend} which connects to a {@link SocketRateLimitServer}.
+ * <br>All requests are sent over a single connection by a dedicated thread, which reconnects once a request failed.
+ * Connecting, reading the response and the request as a whole are bounded by the timeout, so that a stalled server
+ * fails the request (and thus, allows the usage) instead of blocking all further requests.
+ *
+ * @since v1.6
+ */
+public class SocketRateLimitBackend implements RateLimitBackend {
+
+	private final String host;
+	private final int port;
+	private final Duration timeout;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "DIH4JDA-RateLimitClient");
+		thread.setDaemon(true);
+		return thread;
+	});
+	// only accessed by the executor's thread
+	private Socket socket;
+	private DataInputStream in;
+	private DataOutputStream out;
+
+	/**
+	 * Creates a new {@link SocketRateLimitBackend} with a timeout of two seconds. The connection is established lazily.
+	 *
+	 * @param host The server's host.
+	 * @param port The server's port.
+	 */
+	public SocketRateLimitBackend(@NotNull String host, int port) {
+		this(host, port, Duration.ofSeconds(2));
+	}
+
+	/**
+	 * Creates a new {@link SocketRateLimitBackend}. The connection is established lazily.
+	 *
+	 * @param host    The server's host.
+	 * @param port    The server's port.
+	 * @param timeout The maximum duration of a single request, including waiting for the connection.
+	 */
+	public SocketRateLimitBackend(@NotNull String host, int port, @NotNull Duration timeout) {
+		if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("Timeout must be positive!");
+		this.host = host;
+		this.port = port;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public @NotNull CompletionStage<Map<String, Long>> increment(@NotNull Map<String, Long> deltas, @NotNull Duration ttl) {
+		CompletableFuture<Map<String, Long>> result = new CompletableFuture<>();
+		executor.execute(() -> {
+			// requests that timed out while waiting for the previous ones are not sent anymore
+			if (result.isDone()) return;
+			try {
+				result.complete(send(deltas, ttl));
+			} catch (IOException e) {
+				disconnect();
+				result.completeExceptionally(e);
+			}
+		});
+		return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() {
+		executor.execute(this::disconnect);
+		executor.shutdown();
+	}
+
+	private Map<String, Long> send(Map<String, Long> deltas, Duration ttl) throws IOException {
+		if (socket == null) {
+			socket = new Socket();
+			socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
+			socket.setSoTimeout((int) timeout.toMillis());
+			socket.setTcpNoDelay(true);
+			in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		}
+		out.writeLong(ttl.toMillis());
+		out.writeInt(deltas.size());
+		for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+			out.writeUTF(delta.getKey());
+			out.writeLong(delta.getValue());
+		}
+		out.flush();
+		int count = in.readInt();
+		Map<String, Long> totals = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			totals.put(in.readUTF(), in.readLong());
+		}
+		return totals;
+	}
+
+	private void disconnect() {
+		if (socket == null) return;
+		try {
+			socket.close();
+		} catch (IOException ignored) {
+		}
+		socket = null;
+		in = null;
+		out = null;
+	}
+}
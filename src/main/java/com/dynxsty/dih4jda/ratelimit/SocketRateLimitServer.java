@@ -0,0 +1,126 @@
+package com.dynxsty.dih4jda.ratelimit;
+
+import com.dynxsty.dih4jda.DIH4JDALogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A minimal counter server, which serves a {@link LocalRateLimitBackend} to {@link SocketRateLimitBackend}s on the
+ * loopback interface. This is meant as a stand-in for tests and single-host setups; larger deployments should
+ * implement {@link RateLimitBackend} on top of their shared store instead.
+ *
+ * <h2>Protocol</h2>
+ * <pre>
+ * request:  ttl in milliseconds (long), count (int), count * (key (UTF), delta (long))
+ * response: count (int), count * (key (UTF), total (long))
+ * </pre>
+ *
+ * @since v1.6
+ */
+public class SocketRateLimitServer implements AutoCloseable {
+
+	private final LocalRateLimitBackend backend = new LocalRateLimitBackend();
+	private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+	private final ServerSocket server;
+	private final DIH4JDALogger logger;
+	private volatile boolean closed;
+
+	/**
+	 * Starts a new server on the loopback interface.
+	 *
+	 * @param port The port, or 0 to use any free port.
+	 * @throws IOException If the server could not be started.
+	 */
+	public SocketRateLimitServer(int port) throws IOException {
+		this(port, new DIH4JDALogger(Set.of()));
+	}
+
+	/**
+	 * Starts a new server on the loopback interface.
+	 *
+	 * @param port   The port, or 0 to use any free port.
+	 * @param logger The {@link DIH4JDALogger} to use.
+	 * @throws IOException If the server could not be started.
+	 */
+	public SocketRateLimitServer(int port, @NotNull DIH4JDALogger logger) throws IOException {
+		this.logger = logger;
+		this.server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(this::accept, "DIH4JDA-RateLimitServer");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	/**
+	 * @return The port the server listens on.
+	 */
+	public int getPort() {
+		return server.getLocalPort();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		try {
+			server.close();
+		} catch (IOException ignored) {
+		}
+		for (Socket connection : connections) {
+			try {
+				connection.close();
+			} catch (IOException ignored) {
+			}
+		}
+	}
+
+	private void accept() {
+		while (!closed) {
+			try {
+				Socket connection = server.accept();
+				connections.add(connection);
+				Thread handler = new Thread(() -> serve(connection), "DIH4JDA-RateLimitServer-" + connection.getPort());
+				handler.setDaemon(true);
+				handler.start();
+			} catch (IOException e) {
+				if (!closed) logger.warn(DIH4JDALogger.Type.WARN, "Could not accept rate limit connection: %s", e.getMessage());
+			}
+		}
+	}
+
+	private void serve(Socket connection) {
+		try (connection;
+			 DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+			 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+			while (!closed) {
+				long ttl = in.readLong();
+				int count = in.readInt();
+				Map<String, Long> deltas = new HashMap<>(count);
+				for (int i = 0; i < count; i++) {
+					deltas.put(in.readUTF(), in.readLong());
+				}
+				Map<String, Long> totals = backend.incrementNow(deltas, Duration.ofMillis(ttl));
+				out.writeInt(totals.size());
+				for (Map.Entry<String, Long> total : totals.entrySet()) {
+					out.writeUTF(total.getKey());
+					out.writeLong(total.getValue());
+				}
+				out.flush();
+			}
+		} catch (EOFException | SocketException ignored) {
+			// the client disconnected
+		} catch (IOException e) {
+			logger.warn(DIH4JDALogger.Type.WARN, "Rate limit connection failed: %s", e.getMessage());
+		} finally {
+			connections.remove(connection);
+		}
+	}
+}
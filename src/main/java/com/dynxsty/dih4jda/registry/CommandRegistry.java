@@ -0,0 +1,64 @@
+package com.dynxsty.dih4jda.registry;
+
+import com.dynxsty.dih4jda.interactions.commands.ComponentHandler;
+import com.dynxsty.dih4jda.interactions.commands.ContextCommand;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.commands.TextCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Provides all commands and component handlers of a bot, replacing the classpath scan of the commands package.
+ * As all instances are created by the registry itself, neither scanning nor reflective construction is needed,
+ * which allows bots to be built as GraalVM native images.
+ * <br>Registries are usually generated at compile time by the {@link CommandRegistryProcessor}, but may also be
+ * written by hand:
+ *
+ * <pre>{@code
+ * DIH4JDA dih4jda = DIH4JDABuilder
+ *         .setJDA(jda)
+ *         .useGeneratedCommandRegistry()
+ *         .build();
+ * }</pre>
+ *
+ * @see com.dynxsty.dih4jda.DIH4JDABuilder#setCommandRegistry(CommandRegistry)
+ * @since v1.6
+ */
+public interface CommandRegistry {
+
+	/**
+	 * Loads the first {@link CommandRegistry} that is registered as a service, which is the one generated by the
+	 * {@link CommandRegistryProcessor} if it ran.
+	 *
+	 * @param loader The {@link ClassLoader} that is used to look up the service.
+	 * @return The {@link CommandRegistry}, or null if there is none.
+	 */
+	static @Nullable CommandRegistry load(@NotNull ClassLoader loader) {
+		return ServiceLoader.load(CommandRegistry.class, loader).findFirst().orElse(null);
+	}
+
+	/**
+	 * @return New instances of all {@link SlashCommand}s.
+	 */
+	@NotNull List<SlashCommand> getSlashCommands();
+
+	/**
+	 * @return New instances of all {@link ContextCommand}s.
+	 */
+	@NotNull List<ContextCommand> getContextCommands();
+
+	/**
+	 * @return New instances of all {@link TextCommand}s.
+	 */
+	default @NotNull List<TextCommand> getTextCommands() {
+		return List.of();
+	}
+
+	/**
+	 * @return New instances of all {@link ComponentHandler}s, which are neither commands nor subcommands.
+	 */
+	@NotNull List<ComponentHandler> getComponentHandlers();
+}
@@ -0,0 +1,299 @@
+package com.dynxsty.dih4jda.registry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates a {@link CommandRegistry} for all commands and component handlers of the
+ * compiled sources. The generated registry creates all instances using their public empty constructor, so that
+ * neither classpath scanning nor reflective construction is needed at runtime.
+ * <br>Besides the registry, the processor generates:
+ * <ul>
+ *     <li>a {@code META-INF/services} entry, which is used by {@link CommandRegistry#load(ClassLoader)}</li>
+ *     <li>a {@code reflect-config.json} for GraalVM native images, which covers everything that is still accessed
+ *     reflectively: handler methods of the option and modal binders, modal forms, enum options and all
+ *     {@link com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter}s</li>
+ * </ul>
+ * The processor is deliberately not registered as a service, as javac would otherwise run it for every project that
+ * has DIH4JDA on its classpath (including test sources, which would then get a registry of their own). Thus, it has
+ * to be enabled explicitly using {@code -processor}:
+ *
+ * <pre>{@code
+ * dependencies {
+ *     implementation("com.dynxsty:dih4jda:1.6")
+ *     annotationProcessor("com.dynxsty:dih4jda:1.6")
+ * }
+ * tasks.compileJava {
+ *     options.compilerArgs.addAll(listOf("-processor", "com.dynxsty.dih4jda.registry.CommandRegistryProcessor"))
+ * }
+ * }</pre>
+ *
+ * Nothing is generated if the compiled sources don't contain any commands or component handlers.
+ *
+ * Both the name of the generated registry ({@value #REGISTRY_OPTION}) and the package that is searched for
+ * commands ({@value #PACKAGE_OPTION}) can be changed using processor options. Classes that are generated by other
+ * processors are not included.
+ *
+ * @since v1.6
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({CommandRegistryProcessor.REGISTRY_OPTION, CommandRegistryProcessor.PACKAGE_OPTION})
+public class CommandRegistryProcessor extends AbstractProcessor {
+
+	/**
+	 * The option for the fully qualified name of the generated registry.
+	 */
+	public static final String REGISTRY_OPTION = "dih4jda.registry";
+
+	/**
+	 * The option for the package that is searched for commands. By default, all compiled classes are searched.
+	 */
+	public static final String PACKAGE_OPTION = "dih4jda.commandsPackage";
+
+	/**
+	 * The fully qualified name of the generated registry, if not changed using {@link #REGISTRY_OPTION}.
+	 */
+	public static final String DEFAULT_REGISTRY = "com.dynxsty.dih4jda.registry.GeneratedCommandRegistry";
+
+	// the processor must not load any of these classes, as JDA is not necessarily on the processor path
+	private static final String SLASH_COMMAND = "com.dynxsty.dih4jda.interactions.commands.SlashCommand";
+	private static final String SUBCOMMAND = "com.dynxsty.dih4jda.interactions.commands.SlashCommand.Subcommand";
+	private static final String CONTEXT_COMMAND = "com.dynxsty.dih4jda.interactions.commands.ContextCommand";
+	private static final String TEXT_COMMAND = "com.dynxsty.dih4jda.interactions.commands.TextCommand";
+	private static final String COMPONENT_HANDLER = "com.dynxsty.dih4jda.interactions.commands.ComponentHandler";
+	private static final String LISTENER_ADAPTER = "com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter";
+	private static final String OPTION_HANDLER = "com.dynxsty.dih4jda.interactions.binding.OptionHandler";
+	private static final String MODAL_HANDLER = "com.dynxsty.dih4jda.interactions.binding.ModalHandler";
+	private static final String COMMAND_REGISTRY = "com.dynxsty.dih4jda.registry.CommandRegistry";
+
+	private final Set<TypeElement> slashCommands = new TreeSet<>(Comparator.comparing(t -> t.getQualifiedName().toString()));
+	private final Set<TypeElement> contextCommands = new TreeSet<>(Comparator.comparing(t -> t.getQualifiedName().toString()));
+	private final Set<TypeElement> textCommands = new TreeSet<>(Comparator.comparing(t -> t.getQualifiedName().toString()));
+	private final Set<TypeElement> componentHandlers = new TreeSet<>(Comparator.comparing(t -> t.getQualifiedName().toString()));
+	/**
+	 * All classes that are accessed reflectively, mapped by their binary name, with the corresponding
+	 * reflect-config flags.
+	 */
+	private final Map<String, Set<String>> reflective = new TreeMap<>();
+	private final List<Element> originating = new ArrayList<>();
+	private boolean generated;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (generated || roundEnv.processingOver()) return false;
+		if (getType(SLASH_COMMAND) == null) return false;
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			scan(type);
+		}
+		if (slashCommands.isEmpty() && contextCommands.isEmpty() && textCommands.isEmpty() && componentHandlers.isEmpty()) return false;
+		String registry = processingEnv.getOptions().getOrDefault(REGISTRY_OPTION, DEFAULT_REGISTRY);
+		try {
+			writeRegistry(registry);
+			writeResource("META-INF/services/" + COMMAND_REGISTRY, registry + "\n");
+			reflective.computeIfAbsent(registry, k -> new TreeSet<>()).add("allPublicConstructors");
+			writeResource("META-INF/native-image/dih4jda/" + registry + "/reflect-config.json", getReflectConfig());
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate command registry: " + e.getMessage());
+		}
+		generated = true;
+		return false;
+	}
+
+	private void scan(TypeElement type) {
+		for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+			scan(member);
+		}
+		if (type.getKind() != ElementKind.CLASS || !isInPackage(type)) return;
+		boolean slash = isSubtype(type, SLASH_COMMAND);
+		boolean subcommand = isSubtype(type, SUBCOMMAND);
+		boolean context = isSubtype(type, CONTEXT_COMMAND);
+		boolean text = isSubtype(type, TEXT_COMMAND);
+		boolean handler = isSubtype(type, COMPONENT_HANDLER);
+		if (isSubtype(type, LISTENER_ADAPTER)) {
+			// listeners are instantiated reflectively for each event
+			addReflective(type, "allPublicConstructors", "allPublicMethods");
+			originating.add(type);
+		}
+		if (!slash && !subcommand && !context && !text && !handler) return;
+		addReflective(type, "allPublicMethods");
+		addBinderTypes(type);
+		originating.add(type);
+		// subcommands are created by their parent command
+		if (subcommand || type.getModifiers().contains(Modifier.ABSTRACT)) return;
+		if (!isInstantiable(type)) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+					"Skipping " + type.getQualifiedName() + ", as it is not public or does not have a public empty constructor", type);
+			return;
+		}
+		if (slash) {
+			slashCommands.add(type);
+		} else if (context) {
+			contextCommands.add(type);
+		} else if (text) {
+			textCommands.add(type);
+		} else {
+			componentHandlers.add(type);
+		}
+	}
+
+	/**
+	 * Registers the modal forms and enum options of all {@code @ModalHandler} and {@code @OptionHandler} methods,
+	 * as their fields and constants are accessed reflectively.
+	 */
+	private void addBinderTypes(TypeElement type) {
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			if (hasAnnotation(method, MODAL_HANDLER) && method.getParameters().size() == 2) {
+				TypeElement form = asTypeElement(method.getParameters().get(1).asType());
+				if (form != null) addReflective(form, "allDeclaredConstructors", "allDeclaredFields");
+			} else if (hasAnnotation(method, OPTION_HANDLER)) {
+				for (VariableElement parameter : method.getParameters()) {
+					TypeElement option = asTypeElement(parameter.asType());
+					if (option != null && option.getKind() == ElementKind.ENUM) {
+						addReflective(option, "allDeclaredFields", "allPublicMethods");
+					}
+				}
+			}
+		}
+	}
+
+	private void writeRegistry(String registry) throws IOException {
+		int split = registry.lastIndexOf('.');
+		String simpleName = registry.substring(split + 1);
+		StringBuilder source = new StringBuilder();
+		if (split > 0) {
+			source.append("package ").append(registry, 0, split).append(";\n\n");
+		}
+		source.append("import com.dynxsty.dih4jda.interactions.commands.ComponentHandler;\n")
+				.append("import com.dynxsty.dih4jda.interactions.commands.ContextCommand;\n")
+				.append("import com.dynxsty.dih4jda.interactions.commands.SlashCommand;\n")
+				.append("import com.dynxsty.dih4jda.interactions.commands.TextCommand;\n")
+				.append("import com.dynxsty.dih4jda.registry.CommandRegistry;\n\n")
+				.append("import java.util.List;\n\n")
+				.append("/**\n * Generated by {@link com.dynxsty.dih4jda.registry.CommandRegistryProcessor}.\n */\n")
+				.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+				.append("public final class ").append(simpleName).append(" implements CommandRegistry {\n");
+		appendGetter(source, "SlashCommand", "getSlashCommands", slashCommands);
+		source.append('\n');
+		appendGetter(source, "ContextCommand", "getContextCommands", contextCommands);
+		source.append('\n');
+		appendGetter(source, "TextCommand", "getTextCommands", textCommands);
+		source.append('\n');
+		appendGetter(source, "ComponentHandler", "getComponentHandlers", componentHandlers);
+		source.append("}\n");
+		try (Writer writer = processingEnv.getFiler().createSourceFile(registry, originating.toArray(new Element[0])).openWriter()) {
+			writer.write(source.toString());
+		}
+	}
+
+	private static void appendGetter(StringBuilder source, String type, String name, Set<TypeElement> classes) {
+		source.append("\t@Override\n\tpublic List<").append(type).append("> ").append(name).append("() {\n")
+				.append("\t\treturn List.of(");
+		boolean first = true;
+		for (TypeElement c : classes) {
+			source.append(first ? "\n" : ",\n").append("\t\t\t\tnew ").append(c.getQualifiedName()).append("()");
+			first = false;
+		}
+		source.append(");\n\t}\n");
+	}
+
+	private String getReflectConfig() {
+		StringBuilder json = new StringBuilder("[");
+		boolean first = true;
+		for (Map.Entry<String, Set<String>> entry : reflective.entrySet()) {
+			json.append(first ? "\n" : ",\n").append("  {\n    \"name\": \"").append(entry.getKey()).append('"');
+			for (String flag : entry.getValue()) {
+				json.append(",\n    \"").append(flag).append("\": true");
+			}
+			json.append("\n  }");
+			first = false;
+		}
+		return json.append("\n]\n").toString();
+	}
+
+	private void writeResource(String name, String content) throws IOException {
+		try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name, originating.toArray(new Element[0])).openWriter()) {
+			writer.write(content);
+		}
+	}
+
+	private void addReflective(TypeElement type, String... flags) {
+		Set<String> set = reflective.computeIfAbsent(processingEnv.getElementUtils().getBinaryName(type).toString(), k -> new TreeSet<>());
+		set.addAll(List.of(flags));
+	}
+
+	/**
+	 * @return Whether the generated registry is able to call the type's empty constructor.
+	 */
+	private boolean isInstantiable(TypeElement type) {
+		for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+			if (!e.getModifiers().contains(Modifier.PUBLIC)) return false;
+			if (((TypeElement) e).getNestingKind() == NestingKind.MEMBER && e == type && !e.getModifiers().contains(Modifier.STATIC)) {
+				return false;
+			}
+		}
+		return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+				.anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+	}
+
+	private boolean isInPackage(TypeElement type) {
+		String pack = processingEnv.getOptions().get(PACKAGE_OPTION);
+		if (pack == null) return true;
+		String name = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		return name.equals(pack) || name.startsWith(pack + ".");
+	}
+
+	private boolean isSubtype(TypeElement type, String base) {
+		TypeElement baseType = getType(base);
+		return baseType != null && processingEnv.getTypeUtils().isSubtype(
+				processingEnv.getTypeUtils().erasure(type.asType()),
+				processingEnv.getTypeUtils().erasure(baseType.asType()));
+	}
+
+	private TypeElement getType(String name) {
+		return processingEnv.getElementUtils().getTypeElement(name);
+	}
+
+	private static TypeElement asTypeElement(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) type).asElement() : null;
+	}
+
+	private static boolean hasAnnotation(Element element, String annotation) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,145 @@
+package com.dynxsty.dih4jda.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent map whose entries expire after a per-entry time-to-live and which never holds more than a fixed
+ * amount of entries. If the limit is exceeded, the oldest entries are evicted first.
+ * <br>Reads never lock. Expiry is driven by a {@link TimingWheel}, thus, expired entries are removed even if they
+ * are never accessed again and memory stays flat no matter how many short-lived entries are created.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @since v1.6
+ */
+public class BoundedExpiringMap<K, V> {
+
+	private final Map<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+	private final Queue<Entry<K, V>> order = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final TimingWheel wheel;
+	private final int maxSize;
+
+	/**
+	 * Creates a new, empty {@link BoundedExpiringMap}.
+	 *
+	 * @param wheel   The {@link TimingWheel} that is used to expire entries.
+	 * @param maxSize The maximum amount of entries.
+	 */
+	public BoundedExpiringMap(@NotNull TimingWheel wheel, int maxSize) {
+		if (maxSize <= 0) throw new IllegalArgumentException("Max size must be positive!");
+		this.wheel = wheel;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Associates the given value with the given key for the given duration.
+	 * If the map is full, the oldest entry is evicted.
+	 *
+	 * @param key   The key.
+	 * @param value The value.
+	 * @param ttl   The time-to-live of this entry.
+	 */
+	public void put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		Entry<K, V> entry = new Entry<>(key, value);
+		Entry<K, V> previous = map.put(key, entry);
+		if (previous != null) previous.invalidate();
+		order.add(entry);
+		queued.incrementAndGet();
+		entry.timeout = wheel.schedule(() -> {
+			if (map.remove(key, entry)) entry.alive = false;
+		}, ttl.toNanos(), TimeUnit.NANOSECONDS);
+		evict();
+	}
+
+	/**
+	 * @param key The key.
+	 * @return The value associated with the given key, or null if there is none (or it has expired).
+	 */
+	public @Nullable V get(@NotNull K key) {
+		Entry<K, V> entry = map.get(key);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Removes the entry with the given key.
+	 *
+	 * @param key The key.
+	 * @return The value that was removed, or null if there was none.
+	 */
+	public @Nullable V remove(@NotNull K key) {
+		Entry<K, V> entry = map.remove(key);
+		if (entry == null) return null;
+		entry.invalidate();
+		return entry.value;
+	}
+
+	/**
+	 * @return The current amount of entries.
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * @return The maximum amount of entries.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Evicts the oldest entries while the map is over its limit and drops removed entries from the
+	 * eviction order. This never blocks: if another thread is already evicting, it simply returns.
+	 */
+	private void evict() {
+		if (!evictionLock.tryLock()) return;
+		try {
+			Entry<K, V> head;
+			while ((head = order.peek()) != null && (!head.alive || map.size() > maxSize)) {
+				order.poll();
+				queued.decrementAndGet();
+				if (head.alive && map.remove(head.key, head)) head.invalidate();
+			}
+			// entries that were removed out of order are still queued; compact them once they pile up
+			if (queued.get() > maxSize * 2) {
+				order.removeIf(entry -> {
+					if (entry.alive) return false;
+					queued.decrementAndGet();
+					return true;
+				});
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Entry<K, V> {
+		private final K key;
+		private final V value;
+		private volatile boolean alive = true;
+		private volatile TimingWheel.Timeout timeout;
+
+		private Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		private void invalidate() {
+			alive = false;
+			TimingWheel.Timeout timeout = this.timeout;
+			if (timeout != null) timeout.cancel();
+		}
+	}
+}
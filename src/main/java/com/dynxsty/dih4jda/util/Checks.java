@@ -3,6 +3,7 @@ package com.dynxsty.dih4jda.util;
 import com.dynxsty.dih4jda.DIH4JDALogger;
 
 import java.lang.reflect.Constructor;
+import java.util.Set;
 
 /**
  * Utility class for checking certain conditions.
@@ -23,10 +24,23 @@ public class Checks {
 	 * @since v1.4
 	 */
 	public static boolean checkImplementation(Class<?> base, Class<?> implementation) {
+		return checkImplementation(new DIH4JDALogger(Set.of()), base, implementation);
+	}
+
+	/**
+	 * Checks if the given base class implements a certain class.
+	 *
+	 * @param logger         The {@link DIH4JDALogger} that is used if the class does not implement the given class.
+	 * @param base           The base class.
+	 * @param implementation The implementation that should be checked.
+	 * @return Whether the base class is implementing the given class.
+	 * @since v1.6
+	 */
+	public static boolean checkImplementation(DIH4JDALogger logger, Class<?> base, Class<?> implementation) {
 		boolean doesImplement = ClassUtils.doesImplement(base, implementation);
 		if (!doesImplement) {
-			DIH4JDALogger.warn(String.format("Class %s does not implement %s. It will be ignored.",
-					base.getSimpleName(), implementation.getSimpleName()));
+			logger.warn(DIH4JDALogger.Type.WARN, "Class %s does not implement %s. It will be ignored.",
+					base.getSimpleName(), implementation.getSimpleName());
 		}
 		return doesImplement;
 	}
@@ -42,7 +56,7 @@ public class Checks {
 		for (Constructor<?> c : base.getConstructors()) {
 			if (c.getParameterCount() == 0) return true;
 		}
-		DIH4JDALogger.warn(String.format("Class %s contains unknown constructor parameters!", base.getSimpleName()));
+		new DIH4JDALogger(Set.of()).warn(DIH4JDALogger.Type.WARN, "Class %s contains unknown constructor parameters!", base.getSimpleName());
 		return false;
 	}
 }
@@ -5,13 +5,17 @@ import com.dynxsty.dih4jda.interactions.commands.model.UnqueuedCommandData;
 import com.dynxsty.dih4jda.interactions.commands.model.UnqueuedSlashCommandData;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.*;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class CommandUtils {
 
@@ -167,4 +171,57 @@ public class CommandUtils {
 				pair.getFirst().stream().filter(c -> c.getType() == type).collect(Collectors.toSet()),
 				pair.getSecond().stream().filter(c -> c.getType() == type).collect(Collectors.toSet()));
 	}
+
+	/**
+	 * Computes a fingerprint of the given commands, which only changes if the commands themselves change.
+	 * The order of the given commands (and of their subcommands) does not matter.
+	 *
+	 * @param commands All {@link CommandData}.
+	 * @return The hex-encoded SHA-256 fingerprint.
+	 * @since v1.6
+	 */
+	public static @NotNull String fingerprint(@NotNull Collection<? extends CommandData> commands) {
+		List<String> canonical = commands.stream()
+				.map(command -> canonicalize(command.toData().toMap()))
+				.sorted()
+				.collect(Collectors.toList());
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(String.join("\n", canonical).getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+
+	/**
+	 * Builds a canonical string of the given command data, with all keys sorted. Subcommands and subcommand groups
+	 * are sorted as well, as they are collected from unordered sets. All other lists (e.g. options) keep their order.
+	 */
+	private static String canonicalize(Object value) {
+		if (value instanceof Map) {
+			Map<String, String> sorted = new TreeMap<>();
+			((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), canonicalize(v)));
+			return sorted.toString();
+		}
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			Stream<String> elements = list.stream().map(CommandUtils::canonicalize);
+			if (list.stream().allMatch(CommandUtils::isSubcommand)) {
+				elements = elements.sorted();
+			}
+			return elements.collect(Collectors.joining(",", "[", "]"));
+		}
+		return String.valueOf(value);
+	}
+
+	private static boolean isSubcommand(Object value) {
+		if (!(value instanceof Map)) return false;
+		Object type = ((Map<?, ?>) value).get("type");
+		return type instanceof Number && (((Number) type).intValue() == OptionType.SUB_COMMAND.getKey()
+				|| ((Number) type).intValue() == OptionType.SUB_COMMAND_GROUP.getKey());
+	}
 }
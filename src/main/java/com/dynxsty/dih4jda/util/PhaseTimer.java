@@ -0,0 +1,63 @@
+package com.dynxsty.dih4jda.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures the duration of consecutive phases, e.g. of the startup. Each phase lasts from the end of the previous
+ * one (or the creation of the timer) until it is marked.
+ *
+ * <pre>{@code
+ * PhaseTimer timer = new PhaseTimer();
+ * discover();
+ * timer.mark("discovery");
+ * instantiate();
+ * timer.mark("instantiation");
+ * System.out.println(timer); // discovery: 120ms, instantiation: 45ms (total: 165ms)
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class PhaseTimer {
+
+	private final Map<String, Duration> phases = new LinkedHashMap<>();
+	private final long start = System.nanoTime();
+	private long last = start;
+
+	/**
+	 * Ends the current phase.
+	 *
+	 * @param phase The phase's name.
+	 */
+	public void mark(@NotNull String phase) {
+		long now = System.nanoTime();
+		phases.merge(phase, Duration.ofNanos(now - last), Duration::plus);
+		last = now;
+	}
+
+	/**
+	 * @return The duration of all phases, in the order they were marked.
+	 */
+	public @NotNull Map<String, Duration> getPhases() {
+		return Collections.unmodifiableMap(phases);
+	}
+
+	/**
+	 * @return The duration from the creation of the timer until the last phase ended.
+	 */
+	public @NotNull Duration getTotal() {
+		return Duration.ofNanos(last - start);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		phases.forEach((phase, duration) -> builder.append(phase).append(": ").append(duration.toMillis()).append("ms, "));
+		if (builder.length() > 0) builder.setLength(builder.length() - 2);
+		return builder.append(" (total: ").append(getTotal().toMillis()).append("ms)").toString();
+	}
+}
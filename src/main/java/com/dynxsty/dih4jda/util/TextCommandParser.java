@@ -0,0 +1,76 @@
+package com.dynxsty.dih4jda.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for parsing messages of {@link com.dynxsty.dih4jda.interactions.commands.TextCommand}s.
+ *
+ * @since v1.6
+ */
+public class TextCommandParser {
+
+	private TextCommandParser() {
+	}
+
+	/**
+	 * Checks whether the given content starts with the given prefix. This does not allocate, as it is run for every
+	 * single message; most messages are already rejected by their first char.
+	 *
+	 * @param content The message's raw content.
+	 * @param prefix  The prefix.
+	 * @return The index right after the prefix, or -1 if the content does not start with the prefix or consists of
+	 * nothing but the prefix.
+	 */
+	public static int matchPrefix(@NotNull String content, @NotNull String prefix) {
+		int length = prefix.length();
+		if (content.length() <= length || content.charAt(0) != prefix.charAt(0)) return -1;
+		return content.startsWith(prefix) ? length : -1;
+	}
+
+	/**
+	 * Splits the given content into its tokens in a single pass. Tokens are separated by whitespace, unless they are
+	 * enclosed in double quotes. Within quotes, a backslash escapes the following char.
+	 *
+	 * <pre>{@code
+	 * TextCommandParser.tokenize("!ban 123 \"Spamming in #general\"", 1); // [ban, 123, Spamming in #general]
+	 * }</pre>
+	 *
+	 * @param content The message's raw content.
+	 * @param start   The index at which parsing starts, usually right after the prefix.
+	 * @return All tokens. An unterminated quote ends at the end of the content.
+	 */
+	public static @NotNull List<String> tokenize(@NotNull String content, int start) {
+		List<String> tokens = new ArrayList<>();
+		StringBuilder token = null;
+		boolean quoted = false;
+		for (int i = start; i < content.length(); i++) {
+			char c = content.charAt(i);
+			if (quoted) {
+				if (c == '\\' && i + 1 < content.length()) {
+					token.append(content.charAt(++i));
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					token.append(c);
+				}
+			} else if (Character.isWhitespace(c)) {
+				if (token != null) {
+					tokens.add(token.toString());
+					token = null;
+				}
+			} else {
+				if (token == null) token = new StringBuilder();
+				if (c == '"') {
+					quoted = true;
+				} else {
+					token.append(c);
+				}
+			}
+		}
+		if (token != null) tokens.add(token.toString());
+		return tokens;
+	}
+}
@@ -0,0 +1,217 @@
+package com.dynxsty.dih4jda.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel, which is used to schedule a large amount of short timeouts that are usually cancelled
+ * before they expire (e.g. deferring an interaction that has not been acknowledged in time).
+ * <br>Scheduling and cancelling a timeout are both O(1) and lock-free; a single daemon thread advances the wheel
+ * once per tick and runs all expired tasks. Tasks are run on that thread, thus they should be short and must
+ * never block.
+ *
+ * <pre>{@code
+ * TimingWheel wheel = new TimingWheel("my-wheel", 10, TimeUnit.MILLISECONDS, 512);
+ * TimingWheel.Timeout timeout = wheel.schedule(() -> System.out.println("Expired!"), 2500, TimeUnit.MILLISECONDS);
+ * // [...]
+ * timeout.cancel();
+ * }</pre>
+ *
+ * @since v1.6
+ */
+public class TimingWheel implements AutoCloseable {
+
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+	private final long startTime;
+	private final Thread worker;
+	private volatile boolean running = true;
+	private long tick;
+
+	/**
+	 * Creates and starts a new {@link TimingWheel}.
+	 *
+	 * @param name          The name of the wheel's worker thread.
+	 * @param tickDuration  The duration of a single tick. This is the wheel's resolution.
+	 * @param unit          The {@link TimeUnit} of the tick duration.
+	 * @param ticksPerWheel The amount of buckets. This is rounded up to the next power of two.
+	 */
+	public TimingWheel(@NotNull String name, long tickDuration, @NotNull TimeUnit unit, int ticksPerWheel) {
+		if (tickDuration <= 0) throw new IllegalArgumentException("Tick duration must be positive!");
+		if (ticksPerWheel <= 0) throw new IllegalArgumentException("Ticks per wheel must be positive!");
+		int size = Integer.highestOneBit(ticksPerWheel);
+		if (size < ticksPerWheel) size <<= 1;
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = size - 1;
+		this.startTime = System.nanoTime();
+		this.worker = new Thread(this::run, name);
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Schedules the given task to run once the given delay has passed.
+	 *
+	 * @param task  The task to run.
+	 * @param delay The delay.
+	 * @param unit  The delay's {@link TimeUnit}.
+	 * @return The {@link Timeout}, which can be used to cancel the task.
+	 */
+	public Timeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+		if (!running) throw new IllegalStateException("TimingWheel was already closed!");
+		Timeout timeout = new Timeout(task, System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay)));
+		pending.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Stops the wheel. All timeouts that have not yet expired are dropped.
+	 */
+	@Override
+	public void close() {
+		running = false;
+		LockSupport.unpark(worker);
+	}
+
+	private void run() {
+		while (running) {
+			long deadline = tickNanos * (tick + 1);
+			long sleep;
+			while (running && (sleep = deadline - (System.nanoTime() - startTime)) > 0) {
+				LockSupport.parkNanos(this, sleep);
+			}
+			if (!running) break;
+			transferPending();
+			wheel[(int) (tick & mask)].expire(deadline);
+			tick++;
+		}
+		pending.clear();
+	}
+
+	private void transferPending() {
+		// limit the amount of transferred timeouts, so a burst of new ones can't delay the whole tick
+		for (int i = 0; i < 100_000; i++) {
+			Timeout timeout = pending.poll();
+			if (timeout == null) return;
+			if (timeout.isCancelled()) continue;
+			long calculated = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (calculated - tick) / wheel.length;
+			wheel[(int) (Math.max(calculated, tick) & mask)].add(timeout);
+		}
+	}
+
+	/**
+	 * A single task that was scheduled on a {@link TimingWheel}.
+	 */
+	public static final class Timeout {
+		private static final int INIT = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+
+		private final Runnable task;
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(INIT);
+		// only accessed by the worker thread
+		private long remainingRounds;
+		private Timeout next;
+		private Timeout prev;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancels this timeout, if it has not expired yet.
+		 *
+		 * @return Whether the timeout was cancelled by this call.
+		 */
+		public boolean cancel() {
+			return state.compareAndSet(INIT, CANCELLED);
+		}
+
+		/**
+		 * @return Whether this timeout was cancelled.
+		 */
+		public boolean isCancelled() {
+			return state.get() == CANCELLED;
+		}
+
+		/**
+		 * @return Whether this timeout expired and its task was run.
+		 */
+		public boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+
+		private void expire() {
+			if (!state.compareAndSet(INIT, EXPIRED)) return;
+			try {
+				task.run();
+			} catch (Throwable t) {
+				Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), t);
+			}
+		}
+	}
+
+	/**
+	 * A single bucket of the wheel, which holds a doubly-linked list of {@link Timeout}s.
+	 * Buckets are only ever accessed by the worker thread.
+	 */
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		private void add(Timeout timeout) {
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		private void expire(long deadline) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.isCancelled()) {
+					remove(timeout);
+				} else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+					remove(timeout);
+					timeout.expire();
+				} else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		private void remove(Timeout timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.next = null;
+			timeout.prev = null;
+		}
+	}
+}
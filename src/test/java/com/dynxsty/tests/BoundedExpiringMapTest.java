@@ -0,0 +1,50 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.util.BoundedExpiringMap;
+import com.dynxsty.dih4jda.util.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedExpiringMapTest {
+	@Test
+	public void testEvictsOldestWhenFull() {
+		try (TimingWheel wheel = new TimingWheel("test-wheel", 5, TimeUnit.MILLISECONDS, 8)) {
+			BoundedExpiringMap<String, Integer> map = new BoundedExpiringMap<>(wheel, 3);
+			for (int i = 0; i < 5; i++) {
+				map.put("key-" + i, i, Duration.ofMinutes(1));
+			}
+			assertEquals(3, map.size());
+			assertNull(map.get("key-0"));
+			assertNull(map.get("key-1"));
+			assertEquals(4, map.get("key-4"));
+			// replacing an entry must not evict any other entry
+			map.put("key-2", 20, Duration.ofMinutes(1));
+			assertEquals(3, map.size());
+			assertEquals(20, map.get("key-2"));
+			assertEquals(3, map.get("key-3"));
+			assertEquals(3, map.remove("key-3"));
+			assertNull(map.get("key-3"));
+			assertEquals(2, map.size());
+		}
+	}
+
+	@Test
+	public void testExpiresEntries() throws InterruptedException {
+		try (TimingWheel wheel = new TimingWheel("test-wheel", 5, TimeUnit.MILLISECONDS, 8)) {
+			BoundedExpiringMap<String, Integer> map = new BoundedExpiringMap<>(wheel, 10);
+			map.put("short", 1, Duration.ofMillis(20));
+			map.put("long", 2, Duration.ofMinutes(1));
+			long deadline = System.currentTimeMillis() + 2000;
+			while (map.get("short") != null && System.currentTimeMillis() < deadline) {
+				Thread.sleep(5);
+			}
+			assertNull(map.get("short"));
+			assertEquals(2, map.get("long"));
+			assertEquals(1, map.size());
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.execution.Bulkhead;
+import com.dynxsty.dih4jda.execution.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+	@Test
+	public void testOpensOnFailureRate() throws InterruptedException {
+		CircuitBreaker breaker = new CircuitBreaker(4, 0.5, null, Duration.ofMillis(50));
+		for (int i = 0; i < 3; i++) {
+			long permit = breaker.tryAcquire();
+			assertNotEquals(CircuitBreaker.REJECTED, permit);
+			breaker.onResult(permit, i == 0, 0);
+		}
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		breaker.onResult(breaker.tryAcquire(), true, 0);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+		Thread.sleep(60);
+		// only a single trial execution is let through
+		long trial = breaker.tryAcquire();
+		assertNotEquals(CircuitBreaker.REJECTED, trial);
+		assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+		breaker.onResult(trial, true, 0);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		Thread.sleep(60);
+		breaker.onResult(breaker.tryAcquire(), false, 0);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		assertNotEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+	}
+
+	@Test
+	public void testHungTrialCountsAsFailure() throws InterruptedException {
+		CircuitBreaker breaker = new CircuitBreaker(1, 1, Duration.ofMillis(50), Duration.ofMillis(200));
+		breaker.onResult(breaker.tryAcquire(), true, 0);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		Thread.sleep(210);
+		// the trial never reports its result
+		long hung = breaker.tryAcquire();
+		assertNotEquals(CircuitBreaker.REJECTED, hung);
+		assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+		Thread.sleep(60);
+		assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Thread.sleep(210);
+		long trial = breaker.tryAcquire();
+		// the hung trial finally finishing must not decide the new trial
+		breaker.onResult(hung, true, 0);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		breaker.onResult(trial, false, 0);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	public void testSlowCallsCountAsFailures() {
+		CircuitBreaker breaker = new CircuitBreaker(2, 1, Duration.ofSeconds(1), Duration.ofMinutes(1));
+		breaker.onResult(breaker.tryAcquire(), false, Duration.ofSeconds(2).toNanos());
+		breaker.onResult(breaker.tryAcquire(), false, Duration.ofMillis(10).toNanos());
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		breaker.onResult(breaker.tryAcquire(), false, Duration.ofSeconds(2).toNanos());
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		breaker.onResult(breaker.tryAcquire(), false, Duration.ofSeconds(3).toNanos());
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void testIgnoresResultsOfEarlierStates() throws InterruptedException {
+		CircuitBreaker breaker = new CircuitBreaker(1, 1, null, Duration.ofMillis(50));
+		// started while the breaker was still closed
+		long stale = breaker.tryAcquire();
+		breaker.onResult(breaker.tryAcquire(), true, 0);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		Thread.sleep(60);
+		long trial = breaker.tryAcquire();
+		assertNotEquals(CircuitBreaker.REJECTED, trial);
+		breaker.onResult(stale, false, 0);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		breaker.onResult(trial, true, 0);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void testBulkhead() {
+		Bulkhead bulkhead = new Bulkhead(2);
+		assertTrue(bulkhead.tryAcquire());
+		assertTrue(bulkhead.tryAcquire());
+		assertFalse(bulkhead.tryAcquire());
+		assertEquals(2, bulkhead.getActive());
+		bulkhead.release();
+		assertTrue(bulkhead.tryAcquire());
+	}
+}
@@ -0,0 +1,89 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.analytics.CommandAnalytics;
+import com.dynxsty.dih4jda.analytics.CommandAnalyticsReader;
+import com.dynxsty.dih4jda.analytics.CommandUsage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandAnalyticsTest {
+	private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+	@Test
+	public void testAggregatesAcrossFlushes(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("analytics.bin");
+		long now = 1_000 * HOUR + 5;
+		try (CommandAnalytics analytics = new CommandAnalytics(file, Duration.ofHours(1))) {
+			ExecutorService pool = Executors.newFixedThreadPool(4);
+			for (int i = 0; i < 4; i++) {
+				pool.execute(() -> {
+					for (int j = 0; j < 10_000; j++) {
+						analytics.record("ping", 1L, now);
+					}
+				});
+			}
+			pool.shutdown();
+			assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+			analytics.record("ban", 2L, now);
+			analytics.flush();
+			analytics.record("ping", 1L, now);
+			analytics.record("ping", 0L, now + HOUR);
+		}
+		List<CommandUsage> usages = CommandAnalyticsReader.read(file);
+		assertEquals(3, usages.size());
+		assertUsage(usages.get(0), "ban", 2L, now, 1);
+		assertUsage(usages.get(1), "ping", 1L, now, 40_001);
+		assertUsage(usages.get(2), "ping", 0L, now + HOUR, 1);
+	}
+
+	@Test
+	public void testIgnoresIncompleteBlock(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("analytics.bin");
+		try (CommandAnalytics analytics = new CommandAnalytics(file, Duration.ofHours(1))) {
+			analytics.record("ping", 1L);
+		}
+		long size = Files.size(file);
+		// simulates a crash while appending the next block
+		Files.write(file, new byte[]{0, 0, 0, 42, 1, 1}, StandardOpenOption.APPEND);
+		assertTrue(Files.size(file) > size);
+		List<CommandUsage> usages = CommandAnalyticsReader.read(file);
+		assertEquals(1, usages.size());
+		assertEquals(1, usages.get(0).getCount());
+	}
+
+	@Test
+	public void testCutsOffIncompleteBlockBeforeAppending(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("analytics.bin");
+		long now = 1_000 * HOUR;
+		try (CommandAnalytics analytics = new CommandAnalytics(file, Duration.ofHours(1))) {
+			analytics.record("ping", 1L, now);
+		}
+		// simulates a crash while appending the next block
+		Files.write(file, new byte[]{0, 0, 0, 42, 1, 1}, StandardOpenOption.APPEND);
+		try (CommandAnalytics analytics = new CommandAnalytics(file, Duration.ofHours(1))) {
+			analytics.record("ping", 1L, now);
+		}
+		List<CommandUsage> usages = CommandAnalyticsReader.read(file);
+		assertEquals(1, usages.size());
+		assertEquals(2, usages.get(0).getCount());
+	}
+
+	private static void assertUsage(CommandUsage usage, String path, long guildId, long timestamp, long count) {
+		assertEquals(path, usage.getPath());
+		assertEquals(guildId, usage.getGuildId());
+		assertEquals(Instant.ofEpochMilli(timestamp - timestamp % HOUR), usage.getHour());
+		assertEquals(count, usage.getCount());
+	}
+}
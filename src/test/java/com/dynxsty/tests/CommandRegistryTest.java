@@ -0,0 +1,134 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.interactions.commands.ComponentHandler;
+import com.dynxsty.dih4jda.interactions.commands.ContextCommand;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.registry.CommandRegistry;
+import com.dynxsty.dih4jda.registry.CommandRegistryProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandRegistryTest {
+	private static final Map<String, String> SOURCES = Map.of(
+			"bot/PingCommand.java",
+			"package bot;\n" +
+					"import com.dynxsty.dih4jda.interactions.binding.*;\n" +
+					"import com.dynxsty.dih4jda.interactions.commands.SlashCommand;\n" +
+					"import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;\n" +
+					"import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;\n" +
+					"import net.dv8tion.jda.api.interactions.commands.build.Commands;\n" +
+					"public class PingCommand extends SlashCommand {\n" +
+					"  public enum Mode { FAST, SLOW }\n" +
+					"  public static class Form { @ModalField(id = \"reason\") String reason; }\n" +
+					"  public PingCommand() { setSlashCommandData(Commands.slash(\"ping\", \"Pong!\")); }\n" +
+					"  @OptionHandler public void ping(SlashCommandInteractionEvent event, @Option(name = \"mode\") Mode mode) {}\n" +
+					"  @ModalHandler public void report(ModalInteractionEvent event, Form form) {}\n" +
+					"  public static class Broken extends SlashCommand { public Broken(String name) {} }\n" +
+					"}\n",
+			"bot/Menus.java",
+			"package bot;\n" +
+					"import com.dynxsty.dih4jda.interactions.commands.ContextCommand;\n" +
+					"import net.dv8tion.jda.api.interactions.commands.build.Commands;\n" +
+					"public class Menus {\n" +
+					"  public static class Avatar extends ContextCommand.User {\n" +
+					"    public Avatar() { setCommandData(Commands.user(\"Avatar\")); }\n" +
+					"  }\n" +
+					"}\n",
+			"bot/Buttons.java",
+			"package bot;\n" +
+					"import com.dynxsty.dih4jda.interactions.commands.ComponentHandler;\n" +
+					"public class Buttons extends ComponentHandler {}\n",
+			"bot/Listener.java",
+			"package bot;\n" +
+					"import com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter;\n" +
+					"public class Listener extends DIH4JDAListenerAdapter {}\n");
+
+	@Test
+	public void testGeneratedRegistry(@TempDir Path dir) throws Exception {
+		Path classes = compile(dir);
+		String source = Files.readString(dir.resolve("generated/com/dynxsty/dih4jda/registry/GeneratedCommandRegistry.java"));
+		assertFalse(source.contains("Broken"));
+		assertTrue(source.contains("new bot.PingCommand()"));
+		assertEquals(CommandRegistryProcessor.DEFAULT_REGISTRY + "\n",
+				Files.readString(classes.resolve("META-INF/services/com.dynxsty.dih4jda.registry.CommandRegistry")));
+
+		String config = Files.readString(classes.resolve("META-INF/native-image/dih4jda/" + CommandRegistryProcessor.DEFAULT_REGISTRY + "/reflect-config.json"));
+		for (String name : List.of("bot.PingCommand", "bot.PingCommand$Mode", "bot.PingCommand$Form", "bot.Menus$Avatar", "bot.Buttons", "bot.Listener")) {
+			assertTrue(config.contains("\"name\": \"" + name + "\""), name + " is missing in " + config);
+		}
+		assertFalse(config.contains("\"name\": \"bot.Menus\""));
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+			CommandRegistry registry = CommandRegistry.load(loader);
+			assertNotNull(registry);
+			List<SlashCommand> commands = registry.getSlashCommands();
+			assertEquals(1, commands.size());
+			assertEquals("ping", commands.get(0).getSlashCommandData().getName());
+			List<ContextCommand> contexts = registry.getContextCommands();
+			assertEquals(1, contexts.size());
+			assertEquals("Avatar", contexts.get(0).getCommandData().getName());
+			List<ComponentHandler> handlers = registry.getComponentHandlers();
+			assertEquals(List.of("bot.Buttons"), handlers.stream().map(h -> h.getClass().getName()).collect(Collectors.toList()));
+			// every call creates new instances, without any reflection
+			assertNotSame(commands.get(0), registry.getSlashCommands().get(0));
+		}
+	}
+
+	@Test
+	public void testProcessorRequiresOptIn() {
+		// javac would otherwise run the processor for every project that has DIH4JDA on its classpath
+		for (Processor processor : ServiceLoader.load(Processor.class, getClass().getClassLoader())) {
+			assertFalse(processor instanceof CommandRegistryProcessor);
+		}
+	}
+
+	private static Path compile(Path dir) throws IOException {
+		Path sources = dir.resolve("src");
+		Path generated = Files.createDirectories(dir.resolve("generated"));
+		Path classes = Files.createDirectories(dir.resolve("classes"));
+		for (Map.Entry<String, String> entry : SOURCES.entrySet()) {
+			Path file = sources.resolve(entry.getKey());
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, entry.getValue());
+		}
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+			Iterable<? extends JavaFileObject> units = files.getJavaFileObjectsFromPaths(SOURCES.keySet().stream()
+					.map(sources::resolve)
+					.collect(Collectors.toList()));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, List.of(
+					"-classpath", System.getProperty("java.class.path"),
+					"-d", classes.toString(),
+					"-s", generated.toString()), null, units);
+			task.setProcessors(List.of(new CommandRegistryProcessor()));
+			boolean success = task.call();
+			String messages = diagnostics.getDiagnostics().stream()
+					.map(d -> d.getKind() + ": " + d.getMessage(null))
+					.collect(Collectors.joining("\n"));
+			assertTrue(success, messages);
+			assertTrue(diagnostics.getDiagnostics().stream()
+					.anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING && d.getMessage(null).contains("bot.PingCommand.Broken")), messages);
+		}
+		return classes;
+	}
+}
@@ -0,0 +1,117 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.toggle.CommandToggles;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandTogglesTest {
+	@Test
+	public void testToggle() {
+		CommandToggles toggles = new CommandToggles();
+		assertTrue(toggles.isEnabled(1, "ban"));
+		assertTrue(toggles.setEnabled(1, "ban", false));
+		assertFalse(toggles.setEnabled(1, "ban", false));
+		assertFalse(toggles.isEnabled(1, "ban"));
+		assertFalse(toggles.isEnabled(1, toggles.getOrdinal("ban")));
+		assertTrue(toggles.isEnabled(2, "ban"));
+		assertTrue(toggles.isEnabled(1, "kick"));
+		assertEquals(Set.of("ban"), toggles.getDisabled(1));
+
+		assertTrue(toggles.setEnabled(1, "ban", true));
+		assertTrue(toggles.isEnabled(1, "ban"));
+		assertEquals(Set.of(), toggles.getDisabled(1));
+	}
+
+	@Test
+	public void testManyCommands() {
+		CommandToggles toggles = new CommandToggles();
+		for (int i = 0; i < 200; i++) {
+			toggles.getOrdinal("command-" + i);
+		}
+		toggles.setEnabled(1, "command-150", false);
+		toggles.setEnabled(1, "command-3", false);
+		assertFalse(toggles.isEnabled(1, "command-150"));
+		assertFalse(toggles.isEnabled(1, "command-3"));
+		assertTrue(toggles.isEnabled(1, "command-149"));
+		assertTrue(toggles.isEnabled(1, "command-199"));
+		assertEquals(Set.of("command-3", "command-150"), toggles.getDisabled(1));
+	}
+
+	@Test
+	public void testOrdinalsAreBounded() {
+		CommandToggles toggles = new CommandToggles();
+		for (int i = 0; i < CommandToggles.MAX_COMMANDS; i++) {
+			toggles.setEnabled(1, "command-" + i, false);
+		}
+		assertThrows(IllegalStateException.class, () -> toggles.setEnabled(1, "one-too-many", false));
+		// enabling a command that was never disabled does not need an ordinal
+		assertFalse(toggles.setEnabled(1, "unknown", true));
+		assertTrue(toggles.isEnabled(1, "unknown"));
+	}
+
+	@Test
+	public void testDisablesComponentsOfCommand() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		CommandToggles toggles = new CommandToggles();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setExecutor(Runnable::run)
+				.setCommandToggles(toggles)
+				.disableAutomaticCommandRegistration()
+				.build();
+		AtomicInteger clicks = new AtomicInteger();
+		dih4jda.registerCommand(new SlashCommand() {
+			{
+				setSlashCommandData(Commands.slash("giveaway", "Starts a giveaway"));
+				setRegistrationType(RegistrationType.GUILD);
+				handleButtonIds("giveaway-join");
+			}
+
+			@Override
+			public void handleButton(ButtonInteractionEvent event, Button button) {
+				clicks.incrementAndGet();
+			}
+		});
+		toggles.setEnabled(1, Command.Type.SLASH, "giveaway", false);
+		jda.handleEvent(TestInteractions.button(jda, "giveaway-join", 10, 1));
+		assertEquals(0, clicks.get());
+		jda.handleEvent(TestInteractions.button(jda, "giveaway-join", 10, 2));
+		assertEquals(1, clicks.get());
+	}
+
+	@Test
+	public void testCommandTypesAreToggledSeparately() {
+		CommandToggles toggles = new CommandToggles();
+		toggles.setEnabled(1, Command.Type.SLASH, "ping", false);
+		assertFalse(toggles.isEnabled(1, Command.Type.SLASH, "ping"));
+		assertTrue(toggles.isEnabled(1, Command.Type.USER, "ping"));
+		assertTrue(toggles.isEnabled(1, CommandToggles.getTextCommandKey("ping")));
+		assertEquals(Set.of("SLASH:ping"), toggles.getDisabled(1));
+	}
+
+	@Test
+	public void testListener() {
+		CommandToggles toggles = new CommandToggles();
+		List<String> changes = new ArrayList<>();
+		toggles.addListener((guildId, name, enabled) -> changes.add(guildId + ":" + name + ":" + enabled));
+		toggles.setEnabled(1, "ban", false);
+		toggles.setEnabled(1, "ban", false);
+		toggles.setEnabled(1, "ban", true);
+		assertEquals(List.of("1:ban:false", "1:ban:true"), changes);
+	}
+}
@@ -0,0 +1,63 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.interactions.ComponentIdBuilder;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentListenerTest {
+	@Test
+	public void testListenerTakesPrecedenceOverHandler() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setExecutor(Runnable::run)
+				.disableAutomaticCommandRegistration()
+				.build();
+		AtomicInteger listened = new AtomicInteger();
+		String id = dih4jda.addButtonListener(Duration.ofMinutes(1), event -> listened.incrementAndGet());
+		// a handler that is registered for the same identifier as all generated ids
+		ClashingCommand command = new ClashingCommand(ComponentIdBuilder.split(id)[0]);
+		dih4jda.registerCommand(command);
+
+		jda.handleEvent(TestInteractions.button(jda, id, 1));
+		assertEquals(1, listened.get());
+		assertEquals(0, command.clicks.get());
+
+		// once the listener is gone, the handler receives the click
+		assertTrue(dih4jda.removeComponentListener(id));
+		jda.handleEvent(TestInteractions.button(jda, id, 1));
+		assertEquals(1, listened.get());
+		assertEquals(1, command.clicks.get());
+	}
+
+	private static class ClashingCommand extends SlashCommand {
+		private final AtomicInteger clicks = new AtomicInteger();
+
+		private ClashingCommand(String buttonId) {
+			setSlashCommandData(Commands.slash("clash", "Clashes with listeners"));
+			setRegistrationType(RegistrationType.GUILD);
+			handleButtonIds(buttonId);
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {}
+
+		@Override
+		public void handleButton(ButtonInteractionEvent event, Button button) {
+			clicks.incrementAndGet();
+		}
+	}
+}
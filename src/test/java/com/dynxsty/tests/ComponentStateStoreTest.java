@@ -0,0 +1,125 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.interactions.state.MappedComponentStateStore;
+import com.dynxsty.dih4jda.interactions.state.TieredComponentStateStore;
+import org.junit.jupiter.api.Test;
+
+import java.io.ObjectInputFilter;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentStateStoreTest {
+	@Test
+	public void testMappedStoreSurvivesReopen() throws Exception {
+		Path file = Files.createTempFile("dih4jda-state", ".bin");
+		try {
+			String kept;
+			String removed;
+			try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096)) {
+				kept = store.put("kept");
+				removed = store.put("removed");
+				store.remove(removed);
+				assertEquals("kept", store.get(kept, String.class));
+				assertNull(store.get(kept, Integer.class));
+			}
+			try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096)) {
+				assertEquals("kept", store.get(kept, String.class));
+				assertNull(store.get(removed, String.class));
+				assertNotEquals(kept, store.put("new"));
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testMappedStoreDropsOldestWhenFull() throws Exception {
+		Path file = Files.createTempFile("dih4jda-state", ".bin");
+		try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096)) {
+			String first = store.put("first");
+			String last = null;
+			for (int i = 0; i < 500; i++) {
+				last = store.put("state-" + i);
+			}
+			assertNull(store.get(first, String.class));
+			assertEquals("state-499", store.get(last, String.class));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testMappedStoreCompletesInterruptedCompaction() throws Exception {
+		Path source = Files.createTempFile("dih4jda-state", ".bin");
+		Path file = Files.createTempFile("dih4jda-state", ".bin");
+		Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+		try {
+			String kept;
+			try (MappedComponentStateStore store = new MappedComponentStateStore(source, 4096)) {
+				kept = store.put("kept");
+			}
+			// a compaction that crashed after moving its file into place
+			Files.copy(source, compacted);
+			try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096)) {
+				assertEquals("kept", store.get(kept, String.class));
+				assertFalse(Files.exists(compacted));
+			}
+		} finally {
+			Files.deleteIfExists(source);
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(compacted);
+		}
+	}
+
+	@Test
+	public void testMappedStoreFiltersDeserializedClasses() throws Exception {
+		Path file = Files.createTempFile("dih4jda-state", ".bin");
+		try {
+			String key;
+			try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096)) {
+				key = store.put(new AtomicInteger(1));
+				assertNull(store.get(key, Object.class));
+			}
+			ObjectInputFilter filter = ObjectInputFilter.Config.createFilter("java.base/*;!*");
+			try (MappedComponentStateStore store = new MappedComponentStateStore(file, 4096, filter)) {
+				assertEquals(1, store.get(key, AtomicInteger.class).get());
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testTieredStoreReadsEvictedStateFromFile() throws Exception {
+		Path file = Files.createTempFile("dih4jda-state", ".bin");
+		try {
+			String key;
+			try (TieredComponentStateStore store = new TieredComponentStateStore(1, new MappedComponentStateStore(file, 4096))) {
+				key = store.put(new TicketState(42, "Refund"));
+				// evicts the first state from the heap tier
+				store.put(new TicketState(43, "Bug report"));
+				assertEquals("Refund", store.get(key, TicketState.class).topic);
+				assertNull(store.get(key, String.class));
+			}
+			try (TieredComponentStateStore store = new TieredComponentStateStore(1, new MappedComponentStateStore(file, 4096))) {
+				assertEquals(42, store.get(key, TicketState.class).channelId);
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static class TicketState implements Serializable {
+		private final long channelId;
+		private final String topic;
+
+		private TicketState(long channelId, String topic) {
+			this.channelId = channelId;
+			this.topic = topic;
+		}
+	}
+}
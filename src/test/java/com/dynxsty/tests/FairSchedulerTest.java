@@ -0,0 +1,41 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.execution.FairScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FairSchedulerTest {
+	@Test
+	public void testWeightedRoundRobin() throws Exception {
+		// a single slot, which is blocked until all tasks are queued
+		FairScheduler scheduler = new FairScheduler(Runnable::run, 1);
+		scheduler.setWeight(2, 2);
+		CompletableFuture<Void> blocker = new CompletableFuture<>();
+		scheduler.submit(0, () -> blocker);
+		List<Long> order = new ArrayList<>();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			for (long tenant = 1; tenant <= 2; tenant++) {
+				long t = tenant;
+				futures.add(scheduler.submit(tenant, () -> {
+					order.add(t);
+					return null;
+				}));
+			}
+		}
+		assertEquals(4, scheduler.getQueueDepth(1));
+		assertEquals(4, scheduler.getQueueDepth(2));
+		assertEquals(1, scheduler.getInFlight());
+		blocker.complete(null);
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+		assertEquals(List.of(1L, 2L, 2L, 1L, 2L, 2L, 1L, 1L), order);
+		assertTrue(scheduler.getQueueDepths().isEmpty());
+		assertEquals(0, scheduler.getInFlight());
+	}
+}
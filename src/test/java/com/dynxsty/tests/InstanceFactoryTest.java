@@ -0,0 +1,74 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.injection.ConstructorInstanceFactory;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstanceFactoryTest {
+	@Test
+	public void testInjectsSharedDependencies() throws Exception {
+		Database database = new Database();
+		Map<Class<?>, Object> dependencies = new LinkedHashMap<>();
+		dependencies.put(Database.class, database);
+		dependencies.put(ConcurrentHashMap.class, new ConcurrentHashMap<>());
+		ConstructorInstanceFactory factory = new ConstructorInstanceFactory(dependencies);
+
+		StatsCommand first = factory.newInstance(StatsCommand.class);
+		StatsCommand second = factory.newInstance(StatsCommand.class);
+		assertNotSame(first, second);
+		assertSame(database, first.database);
+		assertSame(database, second.database);
+		// resolved by assignability, as no dependency was registered for exactly this type
+		assertSame(dependencies.get(ConcurrentHashMap.class), first.cache);
+	}
+
+	@Test
+	public void testPrefersLargestResolvableConstructor() throws Exception {
+		ConstructorInstanceFactory empty = new ConstructorInstanceFactory(Map.of());
+		assertNull(empty.newInstance(OptionalCommand.class).database);
+
+		ConstructorInstanceFactory factory = new ConstructorInstanceFactory(Map.of(Database.class, new Database()));
+		assertNotNull(factory.newInstance(OptionalCommand.class).database);
+	}
+
+	@Test
+	public void testUnresolvableConstructor() {
+		ConstructorInstanceFactory factory = new ConstructorInstanceFactory(Map.of());
+		assertFalse(factory.canInstantiate(StatsCommand.class));
+		assertFalse(factory.canInstantiate(SlashCommand.class));
+		assertTrue(factory.canInstantiate(OptionalCommand.class));
+		assertThrows(NoSuchMethodException.class, () -> factory.newInstance(StatsCommand.class));
+	}
+
+	public static class Database {
+	}
+
+	public static class StatsCommand extends SlashCommand {
+		private final Database database;
+		private final ConcurrentMap<?, ?> cache;
+
+		public StatsCommand(Database database, ConcurrentMap<?, ?> cache) {
+			this.database = database;
+			this.cache = cache;
+		}
+	}
+
+	public static class OptionalCommand extends SlashCommand {
+		private final Database database;
+
+		public OptionalCommand() {
+			this(null);
+		}
+
+		public OptionalCommand(Database database) {
+			this.database = database;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.tests.instantiation.PingCommand;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InstantiationTest {
+	@Test
+	public void testSkipsClassesThatCanNotBeInstantiated() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		// the package also contains a command with an unresolvable constructor, a package-private command and a
+		// command whose constructor throws, none of which may prevent the other commands from being handled
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.disableAutomaticCommandRegistration()
+				.setGlobalSmartQueue(false)
+				.build();
+		dih4jda.registerInteractions();
+		jda.handleEvent(TestInteractions.slashCommand(jda, "ping", 42));
+		assertEquals(42, PingCommand.EXECUTED.get(5, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,48 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.commands.lazy.LazySlashCommand;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyCommandTest {
+	@Test
+	public void testInstantiatedOnceOnFirstUse() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		LazySlashCommand command = new LazySlashCommand(PingCommand.class, () -> {
+			created.incrementAndGet();
+			return new PingCommand();
+		});
+		command.setSlashCommandData(Commands.slash("ping", "Pong!"));
+		command.requirePermissions(Permission.MESSAGE_SEND);
+		assertEquals("ping", command.getSlashCommandData().getName());
+		assertEquals(PingCommand.class, command.getCommandClass());
+		assertFalse(command.isInstantiated());
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			Callable<SlashCommand> get = () -> {
+				start.await();
+				return command.getInstance();
+			};
+			Future<SlashCommand> first = pool.submit(get);
+			Future<SlashCommand> second = pool.submit(get);
+			start.countDown();
+			assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+		} finally {
+			pool.shutdownNow();
+		}
+		assertTrue(command.isInstantiated());
+		assertEquals(1, created.get());
+	}
+
+	public static class PingCommand extends SlashCommand {
+	}
+}
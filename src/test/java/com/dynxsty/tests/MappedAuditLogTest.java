@@ -0,0 +1,82 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.audit.AuditLogReader;
+import com.dynxsty.dih4jda.audit.AuditRecord;
+import com.dynxsty.dih4jda.audit.MappedAuditLog;
+import com.dynxsty.dih4jda.audit.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedAuditLogTest {
+	@Test
+	public void testRollsSegments(@TempDir Path dir) throws Exception {
+		try (MappedAuditLog log = new MappedAuditLog(dir, 512, 1_000, OverflowPolicy.DROP_NEWEST)) {
+			for (int i = 0; i < 100; i++) {
+				assertTrue(log.offer(record(i, null)));
+			}
+			log.offer(record(100, "IllegalStateException: Database is down"));
+		}
+		try (Stream<Path> segments = Files.list(dir)) {
+			assertTrue(segments.count() > 1);
+		}
+		List<AuditRecord> records = AuditLogReader.read(dir);
+		assertEquals(101, records.size());
+		for (int i = 0; i < records.size(); i++) {
+			AuditRecord record = records.get(i);
+			assertEquals(i, record.getUserId());
+			assertEquals("ban", record.getPath());
+			assertEquals(Map.of("user", "42", "reason", "spam"), record.getOptions());
+		}
+		assertEquals(AuditRecord.Outcome.FAILURE, records.get(100).getOutcome());
+		assertEquals("IllegalStateException: Database is down", records.get(100).getError());
+
+		// a new log never appends to existing segments
+		try (MappedAuditLog log = new MappedAuditLog(dir, 512, 1_000, OverflowPolicy.DROP_NEWEST)) {
+			log.offer(record(101, null));
+		}
+		records = AuditLogReader.read(dir);
+		assertEquals(102, records.size());
+		assertEquals(101, records.get(101).getUserId());
+	}
+
+	@Test
+	public void testOverflowPolicies() throws Exception {
+		assertDropped(OverflowPolicy.DROP_NEWEST);
+		assertDropped(OverflowPolicy.DROP_OLDEST);
+	}
+
+	private static void assertDropped(OverflowPolicy policy) throws Exception {
+		Path dir = Files.createTempDirectory("audit");
+		MappedAuditLog log = new MappedAuditLog(dir, 1 << 20, 4, policy);
+		int accepted = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (log.offer(record(i, null))) accepted++;
+		}
+		log.close();
+		assertFalse(log.offer(record(0, null)));
+		List<AuditRecord> records = AuditLogReader.read(dir);
+		assertEquals(10_000 - log.getDropped(), records.size());
+		if (policy == OverflowPolicy.DROP_OLDEST) {
+			assertEquals(10_000, accepted);
+			// the newest record is never dropped
+			assertEquals(9_999, records.get(records.size() - 1).getUserId());
+		} else {
+			assertEquals(records.size(), accepted);
+		}
+	}
+
+	private static AuditRecord record(long userId, String error) {
+		return new AuditRecord(Instant.now(), userId, 1L, 2L, "ban", Map.of("user", "42", "reason", "spam"),
+				error == null ? AuditRecord.Outcome.SUCCESS : AuditRecord.Outcome.FAILURE, Duration.ofMillis(3), error);
+	}
+}
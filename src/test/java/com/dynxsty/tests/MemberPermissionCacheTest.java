@@ -0,0 +1,114 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.interactions.commands.MemberPermissionCache;
+import com.dynxsty.dih4jda.interactions.commands.MemberSnapshot;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemberPermissionCacheTest {
+	@Test
+	public void testCachesUntilInvalidated() {
+		MemberPermissionCache cache = new MemberPermissionCache(Duration.ofHours(1));
+		AtomicInteger loads = new AtomicInteger();
+		MemberSnapshot first = cache.get(1, 10, () -> {
+			loads.incrementAndGet();
+			return new MemberSnapshot(8, 100);
+		});
+		assertSame(first, cache.get(1, 10, () -> fail("Snapshot should be cached")));
+		assertEquals(1, loads.get());
+
+		cache.invalidate(1, 10);
+		MemberSnapshot second = cache.get(1, 10, () -> new MemberSnapshot(0));
+		assertNotSame(first, second);
+		assertFalse(second.hasPermissions(8));
+
+		cache.get(1, 11, () -> new MemberSnapshot(0));
+		cache.get(2, 10, () -> new MemberSnapshot(0));
+		assertEquals(3, cache.size());
+		cache.invalidateGuild(1);
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testInvalidationDuringLoad() {
+		MemberPermissionCache cache = new MemberPermissionCache(Duration.ofHours(1));
+		cache.get(1, 20, () -> new MemberSnapshot(0));
+		// an update that arrives while the member is loaded must not be overwritten by the stale snapshot
+		cache.get(1, 10, () -> {
+			cache.invalidate(1, 10);
+			return new MemberSnapshot(0);
+		});
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(1, 10, () -> {
+			loads.incrementAndGet();
+			return new MemberSnapshot(0);
+		});
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testExpiryAndLimit() throws InterruptedException {
+		MemberPermissionCache cache = new MemberPermissionCache(Duration.ofMillis(1), 2);
+		MemberSnapshot first = cache.get(1, 10, () -> new MemberSnapshot(0));
+		Thread.sleep(5);
+		assertNotSame(first, cache.get(1, 10, () -> new MemberSnapshot(0)));
+
+		cache.get(1, 11, () -> new MemberSnapshot(0));
+		cache.get(1, 12, () -> new MemberSnapshot(0));
+		assertTrue(cache.size() <= 2);
+	}
+
+	@Test
+	public void testEvictsOldestWhenFull() {
+		MemberPermissionCache cache = new MemberPermissionCache(Duration.ofHours(1), 10);
+		for (long id = 0; id < 10; id++) {
+			cache.get(1, id, () -> new MemberSnapshot(0));
+		}
+		cache.get(1, 10, () -> new MemberSnapshot(0));
+		// only the oldest entries are dropped, instead of the whole guild
+		assertTrue(cache.size() >= 9);
+		assertNotNull(cache.get(1, 9, () -> fail("Recent snapshot should be cached")));
+		assertNotNull(cache.get(1, 10, () -> fail("Recent snapshot should be cached")));
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(1, 0, () -> {
+			loads.incrementAndGet();
+			return new MemberSnapshot(0);
+		});
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testCurrentRolesWinOverCachedSnapshot() {
+		MemberPermissionCache cache = new MemberPermissionCache(Duration.ofHours(1));
+		MemberSnapshot cached = cache.get(member(EnumSet.noneOf(Permission.class)));
+		assertFalse(cached.hasRole(100));
+		// the member was given a role, but the update event was missed
+		MemberSnapshot current = cache.get(member(EnumSet.of(Permission.BAN_MEMBERS), 100));
+		assertTrue(current.hasRole(100));
+		assertTrue(current.hasPermissions(Permission.BAN_MEMBERS.getRawValue()));
+		assertSame(current, cache.get(member(EnumSet.of(Permission.BAN_MEMBERS), 100)));
+	}
+
+	private static Member member(EnumSet<Permission> permissions, long... roleIds) {
+		Role[] roles = new Role[roleIds.length];
+		for (int i = 0; i < roleIds.length; i++) {
+			roles[i] = TestInteractions.proxy(Role.class, Map.of("getIdLong", roleIds[i]));
+		}
+		return TestInteractions.proxy(Member.class, Map.of(
+				"getIdLong", 10L,
+				"getGuild", TestInteractions.proxy(Guild.class, Map.of("getIdLong", 1L)),
+				"getRoles", List.of(roles),
+				"getPermissions", permissions));
+	}
+}
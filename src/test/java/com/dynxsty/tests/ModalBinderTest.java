@@ -0,0 +1,123 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter;
+import com.dynxsty.dih4jda.interactions.binding.ModalBinder;
+import com.dynxsty.dih4jda.interactions.binding.ModalField;
+import com.dynxsty.dih4jda.interactions.binding.ModalHandler;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.ModalInteraction;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModalBinderTest {
+	@Test
+	public void testBindsValidForm() throws Exception {
+		ModalBinder binder = ModalBinder.of(ApplyCommand.class);
+		assertNotNull(binder);
+		ApplyCommand command = new ApplyCommand();
+		Map<String, String> violations = new HashMap<>();
+		binder.invoke(command, modal(Map.of("name", "Dynxsty", "email", "dev@example.com", "age", " 21 ", "note", "")), violations::putAll);
+		assertTrue(violations.isEmpty());
+		Application application = command.submitted;
+		assertNotNull(application);
+		assertEquals("Dynxsty", application.name);
+		assertEquals("dev@example.com", application.email);
+		assertEquals(21, application.age);
+		// empty inputs of optional fields keep their initial value
+		assertEquals("none", application.note);
+	}
+
+	@Test
+	public void testCollectsAllViolations() throws Exception {
+		ModalBinder binder = ModalBinder.of(ApplyCommand.class);
+		assertNotNull(binder);
+		ApplyCommand command = new ApplyCommand();
+		Map<String, String> violations = new LinkedHashMap<>();
+		binder.invoke(command, modal(Map.of("name", "D", "email", "no-email", "age", "twenty")), violations::putAll);
+		assertNull(command.submitted);
+		assertEquals(3, violations.size());
+		assertEquals("must be at least 2 characters long", violations.get("name"));
+		assertEquals("has an invalid format", violations.get("email"));
+		assertEquals("must be a number", violations.get("age"));
+
+		violations.clear();
+		binder.invoke(command, modal(Map.of("name", "A very long name", "email", "dev@example.com")), violations::putAll);
+		assertNull(command.submitted);
+		assertEquals("must be at most 10 characters long", violations.get("name"));
+		assertEquals("must not be empty", violations.get("age"));
+		assertFalse(violations.containsKey("note"));
+	}
+
+	@Test
+	public void testFiresValidationFailure() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setExecutor(Runnable::run)
+				.disableAutomaticCommandRegistration()
+				.build();
+		dih4jda.addListener(new ValidationListener());
+		ApplyCommand command = new ApplyCommand();
+		dih4jda.registerCommand(command);
+
+		jda.handleEvent(TestInteractions.modal(jda, "apply", 1, Map.of("name", "Dynxsty", "email", "dev@example.com")));
+		assertEquals(Map.of("age", "must not be empty"), ValidationListener.VIOLATIONS.get(5, TimeUnit.SECONDS));
+		assertNull(command.submitted);
+	}
+
+	private static ModalInteractionEvent modal(Map<String, String> values) {
+		return TestInteractions.modal(TestInteractions.createJDA(), "apply", 1, values);
+	}
+
+	public static class ValidationListener extends DIH4JDAListenerAdapter {
+		private static final CompletableFuture<Map<String, String>> VIOLATIONS = new CompletableFuture<>();
+
+		@Override
+		public void onModalValidationFailure(ModalInteraction interaction, Map<String, String> violations) {
+			VIOLATIONS.complete(violations);
+		}
+	}
+
+	public static class Application {
+		@ModalField(id = "name", minLength = 2, maxLength = 10)
+		private String name;
+		@ModalField(id = "email", pattern = "[^@\\s]+@[^@\\s]+")
+		private String email;
+		@ModalField(id = "age")
+		private int age;
+		@ModalField(id = "note", required = false)
+		private String note = "none";
+	}
+
+	public static class ApplyCommand extends SlashCommand {
+		private Application submitted;
+
+		public ApplyCommand() {
+			setSlashCommandData(Commands.slash("apply", "Apply for a role"));
+			setRegistrationType(RegistrationType.GUILD);
+			handleModalIds("apply");
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {}
+
+		@ModalHandler
+		public void submit(ModalInteractionEvent event, Application application) {
+			submitted = application;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.exceptions.InvalidCommandException;
+import com.dynxsty.dih4jda.interactions.binding.Option;
+import com.dynxsty.dih4jda.interactions.binding.OptionBinder;
+import com.dynxsty.dih4jda.interactions.binding.OptionHandler;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptionBinderTest {
+	@Test
+	public void testGeneratesOptions() throws InvalidCommandException {
+		OptionBinder binder = OptionBinder.of(BanCommand.class);
+		assertNotNull(binder);
+		List<OptionData> options = binder.getOptions();
+		assertEquals(3, options.size());
+		// required options are listed first
+		assertEquals("user", options.get(0).getName());
+		assertEquals(OptionType.USER, options.get(0).getType());
+		assertEquals("reason", options.get(1).getName());
+		assertEquals(OptionType.STRING, options.get(1).getType());
+		assertEquals(2, options.get(1).getChoices().size());
+		assertEquals("days", options.get(2).getName());
+		assertEquals(OptionType.INTEGER, options.get(2).getType());
+		assertFalse(options.get(2).isRequired());
+	}
+
+	@Test
+	public void testRejectsInvalidHandlers() throws InvalidCommandException {
+		assertNull(OptionBinder.of(Object.class));
+		assertThrows(InvalidCommandException.class, () -> OptionBinder.of(MissingAnnotation.class));
+	}
+
+	public enum Reason {SPAM, TOXICITY}
+
+	public static class BanCommand {
+		@OptionHandler
+		public void ban(SlashCommandInteractionEvent event,
+						@Option(name = "days", required = false) int days,
+						@Option(name = "user") User user,
+						@Option(name = "reason") Reason reason) {
+		}
+	}
+
+	public static class MissingAnnotation {
+		@OptionHandler
+		public void handle(SlashCommandInteractionEvent event, String value) {
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.ratelimit.*;
+import com.dynxsty.dih4jda.util.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+	@Test
+	public void testLimitIsSharedAcrossNodes() throws Exception {
+		RateLimit limit = new RateLimit(4, Duration.ofHours(1), RateLimit.Scope.GLOBAL);
+		try (SocketRateLimitServer server = new SocketRateLimitServer(0);
+			 TimingWheel wheel = new TimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 64);
+			 RateLimitBackend firstBackend = new SocketRateLimitBackend("localhost", server.getPort());
+			 RateLimitBackend secondBackend = new SocketRateLimitBackend("localhost", server.getPort())) {
+			RateLimiter first = new RateLimiter(firstBackend, wheel, Duration.ofSeconds(1), 0);
+			RateLimiter second = new RateLimiter(secondBackend, wheel, Duration.ofSeconds(1), 0);
+			for (int i = 0; i < 2; i++) {
+				assertTrue(acquire(first, limit));
+				assertTrue(acquire(second, limit));
+			}
+			assertFalse(acquire(first, limit));
+			assertFalse(acquire(second, limit));
+		}
+	}
+
+	@Test
+	public void testFastPathIsLocal() throws Exception {
+		RateLimit limit = new RateLimit(10, Duration.ofHours(1), RateLimit.Scope.USER);
+		try (TimingWheel wheel = new TimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 64)) {
+			RateLimitBackend failing = (deltas, ttl) -> {
+				throw new AssertionError("Backend should not be called");
+			};
+			RateLimiter limiter = new RateLimiter(failing, wheel, Duration.ofHours(1), 0.5);
+			for (int i = 0; i < 5; i++) {
+				assertTrue(acquire(limiter, limit));
+			}
+		}
+	}
+
+	@Test
+	public void testUsagesAllowedByUnreachableBackendAreCounted() throws Exception {
+		RateLimit limit = new RateLimit(2, Duration.ofHours(1), RateLimit.Scope.USER);
+		try (TimingWheel wheel = new TimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 64)) {
+			RateLimitBackend unreachable = (deltas, ttl) -> CompletableFuture.failedFuture(new IllegalStateException("Unreachable"));
+			RateLimiter limiter = new RateLimiter(unreachable, wheel, Duration.ofHours(1), 0);
+			assertTrue(acquire(limiter, limit));
+			assertTrue(acquire(limiter, limit));
+			assertFalse(acquire(limiter, limit));
+		}
+	}
+
+	@Test
+	public void testStalledServerTimesOut() throws Exception {
+		RateLimit limit = new RateLimit(2, Duration.ofHours(1), RateLimit.Scope.USER);
+		// accepts connections, but never responds
+		try (ServerSocket stalled = new ServerSocket(0);
+			 TimingWheel wheel = new TimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 64);
+			 RateLimitBackend backend = new SocketRateLimitBackend("localhost", stalled.getLocalPort(), Duration.ofMillis(200))) {
+			CompletableFuture<Map<String, Long>> request = backend.increment(Map.of("ping:*", 1L), Duration.ofHours(1)).toCompletableFuture();
+			assertThrows(ExecutionException.class, () -> request.get(5, TimeUnit.SECONDS));
+			// the limiter falls back to allowing the usage
+			RateLimiter limiter = new RateLimiter(backend, wheel, Duration.ofHours(1), 0);
+			assertTrue(acquire(limiter, limit));
+		}
+	}
+
+	private static boolean acquire(RateLimiter limiter, RateLimit limit) throws Exception {
+		return limiter.tryAcquire("ping:*", limit).toCompletableFuture().get(5, TimeUnit.SECONDS);
+	}
+}
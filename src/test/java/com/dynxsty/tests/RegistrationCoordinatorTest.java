@@ -0,0 +1,46 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.cluster.FileLockRegistrationCoordinator;
+import com.dynxsty.dih4jda.cluster.RegistrationCoordinator;
+import com.dynxsty.dih4jda.util.CommandUtils;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrationCoordinatorTest {
+	@Test
+	public void testOnlyOneLeaseHolder() throws IOException {
+		Path directory = Files.createTempDirectory("dih4jda-cluster");
+		RegistrationCoordinator first = new FileLockRegistrationCoordinator(directory);
+		RegistrationCoordinator second = new FileLockRegistrationCoordinator(directory);
+		assertNull(first.getPublishedFingerprint());
+		try (RegistrationCoordinator.Lease lease = first.tryAcquire()) {
+			assertNotNull(lease);
+			assertNull(second.tryAcquire());
+			lease.publish("abc");
+		}
+		assertEquals("abc", second.getPublishedFingerprint());
+		try (RegistrationCoordinator.Lease lease = second.tryAcquire()) {
+			assertNotNull(lease);
+		}
+	}
+
+	@Test
+	public void testFingerprintIgnoresOrder() {
+		CommandData ping = Commands.slash("ping", "Ping!");
+		CommandData config = Commands.slash("config", "Config").addSubcommands(
+				new SubcommandData("get", "Get"), new SubcommandData("set", "Set"));
+		CommandData reordered = Commands.slash("config", "Config").addSubcommands(
+				new SubcommandData("set", "Set"), new SubcommandData("get", "Get"));
+		assertEquals(CommandUtils.fingerprint(List.of(ping, config)), CommandUtils.fingerprint(List.of(reordered, ping)));
+		assertNotEquals(CommandUtils.fingerprint(List.of(ping)), CommandUtils.fingerprint(List.of(ping, config)));
+	}
+}
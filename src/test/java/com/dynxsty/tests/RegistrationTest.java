@@ -0,0 +1,139 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.tests.instantiation.PingCommand;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RegistrationTest {
+	private JDAImpl jda;
+	private DIH4JDA dih4jda;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		jda = TestInteractions.createJDA();
+		// interactions are handled on the calling thread, so that they finished once the event was handled
+		dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setExecutor(Runnable::run)
+				.disableAutomaticCommandRegistration()
+				.setGlobalSmartQueue(false)
+				.build();
+	}
+
+	@Test
+	public void testUnregisterWithNewInstance() {
+		VoteCommand registered = new VoteCommand("vote-yes");
+		dih4jda.registerCommand(registered);
+		jda.handleEvent(TestInteractions.slashCommand(jda, "vote", 1));
+		jda.handleEvent(TestInteractions.button(jda, "vote-yes", 1));
+		assertEquals(1, registered.executions.get());
+		assertEquals(1, registered.clicks.get());
+
+		// e.g. a command that was built again from its configuration
+		dih4jda.unregisterCommand(new VoteCommand("vote-yes"));
+		jda.handleEvent(TestInteractions.slashCommand(jda, "vote", 1));
+		jda.handleEvent(TestInteractions.button(jda, "vote-yes", 1));
+		assertEquals(1, registered.executions.get());
+		assertEquals(1, registered.clicks.get());
+	}
+
+	@Test
+	public void testReregisterReplacesAllEntries() {
+		VoteCommand first = new VoteCommand("vote-yes", "vote-no");
+		first.addSubcommands(new Subcommand("yes", first.executions), new Subcommand("no", first.executions));
+		dih4jda.registerCommand(first);
+		jda.handleEvent(TestInteractions.slashCommand(jda, "vote", "no", 1));
+		assertEquals(1, first.executions.get());
+
+		VoteCommand second = new VoteCommand("vote-yes");
+		second.addSubcommands(new Subcommand("yes", second.executions));
+		dih4jda.registerCommand(second);
+		// neither the removed subcommand nor the removed button may still be routed to the old command
+		jda.handleEvent(TestInteractions.slashCommand(jda, "vote", "no", 1));
+		jda.handleEvent(TestInteractions.button(jda, "vote-no", 1));
+		assertEquals(1, first.executions.get());
+		assertEquals(0, first.clicks.get());
+
+		jda.handleEvent(TestInteractions.slashCommand(jda, "vote", "yes", 1));
+		jda.handleEvent(TestInteractions.button(jda, "vote-yes", 1));
+		assertEquals(1, second.executions.get());
+		assertEquals(1, second.clicks.get());
+	}
+
+	@Test
+	public void testUnregisterDiscoveredCommand() throws Exception {
+		dih4jda.registerInteractions();
+		// PingCommand.EXECUTED is shared with InstantiationTest, which expects this user
+		int executions = PingCommand.EXECUTIONS.get();
+		jda.handleEvent(TestInteractions.slashCommand(jda, "ping", 42));
+		assertEquals(executions + 1, PingCommand.EXECUTIONS.get());
+
+		dih4jda.unregisterCommand(new PingCommand());
+		// e.g. a reconnect, which must not bring back the unregistered command
+		dih4jda.registerInteractions();
+		jda.handleEvent(TestInteractions.slashCommand(jda, "ping", 42));
+		assertEquals(executions + 1, PingCommand.EXECUTIONS.get());
+	}
+
+	@Test
+	public void testRuntimeCommandShadowsDiscoveredCommand() throws Exception {
+		VoteCommand ping = new VoteCommand();
+		ping.setSlashCommandData(Commands.slash("ping", "Replaces the discovered command"));
+		dih4jda.registerCommand(ping);
+		dih4jda.registerInteractions();
+		int executions = PingCommand.EXECUTIONS.get();
+		jda.handleEvent(TestInteractions.slashCommand(jda, "ping", 42));
+		assertEquals(executions, PingCommand.EXECUTIONS.get());
+		assertEquals(1, ping.executions.get());
+	}
+
+	private static class VoteCommand extends SlashCommand {
+		private final AtomicInteger executions = new AtomicInteger();
+		private final AtomicInteger clicks = new AtomicInteger();
+
+		private VoteCommand(String... buttonIds) {
+			setSlashCommandData(Commands.slash("vote", "Starts a vote"));
+			// there are no guilds offline, so nothing has to be upserted
+			setRegistrationType(RegistrationType.GUILD);
+			handleButtonIds(buttonIds);
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {
+			executions.incrementAndGet();
+		}
+
+		@Override
+		public void handleButton(ButtonInteractionEvent event, Button button) {
+			clicks.incrementAndGet();
+		}
+	}
+
+	private static class Subcommand extends SlashCommand.Subcommand {
+		private final AtomicInteger executions;
+
+		private Subcommand(String name, AtomicInteger executions) {
+			setSubcommandData(new SubcommandData(name, "Votes " + name));
+			this.executions = executions;
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {
+			executions.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.interactions.commands.CommandRequirements;
+import com.dynxsty.dih4jda.interactions.commands.MemberSnapshot;
+import com.dynxsty.dih4jda.interactions.commands.RequirementEvaluator;
+import net.dv8tion.jda.api.Permission;
+import org.junit.jupiter.api.Test;
+
+import static com.dynxsty.dih4jda.interactions.commands.RequirementEvaluator.Result.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequirementEvaluatorTest {
+	@Test
+	public void testRequirements() {
+		CommandRequirements req = new CommandRequirements() {};
+		req.requirePermissions(Permission.BAN_MEMBERS);
+		req.requireRoles(10L, 20L);
+		long ban = Permission.getRaw(Permission.BAN_MEMBERS);
+		assertEquals(INSUFFICIENT_PERMISSIONS, RequirementEvaluator.evaluate(req, 1, new MemberSnapshot(0, 10L)));
+		assertEquals(PASSED, RequirementEvaluator.evaluate(req, 1, new MemberSnapshot(ban, 20L, 30L)));
+		assertEquals(INVALID_ROLE, RequirementEvaluator.evaluate(req, 1, new MemberSnapshot(ban, 30L)));
+		// members without any roles and direct messages are not restricted by roles
+		assertEquals(PASSED, RequirementEvaluator.evaluate(req, 1, new MemberSnapshot(ban)));
+		assertEquals(PASSED, RequirementEvaluator.evaluate(req, 1, null));
+		req.requireUsers(2L);
+		assertEquals(INVALID_USER, RequirementEvaluator.evaluate(req, 1, null));
+		assertEquals(PASSED, RequirementEvaluator.evaluate(req, 2, null));
+	}
+}
@@ -0,0 +1,135 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.ShutdownReport;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import com.dynxsty.dih4jda.interactions.state.MemoryComponentStateStore;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShutdownTest {
+	@Test
+	public void testWaitsForPendingAndAnswersRejectedInteractions() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		AtomicBoolean storeClosed = new AtomicBoolean();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setComponentStateStore(new MemoryComponentStateStore(10) {
+					@Override
+					public void close() {
+						storeClosed.set(true);
+					}
+				})
+				.disableAutomaticCommandRegistration()
+				.build();
+		SlowCommand command = new SlowCommand();
+		dih4jda.registerCommand(command);
+
+		jda.handleEvent(TestInteractions.slashCommand(jda, "slow", 1));
+		assertTrue(command.started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<ShutdownReport> shutdown = CompletableFuture.supplyAsync(() -> dih4jda.shutdown(Duration.ofSeconds(10)));
+		// the shutdown must keep waiting for the pending command
+		Thread.sleep(100);
+		assertFalse(shutdown.isDone());
+
+		CompletableFuture<String> notice = new CompletableFuture<>();
+		jda.handleEvent(slashCommand(jda, "slow", notice));
+		assertNotNull(notice.get(5, TimeUnit.SECONDS));
+		// the rejected interaction must not have been executed
+		assertEquals(1, command.executions);
+
+		command.release.countDown();
+		ShutdownReport report = shutdown.get(5, TimeUnit.SECONDS);
+		assertEquals(1, report.getCompleted());
+		assertEquals(0, report.getDeferred());
+		assertEquals(1, report.getRejected());
+		assertTrue(storeClosed.get());
+	}
+
+	@Test
+	public void testRejectedInteractionsWithoutNotice() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setShutdownNotice(null)
+				.disableAutomaticCommandRegistration()
+				.build();
+		SlowCommand command = new SlowCommand();
+		dih4jda.registerCommand(command);
+
+		jda.handleEvent(TestInteractions.slashCommand(jda, "slow", 1));
+		assertTrue(command.started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<ShutdownReport> shutdown = CompletableFuture.supplyAsync(() -> dih4jda.shutdown(Duration.ofSeconds(10)));
+		Thread.sleep(100);
+
+		CompletableFuture<String> notice = new CompletableFuture<>();
+		jda.handleEvent(slashCommand(jda, "slow", notice));
+		command.release.countDown();
+		ShutdownReport report = shutdown.get(5, TimeUnit.SECONDS);
+		assertEquals(1, report.getRejected());
+		assertFalse(notice.isDone());
+	}
+
+	/**
+	 * Creates a slash command interaction, whose ephemeral reply completes the given future with its content.
+	 */
+	private static SlashCommandInteractionEvent slashCommand(JDAImpl jda, String name, CompletableFuture<String> reply) {
+		Map<String, Object> action = new HashMap<>();
+		StringBuilder content = new StringBuilder();
+		action.put("setContent", (TestInteractions.Answer) (proxy, args) -> {
+			content.append(args[0]);
+			return proxy;
+		});
+		action.put("setEphemeral", (TestInteractions.Answer) (proxy, args) -> proxy);
+		action.put("queue", (TestInteractions.Answer) (proxy, args) -> reply.complete(content.toString()));
+		ReplyCallbackAction replyAction = TestInteractions.proxy(ReplyCallbackAction.class, action);
+		Map<String, Object> answers = new HashMap<>();
+		answers.put("getJDA", jda);
+		answers.put("getIdLong", 2L);
+		answers.put("getName", name);
+		answers.put("getUser", TestInteractions.user(1));
+		answers.put("getOptions", List.of());
+		answers.put("deferReply", replyAction);
+		return new SlashCommandInteractionEvent(jda, 0, TestInteractions.proxy(SlashCommandInteraction.class, answers));
+	}
+
+	private static class SlowCommand extends SlashCommand {
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private volatile int executions;
+
+		private SlowCommand() {
+			setSlashCommandData(Commands.slash("slow", "Takes a while"));
+			// there are no guilds offline, so nothing has to be upserted
+			setRegistrationType(RegistrationType.GUILD);
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {
+			executions++;
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
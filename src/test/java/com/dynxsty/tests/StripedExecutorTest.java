@@ -0,0 +1,56 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.execution.StripedExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StripedExecutorTest {
+	@Test
+	public void testSameKeyRunsInOrder() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			StripedExecutor executor = new StripedExecutor(pool, 64);
+			List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				int n = i;
+				futures.add(executor.submit(42L, () -> CompletableFuture.runAsync(() -> order.add(n), pool)));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+			for (int i = 0; i < 200; i++) {
+				assertEquals(i, order.get(i));
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDifferentKeysRunInParallel() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			StripedExecutor executor = new StripedExecutor(pool, 64);
+			CountDownLatch latch = new CountDownLatch(2);
+			CompletableFuture<Void> first = executor.submit(1L, () -> {
+				latch.countDown();
+				latch.await(5, TimeUnit.SECONDS);
+				return null;
+			});
+			CompletableFuture<Void> second = executor.submit(2L, () -> {
+				latch.countDown();
+				return null;
+			});
+			second.get(5, TimeUnit.SECONDS);
+			first.get(5, TimeUnit.SECONDS);
+			assertEquals(0, latch.getCount());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.dynxsty.tests;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.ModalInteraction;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.components.Component;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.internal.JDAImpl;
+import net.dv8tion.jda.internal.utils.config.AuthorizationConfig;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates an offline {@link JDA} instance and synthetic interactions, so that events can be routed through the
+ * actual interaction handler without connecting to Discord.
+ */
+public final class TestInteractions {
+
+	private TestInteractions() {
+	}
+
+	public static JDAImpl createJDA() {
+		return new JDAImpl(new AuthorizationConfig("test-token"));
+	}
+
+	/**
+	 * Creates a proxy of the given interface. Methods return the given answer (by method name) if there is one,
+	 * otherwise default methods are invoked and all other methods return null, false or 0. Answers that are an
+	 * {@link Answer} are computed on each call.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+			if (answers.containsKey(method.getName())) {
+				Object answer = answers.get(method.getName());
+				return answer instanceof Answer ? ((Answer) answer).answer(proxy, args) : answer;
+			}
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return type.getSimpleName() + answers;
+			}
+			if (method.isDefault()) {
+				return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+						.unreflectSpecial(method, method.getDeclaringClass())
+						.bindTo(proxy)
+						.invokeWithArguments(args == null ? new Object[0] : args);
+			}
+			return getDefaultValue(method);
+		});
+	}
+
+	public static User user(long id) {
+		return proxy(User.class, Map.of("getIdLong", id, "getId", Long.toString(id)));
+	}
+
+	/**
+	 * Creates a {@link SlashCommandInteractionEvent} of a command without any options, which is used in direct
+	 * messages.
+	 */
+	public static SlashCommandInteractionEvent slashCommand(JDA jda, String name, long userId) {
+		return slashCommand(jda, name, null, userId);
+	}
+
+	/**
+	 * Creates a {@link SlashCommandInteractionEvent} of a subcommand without any options, which is used in direct
+	 * messages.
+	 */
+	public static SlashCommandInteractionEvent slashCommand(JDA jda, String name, String subcommandName, long userId) {
+		Map<String, Object> answers = interaction(jda, userId);
+		answers.put("getName", name);
+		answers.put("getSubcommandName", subcommandName);
+		answers.put("getOptions", List.of());
+		return new SlashCommandInteractionEvent(jda, 0, proxy(SlashCommandInteraction.class, answers));
+	}
+
+	/**
+	 * Creates a {@link ButtonInteractionEvent} of the button with the given component id, which is used in direct
+	 * messages.
+	 */
+	public static ButtonInteractionEvent button(JDA jda, String componentId, long userId) {
+		Map<String, Object> answers = interaction(jda, userId);
+		answers.put("getComponentId", componentId);
+		return new ButtonInteractionEvent(jda, 0, proxy(ButtonInteraction.class, answers));
+	}
+
+	/**
+	 * Creates a {@link ButtonInteractionEvent} of the button with the given component id, which is used in the given
+	 * guild.
+	 */
+	public static ButtonInteractionEvent button(JDA jda, String componentId, long userId, long guildId) {
+		Map<String, Object> answers = interaction(jda, userId);
+		answers.put("getComponentId", componentId);
+		answers.put("getGuild", proxy(Guild.class, Map.of("getIdLong", guildId, "getId", Long.toString(guildId))));
+		answers.put("isFromGuild", true);
+		return new ButtonInteractionEvent(jda, 0, proxy(ButtonInteraction.class, answers));
+	}
+
+	/**
+	 * Creates a {@link ModalInteractionEvent} of the modal with the given id, whose text inputs have the given values
+	 * and which is used in direct messages.
+	 */
+	public static ModalInteractionEvent modal(JDA jda, String modalId, long userId, Map<String, String> values) {
+		List<ModalMapping> mappings = new ArrayList<>();
+		values.forEach((id, value) -> mappings.add(new ModalMapping(DataObject.empty()
+				.put("custom_id", id)
+				.put("value", value)
+				.put("type", Component.Type.TEXT_INPUT.getKey()))));
+		Map<String, Object> answers = interaction(jda, userId);
+		answers.put("getModalId", modalId);
+		answers.put("getValues", mappings);
+		return new ModalInteractionEvent(jda, 0, proxy(ModalInteraction.class, answers));
+	}
+
+	private static Map<String, Object> interaction(JDA jda, long userId) {
+		Map<String, Object> answers = new HashMap<>();
+		answers.put("getJDA", jda);
+		answers.put("getIdLong", 1L);
+		answers.put("getUser", user(userId));
+		return answers;
+	}
+
+	/**
+	 * Computes the result of a proxied method.
+	 */
+	@FunctionalInterface
+	public interface Answer {
+		Object answer(Object proxy, Object[] args) throws Throwable;
+	}
+
+	private static Object getDefaultValue(Method method) {
+		Class<?> type = method.getReturnType();
+		if (type == boolean.class) return false;
+		if (type == int.class) return 0;
+		if (type == long.class) return 0L;
+		if (type == double.class) return 0d;
+		if (type == float.class) return 0f;
+		if (type == short.class) return (short) 0;
+		if (type == byte.class) return (byte) 0;
+		if (type == char.class) return (char) 0;
+		return null;
+	}
+}
@@ -0,0 +1,32 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.util.TextCommandParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TextCommandParserTest {
+	@Test
+	public void testMatchPrefix() {
+		assertEquals(1, TextCommandParser.matchPrefix("!ping", "!"));
+		assertEquals(2, TextCommandParser.matchPrefix(">> ping", ">>"));
+		assertEquals(-1, TextCommandParser.matchPrefix("ping", "!"));
+		assertEquals(-1, TextCommandParser.matchPrefix("!", "!"));
+		assertEquals(-1, TextCommandParser.matchPrefix("", "!"));
+		assertEquals(-1, TextCommandParser.matchPrefix(">ping", ">>"));
+	}
+
+	@Test
+	public void testTokenize() {
+		assertEquals(List.of("ban", "123", "Spamming in #general"),
+				TextCommandParser.tokenize("!ban   123 \"Spamming in #general\"", 1));
+		assertEquals(List.of("say", "a \"quoted\" word"),
+				TextCommandParser.tokenize("!say \"a \\\"quoted\\\" word\"", 1));
+		assertEquals(List.of("say", "unterminated quote"),
+				TextCommandParser.tokenize("!say \"unterminated quote", 1));
+		assertEquals(List.of("ping", ""), TextCommandParser.tokenize("!ping \"\"", 1));
+		assertEquals(List.of(), TextCommandParser.tokenize("!   ", 1));
+	}
+}
@@ -0,0 +1,28 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.util.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+	@Test
+	public void testExpiresAndCancels() throws InterruptedException {
+		try (TimingWheel wheel = new TimingWheel("test-wheel", 5, TimeUnit.MILLISECONDS, 8)) {
+			CountDownLatch expired = new CountDownLatch(1);
+			AtomicBoolean cancelledRan = new AtomicBoolean(false);
+			// a delay longer than a single rotation of the wheel
+			TimingWheel.Timeout timeout = wheel.schedule(expired::countDown, 100, TimeUnit.MILLISECONDS);
+			TimingWheel.Timeout cancelled = wheel.schedule(() -> cancelledRan.set(true), 20, TimeUnit.MILLISECONDS);
+			assertTrue(cancelled.cancel());
+			assertTrue(expired.await(2, TimeUnit.SECONDS));
+			assertTrue(timeout.isExpired());
+			assertFalse(timeout.cancel());
+			assertFalse(cancelledRan.get());
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.dynxsty.tests;
+
+import com.dynxsty.dih4jda.DIH4JDA;
+import com.dynxsty.dih4jda.DIH4JDABuilder;
+import com.dynxsty.dih4jda.events.DIH4JDAListenerAdapter;
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.CommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import net.dv8tion.jda.internal.JDAImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarmupTest {
+	@Test
+	public void testWarmupNeitherDispatchesNorExecutes() throws Exception {
+		JDAImpl jda = TestInteractions.createJDA();
+		AtomicInteger dispatched = new AtomicInteger();
+		DIH4JDA dih4jda = DIH4JDABuilder.setJDA(jda)
+				.setCommandsPackage("com.dynxsty.tests.instantiation")
+				.setExecutor(task -> {
+					dispatched.incrementAndGet();
+					task.run();
+				})
+				.enableWarmup(20_000)
+				.disableAutomaticCommandRegistration()
+				.setGlobalSmartQueue(false)
+				.build();
+		dih4jda.addListener(new CountingListener());
+		AdminCommand command = new AdminCommand();
+		dih4jda.registerCommand(command);
+		dih4jda.registerInteractions();
+
+		Thread warmup = Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals("DIH4JDA-Warmup"))
+				.findFirst().orElse(null);
+		if (warmup != null) warmup.join(5000);
+		// the warmup runs on its own thread, without the executor or any events
+		assertEquals(0, dispatched.get());
+		assertEquals(0, command.executions.get());
+		assertEquals(0, command.clicks.get());
+		assertEquals(0, CountingListener.EVENTS.get());
+
+		// real interactions are handled as usual afterwards
+		jda.handleEvent(TestInteractions.slashCommand(jda, "admin", 1));
+		assertEquals(1, dispatched.get());
+	}
+
+	public static class CountingListener extends DIH4JDAListenerAdapter {
+		private static final AtomicInteger EVENTS = new AtomicInteger();
+
+		@Override
+		public void onInsufficientPermissions(CommandInteraction interaction, Set<Permission> permissions) {
+			EVENTS.incrementAndGet();
+		}
+
+		@Override
+		public void onCommandException(CommandInteraction interaction, Exception e) {
+			EVENTS.incrementAndGet();
+		}
+	}
+
+	private static class AdminCommand extends SlashCommand {
+		private final AtomicInteger executions = new AtomicInteger();
+		private final AtomicInteger clicks = new AtomicInteger();
+
+		private AdminCommand() {
+			setSlashCommandData(Commands.slash("admin", "Admins only"));
+			setRegistrationType(RegistrationType.GUILD);
+			requirePermissions(Permission.ADMINISTRATOR);
+			handleButtonIds("admin-confirm");
+		}
+
+		@Override
+		public void execute(SlashCommandInteractionEvent event) {
+			executions.incrementAndGet();
+		}
+
+		@Override
+		public void handleButton(ButtonInteractionEvent event, Button button) {
+			clicks.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.dynxsty.tests.instantiation;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+
+public class FailingCommand extends SlashCommand {
+	public FailingCommand() {
+		throw new IllegalStateException("Missing configuration");
+	}
+}
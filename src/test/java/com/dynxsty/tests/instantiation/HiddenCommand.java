@@ -0,0 +1,10 @@
+package com.dynxsty.tests.instantiation;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+
+class HiddenCommand extends SlashCommand {
+	public HiddenCommand() {
+		setSlashCommandData(Commands.slash("hidden", "Is not public"));
+	}
+}
@@ -0,0 +1,26 @@
+package com.dynxsty.tests.instantiation;
+
+import com.dynxsty.dih4jda.interactions.commands.RegistrationType;
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PingCommand extends SlashCommand {
+	public static final CompletableFuture<Long> EXECUTED = new CompletableFuture<>();
+	public static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+	public PingCommand() {
+		setSlashCommandData(Commands.slash("ping", "Pong!"));
+		// there are no guilds offline, so nothing has to be upserted
+		setRegistrationType(RegistrationType.GUILD);
+	}
+
+	@Override
+	public void execute(SlashCommandInteractionEvent event) {
+		EXECUTIONS.incrementAndGet();
+		EXECUTED.complete(event.getUser().getIdLong());
+	}
+}
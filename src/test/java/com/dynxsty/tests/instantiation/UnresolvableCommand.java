@@ -0,0 +1,12 @@
+package com.dynxsty.tests.instantiation;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+
+import javax.sql.DataSource;
+
+public class UnresolvableCommand extends SlashCommand {
+	public UnresolvableCommand(DataSource dataSource) {
+		setSlashCommandData(Commands.slash("unresolvable", "Needs a dependency that was never added"));
+	}
+}